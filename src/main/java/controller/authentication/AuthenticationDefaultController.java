@@ -21,8 +21,6 @@ public class AuthenticationDefaultController extends ApiRest {
 
 	private Map<String, String> headers;
 	private Map<String, Object> body;
-	
-	private AuthenticationDefault autheDefault;
 
 	/**
 	 * Construtor da classe `AuthenticationDefaultController`.
@@ -39,7 +37,6 @@ public class AuthenticationDefaultController extends ApiRest {
 		password = getConfigurationsProperties().getAutheTokenPasswordToBeExecute();
 		headers = new HashMap<>();
 		body = new HashMap<>();
-		autheDefault = new AuthenticationDefault();
 	}
 
 	/**
@@ -165,7 +162,7 @@ public class AuthenticationDefaultController extends ApiRest {
 	public String getAccessToken() {
 		try {
 			String token;
-	        AuthenticationDefault authResponse = response.as(autheDefault.getClass());
+	        AuthenticationDefault authResponse = getParsedResponse().as(AuthenticationDefault.class);
 	        token = authResponse.getAccessToken().toString();
 	        log.info("Obtendo token de acesso: " + token);
 	        return token;
@@ -183,7 +180,7 @@ public class AuthenticationDefaultController extends ApiRest {
 	public String getTokenType() {
 		try {
 			String type;
-	        AuthenticationDefault authResponse = response.as(autheDefault.getClass());
+	        AuthenticationDefault authResponse = getParsedResponse().as(AuthenticationDefault.class);
 	        type = authResponse.getTokenType().toString();
 	        log.info("Obtendo tipo de token de acesso: " + type);
 	        return type;
@@ -201,7 +198,7 @@ public class AuthenticationDefaultController extends ApiRest {
 	public String getAccessTokenAndTokenType() {
 		try {
 			String typeToken;
-			AuthenticationDefault authResponse = response.as(autheDefault.getClass());
+			AuthenticationDefault authResponse = getParsedResponse().as(AuthenticationDefault.class);
 			if(accessToken.isBlank()) {
 				accessToken = authResponse.getAccessToken().toString();
 			}
@@ -225,7 +222,7 @@ public class AuthenticationDefaultController extends ApiRest {
 	public String getExpiresToken() {
 		try {
 			String expires;
-			AuthenticationDefault authResponse = response.as(autheDefault.getClass());
+			AuthenticationDefault authResponse = getParsedResponse().as(AuthenticationDefault.class);
 			expires = authResponse.getExpiresToken().toString();
 	        log.info("Obtendo data e hora de expiração do token: " + expires);
 	        return expires;
@@ -243,7 +240,7 @@ public class AuthenticationDefaultController extends ApiRest {
 	public String getStatusToken() {
 		try {
 			String status;
-			AuthenticationDefault authResponse = response.as(autheDefault.getClass());
+			AuthenticationDefault authResponse = getParsedResponse().as(AuthenticationDefault.class);
 			status = authResponse.getStatusToken().toString();
 	        log.info("Obtendo status do token: " + status);
 	        return status;
@@ -261,7 +258,7 @@ public class AuthenticationDefaultController extends ApiRest {
 	public String getResultToken() {
 		try {
 			String result;
-			AuthenticationDefault authResponse = response.as(autheDefault.getClass());
+			AuthenticationDefault authResponse = getParsedResponse().as(AuthenticationDefault.class);
 			result = authResponse.getResultToken().toString();
 	        log.info("Obtendo resultado do token: " + result);
 	        return result;
@@ -1,5 +1,11 @@
 package controller.request;
 
+import java.util.List;
+
+import controller.request.batch.BatchExecutor;
+import controller.request.batch.BatchMode;
+import controller.request.batch.BatchResult;
+import controller.request.executor.RequestDefinition;
 import controller.request.methods.GeneralRequest;
 import lombok.extern.log4j.Log4j2;
 import utils.readers.properties.configuration.ConfigurationsProperties;
@@ -18,4 +24,31 @@ public class ApiRest extends GeneralRequest {
         log.info("Propriedades de configuração carregadas com sucesso.");
         return configurationsProperties;
     }
+
+    /**
+     * Executa uma lista de requisições com o paralelismo e o modo definidos no
+     * arquivo de configuração (`batch.parallelism` e `batch.mode`).
+     *
+     * @param requests Definições das requisições (método, URL, cabeçalhos, corpo...).
+     * @return BatchResult com as respostas e os tempos na ordem de entrada.
+     */
+    public BatchResult executeBatch(List<RequestDefinition> requests) {
+        return executeBatch(requests, configurationsProperties.getBatchParallelism(),
+                BatchMode.valueOf(configurationsProperties.getBatchMode().trim().toUpperCase()));
+    }
+
+    /**
+     * Executa uma lista de requisições com paralelismo limitado, devolvendo as
+     * respostas na ordem de entrada junto com o tempo de cada requisição. A
+     * variável `response` não é alterada.
+     *
+     * @param requests    Definições das requisições (método, URL, cabeçalhos, corpo...).
+     * @param parallelism Quantidade máxima de requisições em andamento ao mesmo tempo.
+     * @param mode        FAIL_FAST para interromper na primeira falha ou
+     *                    COLLECT_ALL_ERRORS para executar todas e reunir as falhas.
+     * @return BatchResult com as respostas e os tempos na ordem de entrada.
+     */
+    public BatchResult executeBatch(List<RequestDefinition> requests, int parallelism, BatchMode mode) {
+        return new BatchExecutor(requestExecutor, asyncExecutor).execute(requests, parallelism, mode);
+    }
 }
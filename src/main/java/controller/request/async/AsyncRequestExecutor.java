@@ -0,0 +1,56 @@
+package controller.request.async;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.log4j.Log4j2;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+
+/**
+ * Executor compartilhado pelas variantes assíncronas dos métodos HTTP.
+ * <p>
+ * O número de threads é definido pela propriedade `async.pool.size`. As
+ * requisições excedentes aguardam na fila do executor, de modo que dezenas de
+ * chamadas podem ser disparadas sem criar uma thread por chamada.
+ */
+@Log4j2
+public final class AsyncRequestExecutor {
+
+	private static final AsyncRequestExecutor INSTANCE = new AsyncRequestExecutor();
+
+	private final ThreadPoolExecutor executor;
+
+	private AsyncRequestExecutor() {
+		int poolSize = new ConfigurationsProperties().getAsyncPoolSize();
+		AtomicInteger threadNumber = new AtomicInteger();
+		executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				runnable -> {
+					Thread thread = new Thread(runnable, "http-async-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		log.info("Executor de requisições assíncronas iniciado com " + poolSize + " threads");
+	}
+
+	/**
+	 * Retorna a instância única do executor assíncrono.
+	 *
+	 * @return AsyncRequestExecutor compartilhado pela JVM.
+	 */
+	public static AsyncRequestExecutor getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Retorna o executor utilizado para disparar as requisições assíncronas.
+	 *
+	 * @return ExecutorService compartilhado.
+	 */
+	public ExecutorService getExecutor() {
+		return executor;
+	}
+}
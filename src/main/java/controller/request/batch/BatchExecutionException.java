@@ -0,0 +1,21 @@
+package controller.request.batch;
+
+/**
+ * Lançada no modo {@link BatchMode#FAIL_FAST} quando uma requisição do lote
+ * falha. O resultado parcial do lote fica disponível em {@link #getResult()}.
+ */
+public class BatchExecutionException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient BatchResult result;
+
+	public BatchExecutionException(BatchResult result, BatchItemResult failure) {
+		super("Lote interrompido pela falha da requisição " + failure, failure.getError());
+		this.result = result;
+	}
+
+	public BatchResult getResult() {
+		return result;
+	}
+}
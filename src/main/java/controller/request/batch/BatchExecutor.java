@@ -0,0 +1,124 @@
+package controller.request.batch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import controller.request.executor.RequestDefinition;
+import controller.request.executor.RequestExecutor;
+import io.restassured.response.Response;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Executa listas de requisições com paralelismo limitado.
+ * <p>
+ * No máximo `parallelism` requisições ficam em andamento ao mesmo tempo; as
+ * demais aguardam uma vaga antes de serem enviadas ao executor. O paralelismo
+ * efetivo também é limitado pelo número de threads do executor informado. Uma
+ * requisição falha quando lança uma exceção ou quando a resposta tem status
+ * fora da faixa 2xx.
+ */
+@Log4j2
+public final class BatchExecutor {
+
+	private final RequestExecutor requestExecutor;
+	private final Executor executor;
+
+	/**
+	 * Cria um executor de lotes.
+	 *
+	 * @param requestExecutor Executor usado para enviar cada requisição.
+	 * @param executor        Executor onde as requisições serão executadas.
+	 */
+	public BatchExecutor(RequestExecutor requestExecutor, Executor executor) {
+		this.requestExecutor = requestExecutor;
+		this.executor = executor;
+	}
+
+	/**
+	 * Executa o lote de requisições.
+	 *
+	 * @param requests    Definições das requisições.
+	 * @param parallelism Quantidade máxima de requisições em andamento.
+	 * @param mode        Modo de tratamento de falhas.
+	 * @return BatchResult com os resultados na ordem de entrada.
+	 * @throws BatchExecutionException no modo FAIL_FAST, se alguma requisição falhar.
+	 */
+	public BatchResult execute(List<RequestDefinition> requests, int parallelism, BatchMode mode) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("O paralelismo do lote deve ser maior que zero: " + parallelism);
+		}
+		log.info("Executando lote de " + requests.size() + " requisições (paralelismo " + parallelism + ", modo "
+				+ mode + ")");
+		BatchItemResult[] results = new BatchItemResult[requests.size()];
+		List<CompletableFuture<Void>> futures = new ArrayList<>(requests.size());
+		AtomicReference<BatchItemResult> firstFailure = new AtomicReference<>();
+		Semaphore permits = new Semaphore(parallelism);
+		long start = System.nanoTime();
+
+		for (int index = 0; index < requests.size(); index++) {
+			RequestDefinition definition = requests.get(index);
+			acquire(permits);
+			if (mode == BatchMode.FAIL_FAST && firstFailure.get() != null) {
+				permits.release();
+				results[index] = new BatchItemResult(index, definition, null,
+						new CancellationException("Requisição não executada: lote interrompido por falha anterior"), 0);
+				continue;
+			}
+			int position = index;
+			futures.add(CompletableFuture.runAsync(() -> {
+				try {
+					results[position] = executeItem(position, definition);
+					if (!results[position].isSuccess()) {
+						firstFailure.compareAndSet(null, results[position]);
+					}
+				} finally {
+					permits.release();
+				}
+			}, executor));
+		}
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+		BatchResult result = new BatchResult(Arrays.asList(results), elapsedMillis(start));
+		log.info("Lote de " + requests.size() + " requisições concluído em " + result.getElapsedTime() + "ms com "
+				+ result.getErrors().size() + " falhas");
+		if (mode == BatchMode.FAIL_FAST && firstFailure.get() != null) {
+			throw new BatchExecutionException(result, firstFailure.get());
+		}
+		return result;
+	}
+
+	private BatchItemResult executeItem(int index, RequestDefinition definition) {
+		long start = System.nanoTime();
+		try {
+			Response response = requestExecutor.execute(definition);
+			BatchItemResult result = new BatchItemResult(index, definition, response, null, elapsedMillis(start));
+			if (!result.isSuccess()) {
+				log.error("Status " + response.getStatusCode() + " na requisição #" + index + " do lote");
+			}
+			return result;
+		} catch (RuntimeException e) {
+			log.error("Falha na requisição #" + index + " do lote: " + e.getMessage());
+			return new BatchItemResult(index, definition, null, e, elapsedMillis(start));
+		}
+	}
+
+	private static void acquire(Semaphore permits) {
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Execução do lote interrompida", e);
+		}
+	}
+
+	private static long elapsedMillis(long start) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	}
+}
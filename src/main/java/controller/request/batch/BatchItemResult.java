@@ -0,0 +1,76 @@
+package controller.request.batch;
+
+import controller.request.executor.RequestDefinition;
+import io.restassured.response.Response;
+
+/**
+ * Resultado de uma requisição de um lote: a resposta ou a falha, e o tempo
+ * gasto na requisição (incluindo as novas tentativas). A requisição só é
+ * considerada bem-sucedida se a resposta tiver status 2xx.
+ */
+public final class BatchItemResult {
+
+	private final int index;
+	private final RequestDefinition definition;
+	private final Response response;
+	private final Throwable error;
+	private final long elapsedTime;
+
+	BatchItemResult(int index, RequestDefinition definition, Response response, Throwable error,
+			long elapsedTime) {
+		this.index = index;
+		this.definition = definition;
+		this.response = response;
+		this.error = error;
+		this.elapsedTime = elapsedTime;
+	}
+
+	/**
+	 * Posição da requisição na lista de entrada.
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	public RequestDefinition getDefinition() {
+		return definition;
+	}
+
+	/**
+	 * Resposta da requisição, ou null se ela lançou uma exceção ou não foi
+	 * executada.
+	 */
+	public Response getResponse() {
+		return response;
+	}
+
+	/**
+	 * Exceção da requisição, ou null se ela recebeu uma resposta (de qualquer
+	 * status).
+	 */
+	public Throwable getError() {
+		return error;
+	}
+
+	/**
+	 * Tempo gasto na requisição (em milissegundos).
+	 */
+	public long getElapsedTime() {
+		return elapsedTime;
+	}
+
+	/**
+	 * Indica se a requisição recebeu uma resposta com status 2xx. Exceções,
+	 * requisições não executadas e respostas com outros status contam como falha.
+	 */
+	public boolean isSuccess() {
+		return error == null && response != null && response.getStatusCode() / 100 == 2;
+	}
+
+	@Override
+	public String toString() {
+		return "#" + index + " " + definition.getMethod() + " " + definition.getUrl() + " -> "
+				+ (response != null ? "status " + response.getStatusCode() : "erro " + error.getMessage()) + " em "
+				+ elapsedTime + "ms";
+	}
+}
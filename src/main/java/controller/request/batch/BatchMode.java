@@ -0,0 +1,19 @@
+package controller.request.batch;
+
+/**
+ * Modo de tratamento de falhas de um lote de requisições.
+ */
+public enum BatchMode {
+
+	/**
+	 * Interrompe o lote na primeira falha (exceção ou status fora da faixa 2xx):
+	 * as requisições ainda não enviadas são descartadas e uma
+	 * {@link BatchExecutionException} é lançada.
+	 */
+	FAIL_FAST,
+
+	/**
+	 * Executa todas as requisições e devolve as falhas junto com as respostas.
+	 */
+	COLLECT_ALL_ERRORS
+}
@@ -0,0 +1,55 @@
+package controller.request.batch;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.restassured.response.Response;
+
+/**
+ * Resultado de um lote de requisições, na mesma ordem da lista de entrada.
+ */
+public final class BatchResult {
+
+	private final List<BatchItemResult> items;
+	private final long elapsedTime;
+
+	BatchResult(List<BatchItemResult> items, long elapsedTime) {
+		this.items = Collections.unmodifiableList(items);
+		this.elapsedTime = elapsedTime;
+	}
+
+	/**
+	 * Resultados de todas as requisições, na ordem de entrada.
+	 */
+	public List<BatchItemResult> getItems() {
+		return items;
+	}
+
+	/**
+	 * Respostas na ordem de entrada; requisições que lançaram uma exceção ou não
+	 * foram executadas aparecem como null.
+	 */
+	public List<Response> getResponses() {
+		return items.stream().map(BatchItemResult::getResponse).collect(Collectors.toList());
+	}
+
+	/**
+	 * Resultados das requisições que falharam (exceção ou status fora da faixa
+	 * 2xx) ou não foram executadas.
+	 */
+	public List<BatchItemResult> getErrors() {
+		return items.stream().filter(item -> !item.isSuccess()).collect(Collectors.toList());
+	}
+
+	public boolean hasErrors() {
+		return items.stream().anyMatch(item -> !item.isSuccess());
+	}
+
+	/**
+	 * Tempo total de execução do lote (em milissegundos).
+	 */
+	public long getElapsedTime() {
+		return elapsedTime;
+	}
+}
@@ -0,0 +1,40 @@
+package controller.request.body;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * InputStream que lê diretamente de um {@link ByteBuffer} (inclusive buffers
+ * diretos), sem copiar o conteúdo para um array intermediário.
+ */
+final class ByteBufferInputStream extends InputStream {
+
+	private final ByteBuffer buffer;
+
+	ByteBufferInputStream(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	@Override
+	public int read() {
+		return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) {
+		if (length == 0) {
+			return 0;
+		}
+		if (!buffer.hasRemaining()) {
+			return -1;
+		}
+		int count = Math.min(length, buffer.remaining());
+		buffer.get(bytes, offset, count);
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return buffer.remaining();
+	}
+}
@@ -0,0 +1,232 @@
+package controller.request.body;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import controller.request.codec.JsonCodecs;
+import controller.request.codec.MediaTypeCodecs;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Corpo de requisição binário ou em fluxo, enviado sem ser convertido em
+ * String.
+ * <p>
+ * Arrays de bytes são enviados sem cópia, `ByteBuffer`s são lidos diretamente
+ * do buffer e arquivos e `InputStream`s são transmitidos em partes pelo cliente
+ * HTTP, sem carregar o conteúdo inteiro na memória. Corpos criados a partir de
+ * um `InputStream` só podem ser enviados uma vez; por isso requisições com esse
+ * tipo de corpo não são repetidas em caso de falha.
+ */
+public abstract class RequestBody {
+
+	/**
+	 * Content-Type usado quando nenhum outro é informado para corpos binários.
+	 */
+	public static final String OCTET_STREAM = "application/octet-stream";
+
+	private static final String JSON = "application/json";
+
+	private final String contentType;
+
+	private RequestBody(String contentType) {
+		this.contentType = contentType;
+	}
+
+	/**
+	 * Corpo a partir de um array de bytes, enviado sem cópia.
+	 *
+	 * @param bytes Conteúdo do corpo.
+	 * @return RequestBody com Content-Type `application/octet-stream`.
+	 */
+	public static RequestBody of(byte[] bytes) {
+		return of(bytes, OCTET_STREAM);
+	}
+
+	public static RequestBody of(byte[] bytes, String contentType) {
+		return new BytesBody(bytes, contentType);
+	}
+
+	/**
+	 * Corpo a partir dos bytes restantes do buffer (entre `position` e `limit`).
+	 * O buffer não é alterado.
+	 *
+	 * @param buffer Buffer com o conteúdo do corpo.
+	 * @return RequestBody com Content-Type `application/octet-stream`.
+	 */
+	public static RequestBody of(ByteBuffer buffer) {
+		return of(buffer, OCTET_STREAM);
+	}
+
+	public static RequestBody of(ByteBuffer buffer, String contentType) {
+		ByteBuffer view = buffer.duplicate();
+		if (view.hasArray() && view.arrayOffset() == 0 && view.position() == 0
+				&& view.limit() == view.array().length) {
+			return new BytesBody(view.array(), contentType);
+		}
+		return new ByteBufferBody(view, contentType);
+	}
+
+	/**
+	 * Corpo transmitido a partir de um fluxo de entrada (Transfer-Encoding
+	 * chunked). O fluxo é consumido no envio e não pode ser reenviado.
+	 *
+	 * @param input Fluxo com o conteúdo do corpo.
+	 * @return RequestBody com Content-Type `application/octet-stream`.
+	 */
+	public static RequestBody of(InputStream input) {
+		return of(input, OCTET_STREAM);
+	}
+
+	public static RequestBody of(InputStream input, String contentType) {
+		return new StreamBody(input, contentType);
+	}
+
+	/**
+	 * Corpo transmitido a partir de um arquivo em disco, sem carregá-lo na
+	 * memória. Arquivos `.json` são enviados como `application/json`.
+	 *
+	 * @param file Caminho do arquivo.
+	 * @return RequestBody com o Content-Type deduzido pela extensão.
+	 */
+	public static RequestBody of(Path file) {
+		return of(file, file.getFileName().toString().toLowerCase().endsWith(".json") ? JSON : OCTET_STREAM);
+	}
+
+	public static RequestBody of(Path file, String contentType) {
+		if (!Files.isReadable(file)) {
+			throw new IllegalArgumentException("Arquivo do corpo da requisição não encontrado: " + file);
+		}
+		return new FileBody(file.toFile(), contentType);
+	}
+
+	/**
+	 * Corpo JSON serializado direto em bytes pelo codec compartilhado.
+	 *
+	 * @param value Objeto (modelo, mapa ou lista) a ser serializado.
+	 * @return RequestBody com Content-Type `application/json`.
+	 */
+	public static RequestBody json(Object value) {
+		return new BytesBody(JsonCodecs.getCodec().write(value), JSON);
+	}
+
+	/**
+	 * Corpo serializado pelo codec do Content-Type informado, ex:
+	 * `RequestBody.encoded(model, MediaTypeCodecs.SMILE)` envia o modelo em Smile.
+	 *
+	 * @param value       Objeto (modelo, mapa ou lista) a ser serializado.
+	 * @param contentType Content-Type do formato (JSON, CBOR, Smile ou MessagePack).
+	 * @return RequestBody com o Content-Type informado.
+	 */
+	public static RequestBody encoded(Object value, String contentType) {
+		return new BytesBody(MediaTypeCodecs.forContentType(contentType).write(value), contentType);
+	}
+
+	/**
+	 * Content-Type padrão do corpo, usado quando a requisição não define outro.
+	 */
+	public String getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * Indica se o corpo pode ser enviado mais de uma vez (novas tentativas).
+	 */
+	public boolean isRepeatable() {
+		return true;
+	}
+
+	/**
+	 * Define o corpo na especificação da requisição.
+	 *
+	 * @param specification Especificação do RestAssured.
+	 */
+	public abstract void applyTo(RequestSpecification specification);
+
+	private static final class BytesBody extends RequestBody {
+
+		private final byte[] bytes;
+
+		private BytesBody(byte[] bytes, String contentType) {
+			super(contentType);
+			this.bytes = bytes;
+		}
+
+		@Override
+		public void applyTo(RequestSpecification specification) {
+			specification.body(bytes);
+		}
+
+		@Override
+		public String toString() {
+			return "<" + bytes.length + " bytes>";
+		}
+	}
+
+	private static final class ByteBufferBody extends RequestBody {
+
+		private final ByteBuffer buffer;
+
+		private ByteBufferBody(ByteBuffer buffer, String contentType) {
+			super(contentType);
+			this.buffer = buffer;
+		}
+
+		@Override
+		public void applyTo(RequestSpecification specification) {
+			specification.body(new ByteBufferInputStream(buffer.duplicate()));
+		}
+
+		@Override
+		public String toString() {
+			return "<ByteBuffer " + buffer.remaining() + " bytes>";
+		}
+	}
+
+	private static final class StreamBody extends RequestBody {
+
+		private final InputStream input;
+
+		private StreamBody(InputStream input, String contentType) {
+			super(contentType);
+			this.input = input;
+		}
+
+		@Override
+		public boolean isRepeatable() {
+			return false;
+		}
+
+		@Override
+		public void applyTo(RequestSpecification specification) {
+			specification.body(input);
+		}
+
+		@Override
+		public String toString() {
+			return "<InputStream>";
+		}
+	}
+
+	private static final class FileBody extends RequestBody {
+
+		private final File file;
+
+		private FileBody(File file, String contentType) {
+			super(contentType);
+			this.file = file;
+		}
+
+		@Override
+		public void applyTo(RequestSpecification specification) {
+			specification.body(file);
+		}
+
+		@Override
+		public String toString() {
+			return "<arquivo " + file.getPath() + ", " + file.length() + " bytes>";
+		}
+	}
+}
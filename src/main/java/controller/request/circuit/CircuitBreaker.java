@@ -0,0 +1,160 @@
+package controller.request.circuit;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import io.restassured.response.Response;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Circuit breaker de um host.
+ * <p>
+ * Fechado, registra o resultado das últimas chamadas em uma janela deslizante e
+ * abre o circuito quando a taxa de falhas ou de chamadas lentas ultrapassa o
+ * limite configurado. Aberto, recusa as chamadas imediatamente com
+ * {@link CircuitBreakerOpenException}. Depois do tempo de abertura, passa a
+ * semiaberto e libera algumas chamadas de teste: se todas forem bem-sucedidas o
+ * circuito fecha, caso contrário volta a abrir. Toda mudança de estado é
+ * registrada no log.
+ */
+@Log4j2
+public final class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final String host;
+	private final CircuitBreakerSettings settings;
+
+	private final boolean[] failures;
+	private final boolean[] slowCalls;
+	private int index;
+	private int recordedCalls;
+	private int failureCount;
+	private int slowCallCount;
+
+	private State state = State.CLOSED;
+	private long openedAt;
+	private int halfOpenPermits;
+	private int halfOpenSuccesses;
+
+	public CircuitBreaker(String host, CircuitBreakerSettings settings) {
+		this.host = host;
+		this.settings = settings;
+		failures = new boolean[settings.getWindowSize()];
+		slowCalls = new boolean[settings.getWindowSize()];
+	}
+
+	/**
+	 * Executa a chamada se o circuito permitir, registrando sua duração e se ela
+	 * falhou (exceção ou status configurado como falha).
+	 *
+	 * @param action Ação que envia a requisição.
+	 * @return Response objeto contendo a resposta da requisição.
+	 * @throws CircuitBreakerOpenException se o circuito estiver aberto.
+	 * @throws Exception                   exceção lançada pela própria chamada.
+	 */
+	public Response execute(Callable<Response> action) throws Exception {
+		acquirePermission();
+		long start = System.nanoTime();
+		Response response;
+		try {
+			response = action.call();
+		} catch (Exception e) {
+			record(elapsedMillis(start), true);
+			throw e;
+		}
+		record(elapsedMillis(start), settings.getFailureStatusCodes().contains(response.getStatusCode()));
+		return response;
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	public String getHost() {
+		return host;
+	}
+
+	private synchronized void acquirePermission() {
+		if (state == State.OPEN) {
+			long remaining = settings.getOpenDuration() - elapsedMillis(openedAt);
+			if (remaining > 0) {
+				throw new CircuitBreakerOpenException(host, remaining);
+			}
+			transitionTo(State.HALF_OPEN, "tempo de abertura de " + settings.getOpenDuration() + "ms encerrado");
+		}
+		if (state == State.HALF_OPEN) {
+			if (halfOpenPermits <= 0) {
+				throw new CircuitBreakerOpenException(host, 0);
+			}
+			halfOpenPermits--;
+		}
+	}
+
+	private synchronized void record(long duration, boolean failure) {
+		boolean slowCall = duration >= settings.getSlowCallDuration();
+		if (state == State.HALF_OPEN) {
+			if (failure || slowCall) {
+				transitionTo(State.OPEN, "chamada de teste " + (failure ? "falhou" : "lenta (" + duration + "ms)"));
+			} else if (++halfOpenSuccesses >= settings.getHalfOpenCalls()) {
+				transitionTo(State.CLOSED, halfOpenSuccesses + " chamadas de teste bem-sucedidas");
+			}
+			return;
+		}
+		if (state == State.OPEN) {
+			return;
+		}
+
+		if (recordedCalls == failures.length) {
+			failureCount -= failures[index] ? 1 : 0;
+			slowCallCount -= slowCalls[index] ? 1 : 0;
+		} else {
+			recordedCalls++;
+		}
+		failures[index] = failure;
+		slowCalls[index] = slowCall;
+		failureCount += failure ? 1 : 0;
+		slowCallCount += slowCall ? 1 : 0;
+		index = (index + 1) % failures.length;
+
+		if (recordedCalls >= settings.getMinimumCalls()) {
+			int failureRate = failureCount * 100 / recordedCalls;
+			int slowCallRate = slowCallCount * 100 / recordedCalls;
+			if (failureRate >= settings.getFailureRateThreshold()
+					|| slowCallRate >= settings.getSlowCallRateThreshold()) {
+				transitionTo(State.OPEN, "taxa de falhas " + failureRate + "%, taxa de chamadas lentas "
+						+ slowCallRate + "% em " + recordedCalls + " chamadas");
+			}
+		}
+	}
+
+	private void transitionTo(State newState, String reason) {
+		log.warn("Circuit breaker do host " + host + ": " + state + " -> " + newState + " (" + reason + ")");
+		state = newState;
+		switch (newState) {
+		case OPEN:
+			openedAt = System.nanoTime();
+			break;
+		case HALF_OPEN:
+			halfOpenPermits = settings.getHalfOpenCalls();
+			halfOpenSuccesses = 0;
+			break;
+		case CLOSED:
+			resetWindow();
+			break;
+		}
+	}
+
+	private void resetWindow() {
+		index = 0;
+		recordedCalls = 0;
+		failureCount = 0;
+		slowCallCount = 0;
+	}
+
+	private static long elapsedMillis(long start) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	}
+}
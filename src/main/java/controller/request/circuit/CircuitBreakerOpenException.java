@@ -0,0 +1,22 @@
+package controller.request.circuit;
+
+/**
+ * Lançada quando uma requisição é recusada porque o circuito do host está
+ * aberto. A requisição não chega a ser enviada.
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String host;
+
+	public CircuitBreakerOpenException(String host, long remainingOpenTime) {
+		super("Circuit breaker aberto para o host " + host + "; requisição não enviada (nova verificação em "
+				+ remainingOpenTime + "ms)");
+		this.host = host;
+	}
+
+	public String getHost() {
+		return host;
+	}
+}
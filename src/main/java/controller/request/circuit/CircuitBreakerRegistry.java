@@ -0,0 +1,86 @@
+package controller.request.circuit;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.restassured.response.Response;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+
+/**
+ * Registro dos circuit breakers por host, compartilhado pela JVM.
+ * <p>
+ * Cada host (ex: `demoqa.com:443`) tem o seu próprio {@link CircuitBreaker},
+ * criado na primeira requisição enviada a ele.
+ */
+public final class CircuitBreakerRegistry {
+
+	private static final CircuitBreakerRegistry INSTANCE = new CircuitBreakerRegistry(
+			CircuitBreakerSettings.fromConfiguration(new ConfigurationsProperties()));
+
+	private final CircuitBreakerSettings settings;
+	private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+	public CircuitBreakerRegistry(CircuitBreakerSettings settings) {
+		this.settings = settings;
+	}
+
+	/**
+	 * Retorna o registro padrão, compartilhado pela JVM.
+	 *
+	 * @return CircuitBreakerRegistry configurado com o `configurations.properties`.
+	 */
+	public static CircuitBreakerRegistry getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Executa a chamada através do circuit breaker do host da URL. Se o circuit
+	 * breaker estiver desabilitado, a chamada é executada diretamente.
+	 *
+	 * @param url    URL da requisição.
+	 * @param action Ação que envia a requisição.
+	 * @return Response objeto contendo a resposta da requisição.
+	 * @throws Exception exceção lançada pela chamada ou pelo circuito aberto.
+	 */
+	public Response execute(String url, Callable<Response> action) throws Exception {
+		if (!settings.isEnabled()) {
+			return action.call();
+		}
+		return forUrl(url).execute(action);
+	}
+
+	/**
+	 * Retorna o circuit breaker do host da URL, criando-o se necessário.
+	 *
+	 * @param url URL da requisição.
+	 * @return CircuitBreaker do host.
+	 */
+	public CircuitBreaker forUrl(String url) {
+		return breakers.computeIfAbsent(hostOf(url), host -> new CircuitBreaker(host, settings));
+	}
+
+	/**
+	 * Extrai o host (e a porta, quando informada) da URL.
+	 */
+	private static String hostOf(String url) {
+		try {
+			String authority = URI.create(url).getRawAuthority();
+			if (authority != null) {
+				return authority;
+			}
+		} catch (IllegalArgumentException e) {
+			// URL com caracteres não escapados: extrai o host manualmente
+		}
+		String withoutScheme = url.contains("://") ? url.substring(url.indexOf("://") + 3) : url;
+		int end = withoutScheme.length();
+		for (char separator : new char[] { '/', '?', '#' }) {
+			int position = withoutScheme.indexOf(separator);
+			if (position >= 0 && position < end) {
+				end = position;
+			}
+		}
+		return withoutScheme.substring(0, end);
+	}
+}
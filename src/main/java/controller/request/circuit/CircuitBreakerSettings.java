@@ -0,0 +1,97 @@
+package controller.request.circuit;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import utils.readers.properties.configuration.ConfigurationsProperties;
+
+/**
+ * Parâmetros imutáveis dos circuit breakers, lidos das propriedades
+ * `circuit.breaker.*` do arquivo de configuração.
+ */
+public final class CircuitBreakerSettings {
+
+	private final boolean enabled;
+	private final int windowSize;
+	private final int minimumCalls;
+	private final int failureRateThreshold;
+	private final Set<Integer> failureStatusCodes;
+	private final long slowCallDuration;
+	private final int slowCallRateThreshold;
+	private final long openDuration;
+	private final int halfOpenCalls;
+
+	public CircuitBreakerSettings(boolean enabled, int windowSize, int minimumCalls, int failureRateThreshold,
+			Set<Integer> failureStatusCodes, long slowCallDuration, int slowCallRateThreshold, long openDuration,
+			int halfOpenCalls) {
+		this.enabled = enabled;
+		this.windowSize = windowSize;
+		this.minimumCalls = Math.min(minimumCalls, windowSize);
+		this.failureRateThreshold = failureRateThreshold;
+		this.failureStatusCodes = Collections.unmodifiableSet(new HashSet<>(failureStatusCodes));
+		this.slowCallDuration = slowCallDuration;
+		this.slowCallRateThreshold = slowCallRateThreshold;
+		this.openDuration = openDuration;
+		this.halfOpenCalls = halfOpenCalls;
+	}
+
+	/**
+	 * Cria os parâmetros a partir do arquivo de configuração.
+	 *
+	 * @param configurationsProperties Propriedades de configuração.
+	 * @return CircuitBreakerSettings configurado.
+	 */
+	public static CircuitBreakerSettings fromConfiguration(ConfigurationsProperties configurationsProperties) {
+		Set<Integer> statusCodes = new HashSet<>();
+		for (String statusCode : configurationsProperties.getCircuitBreakerFailureStatusCodes().split(",")) {
+			if (!statusCode.isBlank()) {
+				statusCodes.add(Integer.parseInt(statusCode.trim()));
+			}
+		}
+		return new CircuitBreakerSettings(configurationsProperties.isCircuitBreakerEnabled(),
+				configurationsProperties.getCircuitBreakerWindowSize(),
+				configurationsProperties.getCircuitBreakerMinimumCalls(),
+				configurationsProperties.getCircuitBreakerFailureRateThreshold(), statusCodes,
+				configurationsProperties.getCircuitBreakerSlowCallDuration(),
+				configurationsProperties.getCircuitBreakerSlowCallRateThreshold(),
+				configurationsProperties.getCircuitBreakerOpenDuration(),
+				configurationsProperties.getCircuitBreakerHalfOpenCalls());
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public int getWindowSize() {
+		return windowSize;
+	}
+
+	public int getMinimumCalls() {
+		return minimumCalls;
+	}
+
+	public int getFailureRateThreshold() {
+		return failureRateThreshold;
+	}
+
+	public Set<Integer> getFailureStatusCodes() {
+		return failureStatusCodes;
+	}
+
+	public long getSlowCallDuration() {
+		return slowCallDuration;
+	}
+
+	public int getSlowCallRateThreshold() {
+		return slowCallRateThreshold;
+	}
+
+	public long getOpenDuration() {
+		return openDuration;
+	}
+
+	public int getHalfOpenCalls() {
+		return halfOpenCalls;
+	}
+}
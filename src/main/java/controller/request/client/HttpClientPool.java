@@ -0,0 +1,166 @@
+package controller.request.client;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import controller.request.compression.ContentEncodingInterceptor;
+import controller.request.metrics.TransferRecorder;
+import io.restassured.RestAssured;
+import io.restassured.config.ConnectionConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import lombok.extern.log4j.Log4j2;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+
+/**
+ * Pool de conexões HTTP compartilhado por toda a JVM.
+ * <p>
+ * Mantém um único {@link CloseableHttpClient}, montado pelo
+ * {@link HttpClientBuilder} sobre um {@link PoolingHttpClientConnectionManager},
+ * reaproveitando conexões keep-alive entre as requisições de todas as
+ * instâncias de `BaseRequest`. O RestAssured recebe o cliente por meio de
+ * adaptadores ({@link RestAssuredHttpClient}), um por requisição, para que a
+ * configuração aplicada pelo RestAssured (SSL, interceptadores) não passe de uma
+ * requisição para outra. Os limites do pool, a remoção de conexões ociosas e o
+ * log de estatísticas são definidos no arquivo `configurations.properties`.
+ */
+@Log4j2
+public final class HttpClientPool {
+
+	private static final HttpClientPool INSTANCE = new HttpClientPool();
+
+	private final PoolingHttpClientConnectionManager connectionManager;
+	private final CloseableHttpClient httpClient;
+	private final ScheduledExecutorService evictor;
+	private final Boolean statsEnabled;
+	private final boolean compressionEnabled;
+
+	private HttpClientPool() {
+		ConfigurationsProperties configurationsProperties = new ConfigurationsProperties();
+		long idleTimeout = configurationsProperties.getHttpPoolIdleTimeout();
+		long evictionInterval = configurationsProperties.getHttpPoolEvictionInterval();
+		statsEnabled = configurationsProperties.isHttpPoolStatsEnabled();
+
+		connectionManager = new PoolingHttpClientConnectionManager(RestAssuredHttpClient.socketFactoryRegistry());
+		connectionManager.setMaxTotal(configurationsProperties.getHttpPoolMaxTotal());
+		connectionManager.setDefaultMaxPerRoute(configurationsProperties.getHttpPoolMaxPerRoute());
+		HttpClientBuilder builder = HttpClientBuilder.create()
+				.setConnectionManager(connectionManager)
+				.disableContentCompression()
+				.disableCookieManagement();
+		compressionEnabled = configurationsProperties.isCompressionEnabled();
+		if (compressionEnabled) {
+			ContentEncodingInterceptor contentEncoding = new ContentEncodingInterceptor(
+					configurationsProperties.getCompressionAcceptEncoding().trim(), TransferRecorder.getInstance());
+			builder.addInterceptorLast((HttpRequestInterceptor) contentEncoding);
+			builder.addInterceptorLast((HttpResponseInterceptor) contentEncoding);
+		}
+		httpClient = RestAssuredHttpClient.forwarding(builder).build();
+
+		evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "http-pool-evictor");
+			thread.setDaemon(true);
+			return thread;
+		});
+		evictor.scheduleWithFixedDelay(() -> evictIdleConnections(idleTimeout), evictionInterval, evictionInterval,
+				TimeUnit.MILLISECONDS);
+		Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "http-pool-shutdown"));
+
+		log.info("Pool de conexões HTTP iniciado: maxTotal=" + connectionManager.getMaxTotal() + ", maxPerRoute="
+				+ connectionManager.getDefaultMaxPerRoute() + ", idleTimeout=" + idleTimeout + "ms");
+	}
+
+	/**
+	 * Retorna a instância única do pool de conexões.
+	 *
+	 * @return HttpClientPool compartilhado pela JVM.
+	 */
+	public static HttpClientPool getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Monta a configuração do RestAssured que utiliza o cliente HTTP do pool,
+	 * preservando as demais configurações globais (ex: SSL definido nos Hooks).
+	 * Os tempos limite valem apenas para as requisições feitas com esta
+	 * configuração, e cada requisição recebe um adaptador novo. Com a compressão
+	 * habilitada, a descompactação das respostas fica a cargo do
+	 * {@link ContentEncodingInterceptor} e os decodificadores do RestAssured são
+	 * desligados.
+	 *
+	 * @param connectionTimeout Tempo limite de conexão (em milissegundos).
+	 * @param readTimeout       Tempo limite de leitura (em milissegundos).
+	 * @return RestAssuredConfig configurado com o cliente compartilhado.
+	 */
+	public RestAssuredConfig getConfig(Integer connectionTimeout, Integer readTimeout) {
+		RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(timeoutOf(connectionTimeout))
+				.setSocketTimeout(timeoutOf(readTimeout)).build();
+		RestAssuredConfig config = RestAssured.config();
+		if (compressionEnabled) {
+			config = config.decoderConfig(config.getDecoderConfig().noContentDecoders());
+		}
+		return config
+				.connectionConfig(ConnectionConfig.connectionConfig())
+				.httpClient(HttpClientConfig.httpClientConfig()
+						.httpClientFactory(() -> new RestAssuredHttpClient(httpClient, requestConfig)));
+	}
+
+	/**
+	 * Retorna as estatísticas atuais de uso do pool.
+	 *
+	 * @return PoolStats com conexões alugadas, disponíveis, pendentes e o máximo.
+	 */
+	public PoolStats getStats() {
+		return connectionManager.getTotalStats();
+	}
+
+	/**
+	 * Fecha as conexões expiradas e as que estão ociosas há mais tempo que o
+	 * limite configurado.
+	 *
+	 * @param idleTimeout Tempo máximo de ociosidade (em milissegundos).
+	 */
+	private void evictIdleConnections(long idleTimeout) {
+		try {
+			connectionManager.closeExpiredConnections();
+			connectionManager.closeIdleConnections(idleTimeout, TimeUnit.MILLISECONDS);
+			if (statsEnabled) {
+				log.debug("Estatísticas do pool de conexões HTTP: " + getStats());
+			}
+		} catch (Exception e) {
+			log.error("Erro ao remover conexões ociosas do pool: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Encerra o pool, liberando todas as conexões abertas.
+	 */
+	private void shutdown() {
+		if (statsEnabled) {
+			log.info("Estatísticas finais do pool de conexões HTTP: " + getStats());
+		}
+		evictor.shutdownNow();
+		try {
+			httpClient.close();
+		} catch (IOException e) {
+			log.error("Erro ao encerrar o pool de conexões HTTP: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Tempo limite informado, ou -1 (padrão do sistema) quando ausente.
+	 */
+	private static int timeoutOf(Integer timeout) {
+		return timeout != null ? timeout : -1;
+	}
+}
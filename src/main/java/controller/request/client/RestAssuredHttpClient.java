@@ -0,0 +1,216 @@
+package controller.request.client;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpProcessor;
+import org.apache.http.protocol.ImmutableHttpProcessor;
+
+/**
+ * Adaptador que entrega ao RestAssured o cliente HTTP do pool.
+ * <p>
+ * O RestAssured 5 só aceita um {@link org.apache.http.impl.client.AbstractHttpClient}, API obsoleta do
+ * HttpClient 4, e configura cada chamada alterando o próprio cliente:
+ * interceptadores (ex: decodificadores de conteúdo), planejador de rotas
+ * (proxy) e a fábrica de sockets HTTPS registrada no gerenciador de conexões
+ * (SSL). Este adaptador recebe essas alterações, mas não abre conexões: a cada
+ * requisição, copia a configuração vigente para o contexto da requisição e a
+ * repassa ao {@link CloseableHttpClient} do pool, montado com
+ * {@link #forwarding(HttpClientBuilder)}. Cada requisição usa um adaptador
+ * novo, então o que o RestAssured altera em uma requisição (ex: a fábrica de
+ * sockets de `relaxedHTTPSValidation`) não alcança as seguintes. Os tempos
+ * limite são aplicados no {@link RequestConfig} da requisição, sem alterar o
+ * cliente compartilhado.
+ * <p>
+ * O pool reaproveita conexões por rota; para que uma conexão aberta com
+ * validação relaxada não seja entregue a uma requisição com validação estrita
+ * (e vice-versa), cada conexão é marcada com a fábrica de sockets HTTPS usada
+ * pela requisição (user token do HttpClient) e só é reaproveitada por
+ * requisições com a mesma fábrica.
+ * <p>
+ * Os tipos obsoletos exigidos pelo RestAssured ficam restritos a esta classe e
+ * são referenciados pelo nome completo, sem importação.
+ */
+@SuppressWarnings("deprecation")
+final class RestAssuredHttpClient extends org.apache.http.impl.client.AbstractHttpClient {
+
+	private static final String PROCESSOR = RestAssuredHttpClient.class.getName() + ".processor";
+	private static final String ROUTE_PLANNER = RestAssuredHttpClient.class.getName() + ".routePlanner";
+	private static final String SSL_SOCKET_FACTORY = RestAssuredHttpClient.class.getName() + ".sslSocketFactory";
+	private static final String STRICT_TLS = RestAssuredHttpClient.class.getName() + ".strictTls";
+	private static final org.apache.http.conn.scheme.Scheme HTTP = new org.apache.http.conn.scheme.Scheme("http", 80,
+			org.apache.http.conn.scheme.PlainSocketFactory.getSocketFactory());
+	private static final org.apache.http.conn.scheme.Scheme HTTPS = new org.apache.http.conn.scheme.Scheme("https", 443,
+			org.apache.http.conn.ssl.SSLSocketFactory.getSocketFactory());
+	private static final HttpProcessor NO_INTERCEPTORS = new ImmutableHttpProcessor(new HttpRequestInterceptor[0],
+			new HttpResponseInterceptor[0]);
+
+	private final CloseableHttpClient pooledClient;
+	private final RequestConfig requestConfig;
+
+	RestAssuredHttpClient(CloseableHttpClient pooledClient, RequestConfig requestConfig) {
+		super(null, null);
+		this.pooledClient = pooledClient;
+		this.requestConfig = requestConfig;
+	}
+
+	/**
+	 * Registro de fábricas de sockets do gerenciador de conexões do pool. O HTTPS
+	 * usa a fábrica definida pelo RestAssured para a requisição (ex: com
+	 * `relaxedHTTPSValidation`) ou, na falta dela, a fábrica padrão.
+	 */
+	static Registry<ConnectionSocketFactory> socketFactoryRegistry() {
+		return RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory())
+				.register("https", new ForwardingSslSocketFactory()).build();
+	}
+
+	/**
+	 * Acrescenta ao cliente do pool os interceptadores e o planejador de rotas que
+	 * aplicam a configuração copiada por cada adaptador.
+	 */
+	static HttpClientBuilder forwarding(HttpClientBuilder builder) {
+		DefaultRoutePlanner defaultRoutePlanner = new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
+		return builder
+				.addInterceptorLast((HttpRequestInterceptor) (request, context) -> processorOf(context)
+						.process(request, context))
+				.addInterceptorLast((HttpResponseInterceptor) (response, context) -> processorOf(context)
+						.process(response, context))
+				.setRoutePlanner((target, request, context) -> {
+					HttpRoutePlanner routePlanner = (HttpRoutePlanner) context.getAttribute(ROUTE_PLANNER);
+					return (routePlanner != null ? routePlanner : defaultRoutePlanner).determineRoute(target, request,
+							context);
+				});
+	}
+
+	@Override
+	public CloseableHttpResponse execute(HttpUriRequest request, HttpContext context) throws IOException {
+		return pooledClient.execute(request, prepare(request, context));
+	}
+
+	@Override
+	public CloseableHttpResponse execute(HttpHost target, HttpRequest request, HttpContext context)
+			throws IOException {
+		return pooledClient.execute(target, request, prepare(request, context));
+	}
+
+	@Override
+	public CloseableHttpResponse execute(HttpHost target, HttpRequest request) throws IOException {
+		return execute(target, request, (HttpContext) null);
+	}
+
+	/**
+	 * Gerenciador que só guarda as fábricas de sockets registradas pelo
+	 * RestAssured; as conexões são abertas pelo pool. O HTTPS começa com a fábrica
+	 * padrão compartilhada, evitando montar um contexto SSL por adaptador.
+	 */
+	@Override
+	protected org.apache.http.conn.ClientConnectionManager createClientConnectionManager() {
+		org.apache.http.conn.scheme.SchemeRegistry schemeRegistry = new org.apache.http.conn.scheme.SchemeRegistry();
+		schemeRegistry.register(HTTP);
+		schemeRegistry.register(HTTPS);
+		return new org.apache.http.impl.conn.BasicClientConnectionManager(schemeRegistry);
+	}
+
+	@Override
+	protected org.apache.http.params.HttpParams createHttpParams() {
+		return new org.apache.http.params.SyncBasicHttpParams();
+	}
+
+	@Override
+	protected org.apache.http.protocol.BasicHttpProcessor createHttpProcessor() {
+		return new org.apache.http.protocol.BasicHttpProcessor();
+	}
+
+	/**
+	 * Aplica os tempos limite à requisição e copia para o contexto os
+	 * interceptadores, o planejador de rotas e a fábrica de sockets HTTPS
+	 * definidos pelo RestAssured, marcando a requisição com a fábrica usada.
+	 */
+	private HttpContext prepare(HttpRequest request, HttpContext context) {
+		HttpClientContext clientContext = HttpClientContext.adapt(context != null ? context : new BasicHttpContext());
+		if (request instanceof HttpRequestBase && ((HttpRequestBase) request).getConfig() == null) {
+			((HttpRequestBase) request).setConfig(requestConfig);
+		} else {
+			clientContext.setRequestConfig(requestConfig);
+		}
+		HttpRequestInterceptor[] requestInterceptors = new HttpRequestInterceptor[getRequestInterceptorCount()];
+		for (int index = 0; index < requestInterceptors.length; index++) {
+			requestInterceptors[index] = getRequestInterceptor(index);
+		}
+		HttpResponseInterceptor[] responseInterceptors = new HttpResponseInterceptor[getResponseInterceptorCount()];
+		for (int index = 0; index < responseInterceptors.length; index++) {
+			responseInterceptors[index] = getResponseInterceptor(index);
+		}
+		clientContext.setAttribute(PROCESSOR, new ImmutableHttpProcessor(requestInterceptors, responseInterceptors));
+		clientContext.setAttribute(ROUTE_PLANNER, getRoutePlanner());
+		org.apache.http.conn.scheme.Scheme https = getConnectionManager().getSchemeRegistry().get("https");
+		if (https != null && https != HTTPS
+				&& https.getSchemeSocketFactory() instanceof LayeredConnectionSocketFactory) {
+			clientContext.setAttribute(SSL_SOCKET_FACTORY, https.getSchemeSocketFactory());
+			clientContext.setUserToken(https.getSchemeSocketFactory());
+		} else {
+			clientContext.setUserToken(STRICT_TLS);
+		}
+		return clientContext;
+	}
+
+	private static HttpProcessor processorOf(HttpContext context) {
+		HttpProcessor processor = (HttpProcessor) context.getAttribute(PROCESSOR);
+		return processor != null ? processor : NO_INTERCEPTORS;
+	}
+
+	/**
+	 * Fábrica de sockets HTTPS que delega à fábrica copiada para o contexto da
+	 * requisição.
+	 */
+	private static final class ForwardingSslSocketFactory implements LayeredConnectionSocketFactory {
+
+		private static final LayeredConnectionSocketFactory DEFAULT = SSLConnectionSocketFactory.getSocketFactory();
+
+		@Override
+		public Socket createSocket(HttpContext context) throws IOException {
+			return of(context).createSocket(context);
+		}
+
+		@Override
+		public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress,
+				InetSocketAddress localAddress, HttpContext context) throws IOException {
+			return of(context).connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+		}
+
+		@Override
+		public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context)
+				throws IOException {
+			return of(context).createLayeredSocket(socket, target, port, context);
+		}
+
+		private static LayeredConnectionSocketFactory of(HttpContext context) {
+			Object socketFactory = context != null ? context.getAttribute(SSL_SOCKET_FACTORY) : null;
+			return socketFactory != null ? (LayeredConnectionSocketFactory) socketFactory : DEFAULT;
+		}
+	}
+}
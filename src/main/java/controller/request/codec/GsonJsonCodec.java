@@ -0,0 +1,78 @@
+package controller.request.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import model.test.format.OffsetDateTimeFormat;
+
+/**
+ * Codec JSON alternativo baseado em uma única instância de {@link Gson}. Útil
+ * para quem depende da serialização anterior dos corpos das requisições.
+ */
+public final class GsonJsonCodec implements JsonCodec {
+
+	private final Gson gson = new GsonBuilder().registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeAdapter())
+			.create();
+
+	@Override
+	public byte[] write(Object value) {
+		return gson.toJson(value).getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public void write(Object value, OutputStream output) {
+		try {
+			Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+			gson.toJson(value, writer);
+			writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Erro ao serializar JSON", e);
+		}
+	}
+
+	@Override
+	public <T> T read(byte[] json, Class<T> type) {
+		return read(new ByteArrayInputStream(json), type);
+	}
+
+	@Override
+	public <T> T read(InputStream input, Class<T> type) {
+		return gson.fromJson(new InputStreamReader(input, StandardCharsets.UTF_8), type);
+	}
+
+	/**
+	 * Lê e escreve as datas dos modelos com o formatador compartilhado de
+	 * {@link OffsetDateTimeFormat}, equivalente às anotações usadas pelo Jackson.
+	 */
+	private static final class OffsetDateTimeAdapter extends TypeAdapter<OffsetDateTime> {
+
+		@Override
+		public void write(JsonWriter writer, OffsetDateTime value) throws IOException {
+			writer.value(OffsetDateTimeFormat.format(value));
+		}
+
+		@Override
+		public OffsetDateTime read(JsonReader reader) throws IOException {
+			if (reader.peek() == JsonToken.NULL) {
+				reader.nextNull();
+				return null;
+			}
+			return OffsetDateTimeFormat.parse(reader.nextString());
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package controller.request.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Codec JSON padrão, baseado em um único {@link ObjectMapper} configurado uma
+ * vez e compartilhado entre as threads.
+ * <p>
+ * Valores nulos (inclusive os de mapas) não são serializados, mantendo o mesmo
+ * JSON que era gerado pelo Gson nos corpos das requisições. Os modelos são
+ * lidos e escritos por acessores gerados em tempo de execução pelo módulo
+ * Blackbird, em vez de chamadas por reflexão a cada propriedade.
+ */
+public final class JacksonJsonCodec implements JsonCodec {
+
+	private final ObjectMapper objectMapper;
+
+	public JacksonJsonCodec() {
+		this(new JsonFactory());
+	}
+
+	/**
+	 * Cria o codec com a mesma configuração do padrão sobre outro formato do
+	 * Jackson (ex: CBOR, Smile ou MessagePack).
+	 *
+	 * @param jsonFactory Fábrica de parsers e geradores do formato.
+	 */
+	public JacksonJsonCodec(JsonFactory jsonFactory) {
+		this(new ObjectMapper(jsonFactory)
+				.registerModule(new BlackbirdModule())
+				.setDefaultPropertyInclusion(
+						JsonInclude.Value.construct(JsonInclude.Include.NON_NULL, JsonInclude.Include.NON_NULL))
+				.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+				.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE));
+	}
+
+	/**
+	 * Cria o codec sobre um ObjectMapper já configurado.
+	 *
+	 * @param objectMapper ObjectMapper que não será mais alterado.
+	 */
+	public JacksonJsonCodec(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Retorna o ObjectMapper do codec, para leituras em árvore (JsonNode).
+	 *
+	 * @return ObjectMapper compartilhado; não deve ser reconfigurado.
+	 */
+	public ObjectMapper getObjectMapper() {
+		return objectMapper;
+	}
+
+	@Override
+	public byte[] write(Object value) {
+		try {
+			return objectMapper.writeValueAsBytes(value);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Erro ao serializar JSON", e);
+		}
+	}
+
+	@Override
+	public void write(Object value, OutputStream output) {
+		try {
+			objectMapper.writeValue(output, value);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Erro ao serializar JSON", e);
+		}
+	}
+
+	@Override
+	public <T> T read(byte[] json, Class<T> type) {
+		try {
+			return objectMapper.readValue(json, type);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Erro ao desserializar JSON em " + type.getSimpleName(), e);
+		}
+	}
+
+	@Override
+	public <T> T read(InputStream input, Class<T> type) {
+		try {
+			return objectMapper.readValue(input, type);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Erro ao desserializar JSON em " + type.getSimpleName(), e);
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package controller.request.codec;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Codec JSON usado para serializar os corpos das requisições e desserializar
+ * as respostas nos modelos de `model.test.response`.
+ * <p>
+ * As implementações devem ser thread-safe, pois uma única instância é
+ * compartilhada por toda a JVM (ver {@link JsonCodecs}).
+ */
+public interface JsonCodec {
+
+	/**
+	 * Serializa o objeto diretamente em bytes UTF-8.
+	 *
+	 * @param value Objeto a ser serializado.
+	 * @return byte[] contendo o JSON.
+	 */
+	byte[] write(Object value);
+
+	/**
+	 * Serializa o objeto no fluxo de saída informado.
+	 *
+	 * @param value  Objeto a ser serializado.
+	 * @param output Fluxo de saída (não é fechado).
+	 */
+	void write(Object value, OutputStream output);
+
+	/**
+	 * Desserializa o JSON no tipo informado.
+	 *
+	 * @param json JSON em bytes UTF-8.
+	 * @param type Classe de destino.
+	 * @return T objeto desserializado.
+	 */
+	<T> T read(byte[] json, Class<T> type);
+
+	/**
+	 * Desserializa o JSON lido do fluxo de entrada no tipo informado.
+	 *
+	 * @param input Fluxo de entrada com o JSON (não é fechado).
+	 * @param type  Classe de destino.
+	 * @return T objeto desserializado.
+	 */
+	<T> T read(InputStream input, Class<T> type);
+}
@@ -0,0 +1,72 @@
+package controller.request.codec;
+
+import controller.request.response.ParsedResponse;
+import io.restassured.response.Response;
+import lombok.extern.log4j.Log4j2;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+
+/**
+ * Ponto único de acesso ao codec JSON da JVM.
+ * <p>
+ * O codec é escolhido pela propriedade `json.codec`: `jackson` (padrão),
+ * `gson` ou o nome completo de uma classe que implemente {@link JsonCodec} e
+ * tenha construtor sem parâmetros. Também pode ser trocado em tempo de execução
+ * com {@link #setCodec(JsonCodec)}.
+ */
+@Log4j2
+public final class JsonCodecs {
+
+	private static volatile JsonCodec codec = create(new ConfigurationsProperties().getJsonCodec());
+
+	private JsonCodecs() {
+	}
+
+	/**
+	 * Retorna o codec JSON compartilhado.
+	 *
+	 * @return JsonCodec configurado.
+	 */
+	public static JsonCodec getCodec() {
+		return codec;
+	}
+
+	/**
+	 * Substitui o codec JSON compartilhado.
+	 *
+	 * @param jsonCodec Novo codec, que deve ser thread-safe.
+	 */
+	public static void setCodec(JsonCodec jsonCodec) {
+		codec = jsonCodec;
+	}
+
+	/**
+	 * Desserializa o corpo da resposta no modelo informado usando o codec
+	 * compartilhado. O modelo fica em cache na {@link ParsedResponse} da resposta,
+	 * de modo que leituras repetidas do mesmo tipo não interpretam o JSON de novo.
+	 *
+	 * @param response Resposta da requisição.
+	 * @param type     Classe do modelo.
+	 * @return T modelo preenchido com o corpo da resposta.
+	 */
+	public static <T> T read(Response response, Class<T> type) {
+		return ParsedResponse.of(response).as(type);
+	}
+
+	private static JsonCodec create(String name) {
+		String codecName = name.trim();
+		switch (codecName.toLowerCase()) {
+		case "":
+		case "jackson":
+			return new JacksonJsonCodec();
+		case "gson":
+			return new GsonJsonCodec();
+		default:
+			try {
+				return (JsonCodec) Class.forName(codecName).getDeclaredConstructor().newInstance();
+			} catch (ReflectiveOperationException | ClassCastException e) {
+				log.error("Codec JSON inválido: " + codecName + "; usando Jackson. " + e.getMessage());
+				return new JacksonJsonCodec();
+			}
+		}
+	}
+}
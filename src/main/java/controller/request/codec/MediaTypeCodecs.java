@@ -0,0 +1,117 @@
+package controller.request.codec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Codecs por Content-Type, para enviar e receber os mesmos modelos em JSON ou
+ * em formatos binários.
+ * <p>
+ * CBOR, Smile e MessagePack são registrados por padrão, com a mesma
+ * configuração do codec JSON do Jackson. Os demais tipos (inclusive
+ * `application/json`) usam o codec JSON compartilhado de {@link JsonCodecs}.
+ * Outros formatos do Jackson podem ser registrados com
+ * {@link #register(String, JacksonJsonCodec)}.
+ */
+public final class MediaTypeCodecs {
+
+	public static final String CBOR = "application/cbor";
+	public static final String SMILE = "application/x-jackson-smile";
+	public static final String MESSAGE_PACK = "application/msgpack";
+
+	private static final Map<String, JacksonJsonCodec> BINARY_CODECS = new ConcurrentHashMap<>();
+	private static final JacksonJsonCodec JSON = new JacksonJsonCodec();
+
+	static {
+		register(CBOR, new JacksonJsonCodec(new CBORFactory()));
+		register(SMILE, new JacksonJsonCodec(new SmileFactory()));
+		// O parser do MessagePack reaproveita, por thread, o leitor da última leitura; desligado
+		// para que o mesmo corpo possa ser lido mais de uma vez (modelo e árvore).
+		JacksonJsonCodec messagePack = new JacksonJsonCodec(
+				new MessagePackFactory().setReuseResourceInParser(false).setReuseResourceInGenerator(false));
+		register(MESSAGE_PACK, messagePack);
+		register("application/x-msgpack", messagePack);
+	}
+
+	private MediaTypeCodecs() {
+	}
+
+	/**
+	 * Registra o codec de um formato binário.
+	 *
+	 * @param contentType Content-Type do formato (sem parâmetros).
+	 * @param codec       Codec Jackson do formato.
+	 */
+	public static void register(String contentType, JacksonJsonCodec codec) {
+		BINARY_CODECS.put(normalize(contentType), codec);
+	}
+
+	/**
+	 * Indica se o Content-Type corresponde a um formato binário registrado.
+	 */
+	public static boolean isBinary(String contentType) {
+		return contentType != null && BINARY_CODECS.containsKey(normalize(contentType));
+	}
+
+	/**
+	 * Retorna o codec do Content-Type informado; tipos não registrados usam o codec
+	 * JSON compartilhado.
+	 *
+	 * @param contentType Content-Type, com ou sem parâmetros (ex: charset).
+	 * @return JsonCodec do formato.
+	 */
+	public static JsonCodec forContentType(String contentType) {
+		JacksonJsonCodec codec = contentType == null ? null : BINARY_CODECS.get(normalize(contentType));
+		return codec != null ? codec : JsonCodecs.getCodec();
+	}
+
+	/**
+	 * Decodifica o corpo na árvore do Jackson, qualquer que seja o formato.
+	 *
+	 * @param body        Corpo em bytes.
+	 * @param contentType Content-Type do corpo.
+	 * @return JsonNode com o conteúdo decodificado.
+	 */
+	public static JsonNode readTree(byte[] body, String contentType) {
+		JacksonJsonCodec codec = contentType == null ? null : BINARY_CODECS.get(normalize(contentType));
+		try {
+			return (codec != null ? codec : JSON).getObjectMapper().readTree(body);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Erro ao decodificar o corpo " + contentType, e);
+		}
+	}
+
+	/**
+	 * Converte o corpo para texto JSON. Corpos JSON são apenas decodificados em
+	 * UTF-8; corpos binários são decodificados e reescritos em JSON.
+	 *
+	 * @param body        Corpo em bytes.
+	 * @param contentType Content-Type do corpo.
+	 * @return String com o JSON equivalente.
+	 */
+	public static String toJson(byte[] body, String contentType) {
+		if (!isBinary(contentType)) {
+			return new String(body, StandardCharsets.UTF_8);
+		}
+		try {
+			return JSON.getObjectMapper().writeValueAsString(readTree(body, contentType));
+		} catch (IOException e) {
+			throw new UncheckedIOException("Erro ao converter o corpo " + contentType + " em JSON", e);
+		}
+	}
+
+	private static String normalize(String contentType) {
+		int parameters = contentType.indexOf(';');
+		return (parameters >= 0 ? contentType.substring(0, parameters) : contentType).trim().toLowerCase(Locale.ROOT);
+	}
+}
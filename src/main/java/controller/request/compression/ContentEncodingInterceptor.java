@@ -0,0 +1,272 @@
+package controller.request.compression;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpCoreContext;
+import org.brotli.dec.BrotliInputStream;
+
+import controller.request.metrics.TransferRecorder;
+
+/**
+ * Interceptor do cliente HTTP que negocia e descompacta as respostas.
+ * <p>
+ * Na requisição, define o `Accept-Encoding` configurado (gzip, deflate e br),
+ * exceto quando a requisição já informa o seu próprio `Accept-Encoding`.
+ * Na resposta, troca o corpo por um fluxo descompactado conforme o
+ * `Content-Encoding`, sem carregar o corpo compactado inteiro na memória, e
+ * registra no {@link TransferRecorder} os bytes recebidos pela rede e os bytes
+ * descompactados de cada endpoint.
+ */
+public final class ContentEncodingInterceptor implements HttpRequestInterceptor, HttpResponseInterceptor {
+
+	private final String acceptEncoding;
+	private final TransferRecorder transferRecorder;
+
+	public ContentEncodingInterceptor(String acceptEncoding, TransferRecorder transferRecorder) {
+		this.acceptEncoding = acceptEncoding;
+		this.transferRecorder = transferRecorder;
+	}
+
+	@Override
+	public void process(HttpRequest request, HttpContext context) {
+		if (!acceptEncoding.isEmpty() && !request.containsHeader(HttpHeaders.ACCEPT_ENCODING)) {
+			request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+		}
+	}
+
+	@Override
+	public void process(HttpResponse response, HttpContext context) {
+		HttpEntity entity = response.getEntity();
+		if (entity == null) {
+			return;
+		}
+		String[] encodings = encodingsOf(entity);
+		for (String encoding : encodings) {
+			if (!isSupported(encoding)) {
+				return;
+			}
+		}
+		HttpRequest request = HttpCoreContext.adapt(context).getRequest();
+		response.setEntity(new DecodingEntity(entity, encodings, request, transferRecorder));
+		if (encodings.length > 0) {
+			response.removeHeaders(HttpHeaders.CONTENT_ENCODING);
+			response.removeHeaders(HttpHeaders.CONTENT_LENGTH);
+			response.removeHeaders(HttpHeaders.CONTENT_MD5);
+		}
+	}
+
+	private static String[] encodingsOf(HttpEntity entity) {
+		Header header = entity.getContentEncoding();
+		if (header == null || header.getValue().trim().isEmpty()) {
+			return new String[0];
+		}
+		String[] encodings = header.getValue().toLowerCase(Locale.ROOT).split(",");
+		int count = 0;
+		for (String encoding : encodings) {
+			String value = encoding.trim();
+			if (!value.equals("identity")) {
+				encodings[count++] = value;
+			}
+		}
+		String[] result = new String[count];
+		System.arraycopy(encodings, 0, result, 0, count);
+		return result;
+	}
+
+	private static boolean isSupported(String encoding) {
+		switch (encoding) {
+		case "gzip":
+		case "x-gzip":
+		case "deflate":
+		case "br":
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Aplica o decodificador de uma codificação sobre o fluxo informado.
+	 */
+	private static InputStream decode(String encoding, InputStream input) throws IOException {
+		switch (encoding) {
+		case "gzip":
+		case "x-gzip":
+			return new GZIPInputStream(input, 8192);
+		case "deflate":
+			return inflate(input);
+		default:
+			return new BrotliInputStream(input);
+		}
+	}
+
+	/**
+	 * O `deflate` do HTTP deveria vir no formato zlib, mas alguns servidores
+	 * enviam o deflate cru; o cabeçalho zlib é verificado para escolher o modo.
+	 */
+	private static InputStream inflate(InputStream input) throws IOException {
+		PushbackInputStream pushback = new PushbackInputStream(input, 2);
+		int first = pushback.read();
+		int second = pushback.read();
+		if (second >= 0) {
+			pushback.unread(second);
+		}
+		if (first >= 0) {
+			pushback.unread(first);
+		}
+		boolean zlib = first >= 0 && second >= 0 && (first & 0x0F) == 8 && ((first << 8) | second) % 31 == 0;
+		return new InflaterInputStream(pushback, new Inflater(!zlib), 8192);
+	}
+
+	/**
+	 * Entidade que descompacta o corpo sob demanda e conta os bytes lidos antes e
+	 * depois da descompactação.
+	 */
+	private static final class DecodingEntity extends HttpEntityWrapper {
+
+		private final String[] encodings;
+		private final HttpRequest request;
+		private final TransferRecorder transferRecorder;
+		private InputStream content;
+
+		private DecodingEntity(HttpEntity entity, String[] encodings, HttpRequest request,
+				TransferRecorder transferRecorder) {
+			super(entity);
+			this.encodings = encodings;
+			this.request = request;
+			this.transferRecorder = transferRecorder;
+		}
+
+		@Override
+		public InputStream getContent() throws IOException {
+			if (content == null) {
+				CountingInputStream wire = new CountingInputStream(wrappedEntity.getContent(), null);
+				InputStream decoded = wire;
+				for (int index = encodings.length - 1; index >= 0; index--) {
+					decoded = decode(encodings[index], decoded);
+				}
+				content = new CountingInputStream(decoded, decodedBytes -> {
+					if (request != null) {
+						transferRecorder.recordResponse(request.getRequestLine().getMethod(),
+								request.getRequestLine().getUri(), wire.getCount(), decodedBytes);
+					}
+				});
+			}
+			return content;
+		}
+
+		@Override
+		public long getContentLength() {
+			return encodings.length == 0 ? wrappedEntity.getContentLength() : -1;
+		}
+
+		@Override
+		public Header getContentEncoding() {
+			return encodings.length == 0 ? wrappedEntity.getContentEncoding() : null;
+		}
+
+		@Override
+		public boolean isStreaming() {
+			return true;
+		}
+
+		@Override
+		public void writeTo(OutputStream output) throws IOException {
+			try (InputStream input = getContent()) {
+				byte[] buffer = new byte[8192];
+				int read;
+				while ((read = input.read(buffer)) >= 0) {
+					output.write(buffer, 0, read);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Fluxo que conta os bytes lidos e avisa o total uma única vez, no fim do
+	 * fluxo ou no fechamento.
+	 */
+	private static final class CountingInputStream extends FilterInputStream {
+
+		private final LongConsumer onFinish;
+		private final AtomicBoolean finished = new AtomicBoolean();
+		private long count;
+
+		private CountingInputStream(InputStream input, LongConsumer onFinish) {
+			super(input);
+			this.onFinish = onFinish;
+		}
+
+		private long getCount() {
+			return count;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int value = super.read();
+			if (value >= 0) {
+				count++;
+			} else {
+				finish();
+			}
+			return value;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) throws IOException {
+			int read = super.read(bytes, offset, length);
+			if (read > 0) {
+				count += read;
+			} else if (read < 0) {
+				finish();
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long length) throws IOException {
+			long skipped = super.skip(length);
+			count += skipped;
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				finish();
+			}
+		}
+
+		private void finish() {
+			if (onFinish != null && finished.compareAndSet(false, true)) {
+				onFinish.accept(count);
+			}
+		}
+	}
+}
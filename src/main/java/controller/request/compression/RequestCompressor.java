@@ -0,0 +1,76 @@
+package controller.request.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+import io.restassured.http.Method;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+
+/**
+ * Decide quais corpos de requisição são compactados com gzip e os compacta.
+ * <p>
+ * A compressão só é aplicada quando habilitada em `compression.request.enabled`,
+ * a requisição é um POST, PUT ou PATCH e o corpo codificado tem pelo menos
+ * `compression.request.min.size` bytes; corpos pequenos não compensam o custo
+ * de compactar.
+ */
+public final class RequestCompressor {
+
+	/**
+	 * Codificação enviada no cabeçalho `Content-Encoding`.
+	 */
+	public static final String ENCODING = "gzip";
+
+	private final boolean enabled;
+	private final int minSize;
+
+	public RequestCompressor(ConfigurationsProperties configurationsProperties) {
+		enabled = configurationsProperties.isRequestCompressionEnabled();
+		minSize = configurationsProperties.getRequestCompressionMinSize();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Indica se os corpos do método informado podem ser compactados.
+	 *
+	 * @param method Método HTTP da requisição.
+	 * @return boolean true se a compressão estiver habilitada e o método for POST,
+	 *         PUT ou PATCH.
+	 */
+	public boolean accepts(Method method) {
+		return enabled && (method == Method.POST || method == Method.PUT || method == Method.PATCH);
+	}
+
+	/**
+	 * Indica se um corpo com o tamanho informado deve ser compactado.
+	 *
+	 * @param method Método HTTP da requisição.
+	 * @param length Tamanho do corpo codificado (em bytes).
+	 * @return boolean true se o método aceitar compressão e o corpo atingir o
+	 *         tamanho mínimo.
+	 */
+	public boolean shouldCompress(Method method, int length) {
+		return accepts(method) && length >= minSize;
+	}
+
+	/**
+	 * Compacta os bytes com gzip.
+	 *
+	 * @param bytes Corpo original.
+	 * @return byte[] corpo compactado.
+	 */
+	public byte[] compress(byte[] bytes) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+		try (GZIPOutputStream gzip = new GZIPOutputStream(output, 8192)) {
+			gzip.write(bytes);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Erro ao compactar o corpo da requisição", e);
+		}
+		return output.toByteArray();
+	}
+}
@@ -0,0 +1,336 @@
+package controller.request.executor;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.restassured.http.ContentType;
+import io.restassured.http.Method;
+
+/**
+ * Descrição imutável de uma requisição HTTP.
+ * <p>
+ * Reúne tudo o que o {@link RequestExecutor} precisa para enviar a chamada
+ * (método, URL, cabeçalhos, parâmetros, corpo, timeouts e tentativas), sem
+ * guardar nenhum resultado. Instâncias podem ser compartilhadas livremente
+ * entre threads. Campos não informados (nulos) assumem o padrão do executor.
+ */
+public final class RequestDefinition {
+
+	private final Method method;
+	private final String url;
+	private final ContentType contentType;
+	private final Boolean urlEncodingEnabled;
+	private final Boolean logAll;
+	private final boolean relaxedHTTPSValidation;
+	private final String authorization;
+	private final Map<String, String> headers;
+	private final Map<String, Object> queryParams;
+	private final Map<String, Object> params;
+	private final String proxy;
+	private final Object body;
+	private final Integer connectionTimeout;
+	private final Integer readTimeout;
+	private final Integer retryCount;
+	private final boolean retryNonIdempotent;
+
+	private RequestDefinition(Builder builder) {
+		method = builder.method;
+		url = builder.url;
+		contentType = builder.contentType;
+		urlEncodingEnabled = builder.urlEncodingEnabled;
+		logAll = builder.logAll;
+		relaxedHTTPSValidation = builder.relaxedHTTPSValidation;
+		authorization = builder.authorization;
+		headers = immutableCopy(builder.headers);
+		queryParams = immutableCopy(builder.queryParams);
+		params = immutableCopy(builder.params);
+		proxy = builder.proxy;
+		body = builder.body instanceof Map ? immutableCopy((Map<?, ?>) builder.body) : builder.body;
+		connectionTimeout = builder.connectionTimeout;
+		readTimeout = builder.readTimeout;
+		retryCount = builder.retryCount;
+		retryNonIdempotent = builder.retryNonIdempotent;
+	}
+
+	/**
+	 * Inicia a construção de uma nova definição de requisição.
+	 *
+	 * @param method Método HTTP.
+	 * @param url    URL do endpoint.
+	 * @return Builder para os demais campos da requisição.
+	 */
+	public static Builder builder(Method method, String url) {
+		return new Builder(method, url);
+	}
+
+	/**
+	 * Cria um builder pré-preenchido com os campos desta definição, para derivar
+	 * uma nova requisição sem alterar a original.
+	 *
+	 * @return Builder com uma cópia dos campos atuais.
+	 */
+	public Builder toBuilder() {
+		Builder builder = new Builder(method, url);
+		builder.contentType = contentType;
+		builder.urlEncodingEnabled = urlEncodingEnabled;
+		builder.logAll = logAll;
+		builder.relaxedHTTPSValidation = relaxedHTTPSValidation;
+		builder.authorization = authorization;
+		builder.headers = headers;
+		builder.queryParams = queryParams;
+		builder.params = params;
+		builder.proxy = proxy;
+		builder.body = body;
+		builder.connectionTimeout = connectionTimeout;
+		builder.readTimeout = readTimeout;
+		builder.retryCount = retryCount;
+		builder.retryNonIdempotent = retryNonIdempotent;
+		return builder;
+	}
+
+	public Method getMethod() {
+		return method;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public ContentType getContentType() {
+		return contentType;
+	}
+
+	public Boolean getUrlEncodingEnabled() {
+		return urlEncodingEnabled;
+	}
+
+	public Boolean getLogAll() {
+		return logAll;
+	}
+
+	public boolean isRelaxedHTTPSValidation() {
+		return relaxedHTTPSValidation;
+	}
+
+	public String getAuthorization() {
+		return authorization;
+	}
+
+	public Map<String, String> getHeaders() {
+		return headers;
+	}
+
+	public Map<String, Object> getQueryParams() {
+		return queryParams;
+	}
+
+	public Map<String, Object> getParams() {
+		return params;
+	}
+
+	public String getProxy() {
+		return proxy;
+	}
+
+	public Object getBody() {
+		return body;
+	}
+
+	public Integer getConnectionTimeout() {
+		return connectionTimeout;
+	}
+
+	public Integer getReadTimeout() {
+		return readTimeout;
+	}
+
+	public Integer getRetryCount() {
+		return retryCount;
+	}
+
+	public boolean isRetryNonIdempotent() {
+		return retryNonIdempotent;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder description = new StringBuilder("url=").append(url);
+		if (contentType != null) {
+			description.append(", contentType=").append(contentType);
+		}
+		if (urlEncodingEnabled != null) {
+			description.append(", urlEncodingEnabled=").append(urlEncodingEnabled);
+		}
+		if (logAll != null) {
+			description.append(", logAll=").append(logAll);
+		}
+		if (authorization != null || headers != null) {
+			description.append(", headers=(");
+			if (authorization != null) {
+				description.append("Authorization: ").append(authorization).append(headers != null ? ", " : "");
+			}
+			description.append(headers != null ? headers.toString() : "").append(")");
+		}
+		if (queryParams != null) {
+			description.append(", queryParams=(").append(queryParams).append(")");
+		}
+		if (params != null) {
+			description.append(", params=(").append(params).append(")");
+		}
+		if (proxy != null) {
+			description.append(", proxy=").append(proxy);
+		}
+		if (body != null) {
+			description.append(", body=").append(body);
+		}
+		return description.toString();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K, V> Map<K, V> immutableCopy(Map<? extends K, ? extends V> source) {
+		if (source == null) {
+			return null;
+		}
+		return Collections.unmodifiableMap(new LinkedHashMap<K, V>((Map<K, V>) source));
+	}
+
+	/**
+	 * Builder de {@link RequestDefinition}. Os nomes dos métodos seguem os da
+	 * especificação do RestAssured para facilitar a leitura das chamadas.
+	 */
+	public static final class Builder {
+
+		private final Method method;
+		private final String url;
+		private ContentType contentType;
+		private Boolean urlEncodingEnabled;
+		private Boolean logAll;
+		private boolean relaxedHTTPSValidation;
+		private String authorization;
+		private Map<String, String> headers;
+		private Map<String, Object> queryParams;
+		private Map<String, Object> params;
+		private String proxy;
+		private Object body;
+		private Integer connectionTimeout;
+		private Integer readTimeout;
+		private Integer retryCount;
+		private boolean retryNonIdempotent;
+
+		private Builder(Method method, String url) {
+			this.method = method;
+			this.url = url;
+		}
+
+		public Builder contentType(ContentType contentType) {
+			this.contentType = contentType;
+			return this;
+		}
+
+		public Builder urlEncodingEnabled(Boolean urlEncodingEnabled) {
+			this.urlEncodingEnabled = urlEncodingEnabled;
+			return this;
+		}
+
+		public Builder logAll(Boolean logAll) {
+			this.logAll = logAll;
+			return this;
+		}
+
+		public Builder relaxedHTTPSValidation() {
+			this.relaxedHTTPSValidation = true;
+			return this;
+		}
+
+		/**
+		 * Define o valor completo do cabeçalho `Authorization` (ex: "Bearer token").
+		 *
+		 * @param authorization Valor do cabeçalho.
+		 * @return Builder atual.
+		 */
+		public Builder authorization(String authorization) {
+			this.authorization = authorization;
+			return this;
+		}
+
+		/**
+		 * Define o cabeçalho `Authorization` a partir do tipo e do token de acesso.
+		 *
+		 * @param tokenType   Tipo de token (ex: Bearer).
+		 * @param accessToken Token de acesso.
+		 * @return Builder atual.
+		 */
+		public Builder authorization(String tokenType, String accessToken) {
+			return authorization(tokenType + " " + accessToken);
+		}
+
+		public Builder headers(Map<String, String> headers) {
+			this.headers = headers;
+			return this;
+		}
+
+		public Builder queryParams(Map<String, Object> queryParams) {
+			this.queryParams = queryParams;
+			return this;
+		}
+
+		public Builder params(Map<String, Object> params) {
+			this.params = params;
+			return this;
+		}
+
+		public Builder proxy(String proxy) {
+			this.proxy = proxy;
+			return this;
+		}
+
+		public Builder body(Object body) {
+			this.body = body;
+			return this;
+		}
+
+		public Builder connectionTimeout(Integer connectionTimeout) {
+			this.connectionTimeout = connectionTimeout;
+			return this;
+		}
+
+		public Builder readTimeout(Integer readTimeout) {
+			this.readTimeout = readTimeout;
+			return this;
+		}
+
+		public Builder retryCount(Integer retryCount) {
+			this.retryCount = retryCount;
+			return this;
+		}
+
+		/**
+		 * Permite repetir a requisição mesmo que o método não seja idempotente (ex:
+		 * um POST que o servidor trata de forma idempotente). Sem esta opção, só os
+		 * métodos de `retry.methods` são repetidos.
+		 *
+		 * @return Builder atual.
+		 */
+		public Builder retryNonIdempotent() {
+			this.retryNonIdempotent = true;
+			return this;
+		}
+
+		/**
+		 * Define timeouts e número de tentativas específicos desta requisição.
+		 *
+		 * @param connectionTimeout Tempo limite de conexão (em milissegundos).
+		 * @param readTimeout       Tempo limite de leitura (em milissegundos).
+		 * @param retryCount        Número de tentativas.
+		 * @return Builder atual.
+		 */
+		public Builder timeouts(Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
+			return connectionTimeout(connectionTimeout).readTimeout(readTimeout).retryCount(retryCount);
+		}
+
+		public RequestDefinition build() {
+			return new RequestDefinition(this);
+		}
+	}
+}
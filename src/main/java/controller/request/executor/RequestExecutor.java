@@ -0,0 +1,244 @@
+package controller.request.executor;
+
+import static io.restassured.RestAssured.given;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.apache.http.HttpHeaders;
+import org.json.JSONObject;
+
+import controller.request.async.AsyncRequestExecutor;
+import controller.request.body.RequestBody;
+import controller.request.circuit.CircuitBreakerRegistry;
+import controller.request.codec.JsonCodecs;
+import controller.request.compression.RequestCompressor;
+import controller.request.metrics.LatencyRecorder;
+import controller.request.metrics.TransferRecorder;
+import controller.request.ratelimit.RateLimiterRegistry;
+import controller.request.response.ParsedResponse;
+import controller.request.retry.RetryEngine;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import lombok.extern.log4j.Log4j2;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+
+/**
+ * Executor de requisições HTTP sem estado.
+ * <p>
+ * Recebe uma {@link RequestDefinition} imutável, envia a chamada pelo pool de
+ * conexões compartilhado e devolve a resposta, sem armazenar nada entre as
+ * chamadas. Por isso uma única instância pode ser usada por vários cenários em
+ * paralelo.
+ */
+@Log4j2
+public final class RequestExecutor {
+
+	private static final RequestExecutor INSTANCE = new RequestExecutor(new ConfigurationsProperties());
+
+	private static final String DEFAULT_FIRST_MESSAGE = "calling the ";
+	private static final String DEFAULT_LAST_MESSAGE = " method with params: ";
+	private static final String AUTHORIZATION_HEADER = "Authorization";
+
+	private final Integer defaultConnectionTimeout;
+	private final Integer defaultReadTimeout;
+	private final Integer defaultRetryCount;
+	private final String defaultContentType;
+	private final RequestSpecificationRegistry specifications;
+	private final RetryEngine retryEngine;
+	private final CircuitBreakerRegistry circuitBreakers;
+	private final RateLimiterRegistry rateLimiters;
+	private final LatencyRecorder latencyRecorder;
+	private final TransferRecorder transferRecorder;
+	private final RequestCompressor compressor;
+
+	/**
+	 * Cria um executor com os timeouts e tentativas padrão do arquivo de
+	 * configuração informado.
+	 *
+	 * @param configurationsProperties Propriedades de configuração.
+	 */
+	public RequestExecutor(ConfigurationsProperties configurationsProperties) {
+		defaultConnectionTimeout = configurationsProperties.getConnectionTimeout();
+		defaultReadTimeout = configurationsProperties.getReadTimeout();
+		defaultRetryCount = configurationsProperties.getRetryCount();
+		defaultContentType = configurationsProperties.getRequestContentType().isBlank() ? ContentType.JSON.toString()
+				: configurationsProperties.getRequestContentType();
+		specifications = RequestSpecificationRegistry.getInstance();
+		retryEngine = RetryEngine.getInstance();
+		circuitBreakers = CircuitBreakerRegistry.getInstance();
+		rateLimiters = RateLimiterRegistry.getInstance();
+		latencyRecorder = LatencyRecorder.getInstance();
+		transferRecorder = TransferRecorder.getInstance();
+		compressor = new RequestCompressor(configurationsProperties);
+	}
+
+	/**
+	 * Retorna o executor padrão, compartilhado pela JVM.
+	 *
+	 * @return RequestExecutor configurado com o `configurations.properties`.
+	 */
+	public static RequestExecutor getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Executa a requisição, repetindo-a conforme a política de novas tentativas
+	 * (falhas de transporte e status repetíveis) até o número de tentativas
+	 * configurado. Cada tentativa aguarda os limites de requisições que casam com
+	 * a URL e passa pelo circuit breaker do host, que recusa a chamada
+	 * imediatamente enquanto o circuito estiver aberto. Requisições com método não
+	 * idempotente (ex: POST, salvo com
+	 * {@link RequestDefinition.Builder#retryNonIdempotent()}) ou com corpo que só
+	 * pode ser lido uma vez (ex: `InputStream`) são enviadas uma única vez.
+	 *
+	 * @param definition Definição da requisição.
+	 * @return Response objeto contendo a resposta da requisição.
+	 */
+	public Response execute(RequestDefinition definition) {
+		log.info(DEFAULT_FIRST_MESSAGE + definition.getMethod().name().toLowerCase() + DEFAULT_LAST_MESSAGE
+				+ definition);
+		int retryCount = valueOrDefault(definition.getRetryCount(), defaultRetryCount);
+		if (!definition.isRetryNonIdempotent() && !retryEngine.getPolicy().isRetryable(definition.getMethod())
+				|| definition.getBody() instanceof RequestBody && !((RequestBody) definition.getBody()).isRepeatable()) {
+			retryCount = 1;
+		}
+		return retryEngine.execute(() -> {
+			rateLimiters.acquire(definition.getUrl());
+			return circuitBreakers.execute(definition.getUrl(), () -> send(definition));
+		}, retryCount);
+	}
+
+	/**
+	 * Executa a requisição de forma assíncrona no executor compartilhado.
+	 *
+	 * @param definition Definição da requisição.
+	 * @return CompletableFuture que será completado com a resposta da requisição.
+	 */
+	public CompletableFuture<Response> executeAsync(RequestDefinition definition) {
+		return executeAsync(definition, AsyncRequestExecutor.getInstance().getExecutor());
+	}
+
+	/**
+	 * Executa a requisição de forma assíncrona no executor informado.
+	 *
+	 * @param definition Definição da requisição.
+	 * @param executor   Executor onde a requisição será executada.
+	 * @return CompletableFuture que será completado com a resposta da requisição.
+	 */
+	public CompletableFuture<Response> executeAsync(RequestDefinition definition, Executor executor) {
+		return CompletableFuture.supplyAsync(() -> execute(definition), executor);
+	}
+
+	/**
+	 * Parte da especificação pré-montada do endpoint, acrescenta as partes
+	 * próprias da requisição (autorização, cabeçalhos, parâmetros e corpo) e a
+	 * envia. O corpo da
+	 * resposta é consumido para que a conexão volte ao pool e a latência da
+	 * chamada é registrada por endpoint. O método e a URL ficam associados à
+	 * resposta (ver {@link ParsedResponse#setRequest}).
+	 */
+	private Response send(RequestDefinition definition) {
+		RequestSpecification specification = given().spec(specifications.get(definition,
+				valueOrDefault(definition.getConnectionTimeout(), defaultConnectionTimeout),
+				valueOrDefault(definition.getReadTimeout(), defaultReadTimeout)));
+
+		if (definition.getAuthorization() != null) {
+			specification.header(AUTHORIZATION_HEADER, definition.getAuthorization());
+		}
+		if (definition.getHeaders() != null) {
+			specification.headers(definition.getHeaders());
+		}
+		if (definition.getQueryParams() != null) {
+			specification.queryParams(definition.getQueryParams());
+		}
+		if (definition.getParams() != null) {
+			specification.params(definition.getParams());
+		}
+		if (definition.getProxy() != null) {
+			specification.proxy(definition.getProxy());
+		}
+		applyBody(specification, definition);
+
+		long start = System.nanoTime();
+		Response response;
+		try {
+			response = specification.request(definition.getMethod(), definition.getUrl());
+			response.asByteArray();
+		} catch (RuntimeException e) {
+			latencyRecorder.recordError(definition.getMethod(), definition.getUrl());
+			throw e;
+		}
+		latencyRecorder.record(definition.getMethod(), definition.getUrl(), System.nanoTime() - start);
+		ParsedResponse.of(response).setRequest(definition.getMethod(), definition.getUrl());
+		return response;
+	}
+
+	/**
+	 * Serializa o corpo da requisição. Mapas são convertidos para JSON direto em
+	 * bytes pelo codec compartilhado e, se nenhum Content-Type foi informado, é
+	 * usado o `request.content.type`. Corpos JSON grandes podem ser enviados
+	 * compactados (ver {@link RequestCompressor}). Corpos {@link RequestBody} são
+	 * repassados sem conversão, com o Content-Type próprio quando a requisição não
+	 * define outro.
+	 */
+	private void applyBody(RequestSpecification specification, RequestDefinition definition) {
+		Object body = definition.getBody();
+		ContentType contentType = definition.getContentType();
+		if (contentType != null) {
+			specification.contentType(contentType);
+		} else if (body instanceof RequestBody) {
+			specification.contentType(((RequestBody) body).getContentType());
+		} else if (body instanceof Map || body instanceof JSONObject) {
+			specification.contentType(defaultContentType);
+		}
+		if (body instanceof RequestBody) {
+			((RequestBody) body).applyTo(specification);
+		} else if (body instanceof Map) {
+			byte[] json = JsonCodecs.getCodec().write(body);
+			if (!compress(specification, definition, json)) {
+				specification.body(json);
+			}
+		} else if (body instanceof JSONObject || body instanceof String && contentType == ContentType.JSON) {
+			String json = body.toString();
+			if (!compressor.accepts(definition.getMethod())
+					|| !compress(specification, definition, json.getBytes(StandardCharsets.UTF_8))) {
+				specification.body(json);
+			}
+		} else if (body != null) {
+			specification.body(body);
+		}
+	}
+
+	/**
+	 * Envia o corpo JSON compactado com gzip quando a compressão de requisições
+	 * está habilitada para o método (POST, PUT ou PATCH), o corpo codificado em
+	 * UTF-8 atinge o tamanho mínimo e a requisição ainda não define um
+	 * `Content-Encoding`. Os tamanhos original e enviado são registrados por
+	 * endpoint.
+	 *
+	 * @return boolean true se o corpo compactado foi aplicado.
+	 */
+	private boolean compress(RequestSpecification specification, RequestDefinition definition, byte[] json) {
+		if (!compressor.shouldCompress(definition.getMethod(), json.length) || hasContentEncoding(definition)) {
+			return false;
+		}
+		byte[] compressed = compressor.compress(json);
+		specification.header(HttpHeaders.CONTENT_ENCODING, RequestCompressor.ENCODING).body(compressed);
+		transferRecorder.recordRequest(definition.getMethod().name(), definition.getUrl(), json.length,
+				compressed.length);
+		return true;
+	}
+
+	private static boolean hasContentEncoding(RequestDefinition definition) {
+		return definition.getHeaders() != null && definition.getHeaders().keySet().stream()
+				.anyMatch(HttpHeaders.CONTENT_ENCODING::equalsIgnoreCase);
+	}
+
+	private static int valueOrDefault(Integer value, Integer defaultValue) {
+		return value != null ? value : defaultValue;
+	}
+}
@@ -0,0 +1,169 @@
+package controller.request.executor;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import controller.request.client.HttpClientPool;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.filter.log.LogDetail;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.specification.RequestSpecification;
+import lombok.extern.log4j.Log4j2;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+
+/**
+ * Registro de especificações de requisição pré-montadas por endpoint.
+ * <p>
+ * A parte fixa de cada chamada (configuração do pool e timeouts, SSL, URL
+ * encoding, política de log e os cabeçalhos padrão `Accept` e
+ * `Accept-Language`) é montada uma única vez por combinação de URL base e
+ * opções. Cada requisição parte dessa especificação e acrescenta apenas
+ * cabeçalhos, parâmetros e corpo próprios. O cabeçalho de autorização é
+ * acrescentado por requisição e não faz parte da chave: tokens diferentes não
+ * criam novas especificações nem ficam guardados no registro.
+ * <p>
+ * As especificações usam a configuração global do RestAssured vigente no
+ * momento em que são montadas; se ela for alterada, chame {@link #clear()}.
+ */
+@Log4j2
+public final class RequestSpecificationRegistry {
+
+	private static final RequestSpecificationRegistry INSTANCE = new RequestSpecificationRegistry(
+			new ConfigurationsProperties());
+
+	private static final String ACCEPT_LANGUAGE_HEADER = "Accept-Language";
+
+	private final String acceptType;
+	private final String acceptLanguage;
+	private final boolean logRequests;
+	private final boolean logResponses;
+	private final Map<SpecificationKey, RequestSpecification> specifications = new ConcurrentHashMap<>();
+
+	/**
+	 * Cria um registro com os cabeçalhos padrão e a política de log do arquivo de
+	 * configuração informado.
+	 *
+	 * @param configurationsProperties Propriedades de configuração.
+	 */
+	public RequestSpecificationRegistry(ConfigurationsProperties configurationsProperties) {
+		acceptType = configurationsProperties.getResponseAcceptType();
+		acceptLanguage = configurationsProperties.getResponseLanguage();
+		logRequests = configurationsProperties.isLogRequestsEnabled();
+		logResponses = configurationsProperties.isLogResponsesEnabled();
+	}
+
+	/**
+	 * Retorna o registro padrão, compartilhado pela JVM.
+	 *
+	 * @return RequestSpecificationRegistry configurado com o `configurations.properties`.
+	 */
+	public static RequestSpecificationRegistry getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Retorna a especificação pré-montada para a definição, montando-a na primeira
+	 * vez em que a combinação de endpoint e opções for usada.
+	 *
+	 * @param definition        Definição da requisição.
+	 * @param connectionTimeout Tempo limite de conexão (em milissegundos).
+	 * @param readTimeout       Tempo limite de leitura (em milissegundos).
+	 * @return RequestSpecification imutável, a ser usada com `given().spec(...)`.
+	 */
+	public RequestSpecification get(RequestDefinition definition, int connectionTimeout, int readTimeout) {
+		SpecificationKey key = new SpecificationKey(baseUrlOf(definition.getUrl()),
+				definition.isRelaxedHTTPSValidation(), definition.getUrlEncodingEnabled(),
+				Boolean.TRUE.equals(definition.getLogAll()), connectionTimeout, readTimeout);
+		return specifications.computeIfAbsent(key, this::build);
+	}
+
+	/**
+	 * Quantidade de especificações montadas.
+	 */
+	public int size() {
+		return specifications.size();
+	}
+
+	/**
+	 * Descarta as especificações montadas, para que sejam refeitas com a
+	 * configuração atual.
+	 */
+	public void clear() {
+		specifications.clear();
+	}
+
+	private RequestSpecification build(SpecificationKey key) {
+		RequestSpecBuilder builder = new RequestSpecBuilder()
+				.setConfig(HttpClientPool.getInstance().getConfig(key.connectionTimeout, key.readTimeout));
+		if (key.relaxedHTTPSValidation) {
+			builder.setRelaxedHTTPSValidation();
+		}
+		if (key.urlEncodingEnabled != null) {
+			builder.setUrlEncodingEnabled(key.urlEncodingEnabled);
+		}
+		if (key.logAll && logRequests) {
+			builder.log(LogDetail.ALL);
+		}
+		if (key.logAll && logResponses) {
+			builder.addFilter(new ResponseLoggingFilter());
+		}
+		if (!acceptType.isBlank()) {
+			builder.setAccept(acceptType);
+		}
+		if (!acceptLanguage.isBlank()) {
+			builder.addHeader(ACCEPT_LANGUAGE_HEADER, acceptLanguage);
+		}
+		log.debug("Especificação de requisição montada para " + key.baseUrl);
+		return builder.build();
+	}
+
+	/**
+	 * Extrai a URL base (esquema e host) da URL da requisição.
+	 */
+	private static String baseUrlOf(String url) {
+		int schemeEnd = url.indexOf("://");
+		int pathStart = url.indexOf('/', schemeEnd < 0 ? 0 : schemeEnd + 3);
+		return pathStart < 0 ? url : url.substring(0, pathStart);
+	}
+
+	private static final class SpecificationKey {
+
+		private final String baseUrl;
+		private final boolean relaxedHTTPSValidation;
+		private final Boolean urlEncodingEnabled;
+		private final boolean logAll;
+		private final int connectionTimeout;
+		private final int readTimeout;
+
+		private SpecificationKey(String baseUrl, boolean relaxedHTTPSValidation, Boolean urlEncodingEnabled,
+				boolean logAll, int connectionTimeout, int readTimeout) {
+			this.baseUrl = baseUrl;
+			this.relaxedHTTPSValidation = relaxedHTTPSValidation;
+			this.urlEncodingEnabled = urlEncodingEnabled;
+			this.logAll = logAll;
+			this.connectionTimeout = connectionTimeout;
+			this.readTimeout = readTimeout;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof SpecificationKey)) {
+				return false;
+			}
+			SpecificationKey key = (SpecificationKey) other;
+			return relaxedHTTPSValidation == key.relaxedHTTPSValidation && logAll == key.logAll
+					&& connectionTimeout == key.connectionTimeout && readTimeout == key.readTimeout
+					&& baseUrl.equals(key.baseUrl) && Objects.equals(urlEncodingEnabled, key.urlEncodingEnabled);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(baseUrl, relaxedHTTPSValidation, urlEncodingEnabled, logAll, connectionTimeout,
+					readTimeout);
+		}
+	}
+}
@@ -1,14 +1,21 @@
 package controller.request.methods;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 
-import io.restassured.config.ConnectionConfig;
-import io.restassured.config.HttpClientConfig;
+import controller.request.async.AsyncRequestExecutor;
+import controller.request.client.HttpClientPool;
+import controller.request.executor.RequestDefinition;
+import controller.request.executor.RequestExecutor;
+import controller.request.response.MultiPatternMatcher;
+import controller.request.response.MultiPatternMatcher.Matches;
+import controller.request.response.ParsedResponse;
+import controller.request.response.StreamingJsonPath;
 import io.restassured.config.RestAssuredConfig;
 import io.restassured.response.Response;
 import lombok.extern.log4j.Log4j2;
@@ -30,6 +37,9 @@ public class BaseRequest {
 	protected Integer readTimeout;
 	protected Integer retryCount;
 
+	protected RequestExecutor requestExecutor;
+	protected Executor asyncExecutor;
+
 	public BaseRequest() {
 		defaultFirstMessage = "calling the ";
 		defaultLastMessage = "method with params: ";
@@ -39,6 +49,8 @@ public class BaseRequest {
 		connectionTimeout = configurationsProperties.getConnectionTimeout();
 		readTimeout = configurationsProperties.getReadTimeout();
 		retryCount = configurationsProperties.getRetryCount();
+		requestExecutor = RequestExecutor.getInstance();
+		asyncExecutor = AsyncRequestExecutor.getInstance().getExecutor();
 	}
 
 	/**
@@ -59,6 +71,27 @@ public class BaseRequest {
 	    this.response = response;
 	}
 
+	/**
+	 * Retorna a visão da resposta atual que decodifica o corpo uma única vez,
+	 * reaproveitando a String, o JSON interpretado e os modelos entre as
+	 * consultas.
+	 *
+	 * @return ParsedResponse associado à resposta atual.
+	 */
+	public ParsedResponse getParsedResponse() {
+		return ParsedResponse.of(getResponse());
+	}
+
+	/**
+	 * Define o executor utilizado pelas variantes assíncronas dos métodos HTTP
+	 * desta instância, substituindo o executor compartilhado padrão.
+	 *
+	 * @param asyncExecutor Executor onde as requisições assíncronas serão executadas.
+	 */
+	public void setAsyncExecutor(Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
 	/**
 	 * Extrai uma lista de objetos a partir de um caminho (path) no corpo da
 	 * resposta.
@@ -68,7 +101,50 @@ public class BaseRequest {
 	 */
 	public ArrayList<Object> getListForPath(String path) {
 		log.info("Extraindo lista de objetos para o caminho: " + path);
-		return getResponse().then().extract().path(path);
+		return getParsedResponse().path(path);
+	}
+
+	/**
+	 * Verifica, em uma única leitura do corpo e sem montar a árvore JSON, se todos
+	 * os valores do caminho atendem ao predicado (ex: `books[*].pages` maior que
+	 * zero). A leitura é interrompida no primeiro valor que não atende.
+	 *
+	 * @param path      Caminho no corpo da resposta (ex: `books[*].pages`).
+	 * @param predicate Condição que cada valor deve atender.
+	 * @return boolean true se todos os valores atenderem (ou se o caminho não existir).
+	 */
+	public Boolean pathAllMatch(String path, Predicate<Object> predicate) {
+		boolean allMatch = StreamingJsonPath.compile(path).allMatch(getParsedResponse().asJsonBytes(), predicate);
+		log.info("Verificando se todos os valores do caminho " + path + " atendem à condição - Resultado: " + allMatch);
+		return allMatch;
+	}
+
+	/**
+	 * Verifica, em uma única leitura do corpo e sem montar a árvore JSON, se algum
+	 * valor do caminho é igual ao valor informado. A leitura é interrompida assim
+	 * que o valor é encontrado.
+	 *
+	 * @param path  Caminho no corpo da resposta (ex: `books.isbn`).
+	 * @param value Valor esperado.
+	 * @return boolean true se o valor estiver presente no caminho.
+	 */
+	public Boolean pathContains(String path, Object value) {
+		boolean contains = StreamingJsonPath.compile(path).contains(getParsedResponse().asJsonBytes(), value);
+		log.info("Verificando se o caminho " + path + " contém o valor: " + value + " - Resultado: " + contains);
+		return contains;
+	}
+
+	/**
+	 * Extrai o primeiro valor de um caminho no corpo da resposta, interrompendo a
+	 * leitura assim que ele é encontrado.
+	 *
+	 * @param path Caminho no corpo da resposta (ex: `books[0].isbn`).
+	 * @return Object primeiro valor encontrado, ou null se o caminho não existir.
+	 */
+	public Object getFirstForPath(String path) {
+		Object value = StreamingJsonPath.compile(path).first(getParsedResponse().asJsonBytes());
+		log.info("Primeiro valor extraído do caminho " + path + ": " + value);
+		return value;
 	}
 
 	/**
@@ -77,7 +153,7 @@ public class BaseRequest {
 	 * @return int código de status da resposta.
 	 */
 	public Integer getStatusCode() {
-		int statusCode = getResponse().then().extract().statusCode();
+		int statusCode = getParsedResponse().getStatusCode();
 		log.info("Código de status da resposta: " + statusCode);
 		return statusCode;
 	}
@@ -89,32 +165,44 @@ public class BaseRequest {
 	 * @return boolean true se o texto estiver presente, caso contrário false.
 	 */
 	public Boolean bodyContains(Object text) {
-		boolean contains = getResponse().then().extract().body().asString().contains(String.valueOf(text));
+		boolean contains = MultiPatternMatcher.contains(getParsedResponse().asJsonBytes(), String.valueOf(text));
 		log.info("Verificando se o corpo da resposta contém o texto: " + text + " - Resultado: " + contains);
 		return contains;
 	}
 
+	/**
+	 * Procura vários textos no corpo da resposta em uma única passada sobre os
+	 * bytes (ver {@link MultiPatternMatcher}).
+	 *
+	 * @param texts Textos a serem procurados no corpo da resposta.
+	 * @return Matches com os textos encontrados, a posição da primeira ocorrência
+	 *         e o número de ocorrências de cada um.
+	 */
+	public Matches findInBody(String... texts) {
+		Matches matches = MultiPatternMatcher.compile(texts).find(getParsedResponse().asJsonBytes());
+		log.info("Procurando os textos no corpo da resposta - Resultado: " + matches);
+		return matches;
+	}
+
 	/**
 	 * Retorna o corpo da resposta como uma String.
 	 *
 	 * @return String contendo o corpo da resposta.
 	 */
 	public String getBody() {
-		String body = response.then().extract().body().asString();
+		String body = getParsedResponse().asString();
 		log.info("Corpo da resposta extraído: " + body);
 		return body;
 	}
 
 	/**
 	 * Extrai o corpo da resposta em uma única linha, removendo quebras de linha e
-	 * espaços extras.
+	 * espaços extras (ver {@link ParsedResponse#asOneLine()}).
 	 *
 	 * @return String contendo o corpo da resposta em uma única linha.
 	 */
 	public String getResponseOneLine() {
-		String responseOneLine = Arrays.stream(response.then().extract().body().asString().split("\\n"))
-				.map(String::trim).reduce(String::concat).toString();
-		String result = responseOneLine.substring(9, responseOneLine.length() - 1);
+		String result = getParsedResponse().asOneLine();
 		log.info("Resposta em uma linha extraída: " + result);
 		return result;
 	}
@@ -141,7 +229,7 @@ public class BaseRequest {
 	 */
 	public void validateJsonStructure(Response response) {
 		try {
-			response.getBody().jsonPath();
+			ParsedResponse.of(response).getJsonPath();
 			log.info("JSON structure validated successfully.");
 		} catch (Exception e) {
 			log.error("Invalid JSON structure: " + e.getMessage());
@@ -174,37 +262,31 @@ public class BaseRequest {
 		validateJsonStructure(response); // Validar se a resposta tem uma estrutura JSON válida
 	}
 
-	// Função auxiliar para configuração de timeouts
+	// Função auxiliar para configuração de timeouts sobre o pool de conexões compartilhado
 	public RestAssuredConfig getConfigWithTimeouts() {
-		return RestAssuredConfig.config()
-				.connectionConfig(ConnectionConfig.connectionConfig().closeIdleConnectionsAfterEachResponseAfter(2,
-						TimeUnit.SECONDS))
-				.httpClient(HttpClientConfig.httpClientConfig().setParam("http.connection.timeout", connectionTimeout)
-						.setParam("http.socket.timeout", readTimeout));
+		return HttpClientPool.getInstance().getConfig(connectionTimeout, readTimeout);
 	}
-	
-	
 
-	// Função auxiliar para executar com retry
-	public Response executeWithRetry(Callable<Response> action) {
-		int attempt = 0;
-		while (attempt < retryCount) {
-			try {
-				return action.call(); // Tenta executar a ação
-			} catch (Exception e) {
-				log.error("Erro na tentativa " + (attempt + 1) + ": " + e.getMessage());
-				attempt++;
-				if (attempt >= retryCount) {
-					throw new RuntimeException("Falha após " + retryCount + " tentativas");
-				}
-			}
-		}
-		return null;
+	/**
+	 * Envia a requisição descrita pelo executor compartilhado e guarda a resposta
+	 * na variável `response`, mantendo o comportamento dos métodos HTTP da cadeia.
+	 *
+	 * @param definition Definição imutável da requisição.
+	 * @return Response objeto contendo a resposta da requisição.
+	 */
+	protected Response send(RequestDefinition definition) {
+		response = requestExecutor.execute(definition);
+		return response;
 	}
 
-	@FunctionalInterface
-	protected interface Callable<V> {
-		V call() throws Exception;
+	/**
+	 * Envia a requisição descrita de forma assíncrona, sem alterar a variável
+	 * `response`.
+	 *
+	 * @param definition Definição imutável da requisição.
+	 * @return CompletableFuture que será completado com a resposta da requisição.
+	 */
+	protected CompletableFuture<Response> sendAsync(RequestDefinition definition) {
+		return requestExecutor.executeAsync(definition, asyncExecutor);
 	}
-	
 }
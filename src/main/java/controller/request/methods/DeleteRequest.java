@@ -1,20 +1,15 @@
 package controller.request.methods;
 
-import static io.restassured.RestAssured.given;
-
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
-import com.google.gson.Gson;
-
+import controller.request.executor.RequestDefinition;
 import io.restassured.http.ContentType;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
-import lombok.extern.log4j.Log4j2;
 
-@Log4j2
 public class DeleteRequest extends BaseRequest {
 
-    private String deleteMessage = "delete ";
-
     /**
      * Método para realizar uma requisição DELETE simples a uma URL.
      *
@@ -22,15 +17,7 @@ public class DeleteRequest extends BaseRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response deleteMethod(String url) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().config(getConfigWithTimeouts()).when().delete(url);
-                log.info(defaultFirstMessage + deleteMessage + defaultLastMessage + "url=" + url);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.DELETE, url).build());
     }
 
     /**
@@ -43,10 +30,8 @@ public class DeleteRequest extends BaseRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response deleteMethod(String url, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-        this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = retryCount;
-        return deleteMethod(url);
+        return send(RequestDefinition.builder(Method.DELETE, url)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -58,17 +43,8 @@ public class DeleteRequest extends BaseRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response deleteMethod(String url, String tokenType, String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().config(getConfigWithTimeouts()).headers("Authorization", tokenType + " " + accessToken)
-                        .when().delete(url);
-                log.info(defaultFirstMessage + deleteMessage + defaultLastMessage + "url=" + url
-                        + ", headers=(Authorization: " + tokenType + " " + accessToken + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.DELETE, url).authorization(tokenType, accessToken)
+                .build());
     }
 
     /**
@@ -84,10 +60,8 @@ public class DeleteRequest extends BaseRequest {
      */
     public Response deleteMethod(String url, String tokenType, String accessToken, Integer connectionTimeout,
             Integer readTimeout, Integer retryCount) {
-        this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = retryCount;
-        return deleteMethod(url, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.DELETE, url).authorization(tokenType, accessToken)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -98,16 +72,7 @@ public class DeleteRequest extends BaseRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response deleteMethod(String url, Map<String, String> headers) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().config(getConfigWithTimeouts()).headers(headers).when().delete(url);
-                log.info(defaultFirstMessage + deleteMessage + defaultLastMessage + "url=" + url + ", headers=("
-                        + headers.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.DELETE, url).headers(headers).build());
     }
 
     /**
@@ -122,10 +87,8 @@ public class DeleteRequest extends BaseRequest {
      */
     public Response deleteMethod(String url, Map<String, String> headers, Integer connectionTimeout,
             Integer readTimeout, Integer retryCount) {
-        this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = retryCount;
-        return deleteMethod(url, headers);
+        return send(RequestDefinition.builder(Method.DELETE, url).headers(headers)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -139,17 +102,8 @@ public class DeleteRequest extends BaseRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response deleteMethod(String url, Map<String, String> headers, String tokenType, String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().config(getConfigWithTimeouts()).headers("Authorization", tokenType + " " + accessToken)
-                        .headers(headers).when().delete(url);
-                log.info(defaultFirstMessage + deleteMessage + defaultLastMessage + "url=" + url + ", headers=(Authorization: "
-                        + tokenType + " " + accessToken + ", " + headers.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.DELETE, url).authorization(tokenType, accessToken)
+                .headers(headers).build());
     }
 
     /**
@@ -166,10 +120,8 @@ public class DeleteRequest extends BaseRequest {
      */
     public Response deleteMethod(String url, Map<String, String> headers, String tokenType, String accessToken,
             Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-        this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return deleteMethod(url, headers, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.DELETE, url).authorization(tokenType, accessToken)
+                .headers(headers).timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -182,16 +134,8 @@ public class DeleteRequest extends BaseRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response deleteMethod(String url, Map<String, String> headers, Map<String, Object> queryParams) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().config(getConfigWithTimeouts()).headers(headers).queryParams(queryParams).when().delete(url);
-                log.info(defaultFirstMessage + deleteMessage + defaultLastMessage + "url=" + url + ", headers=("
-                        + headers.toString() + "), queryParams=(" + queryParams.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.DELETE, url).headers(headers).queryParams(queryParams)
+                .build());
     }
 
     /**
@@ -208,10 +152,8 @@ public class DeleteRequest extends BaseRequest {
      */
     public Response deleteMethod(String url, Map<String, String> headers, Map<String, Object> queryParams,
             Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return deleteMethod(url, headers, queryParams);
+        return send(RequestDefinition.builder(Method.DELETE, url).headers(headers).queryParams(queryParams)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -230,21 +172,9 @@ public class DeleteRequest extends BaseRequest {
      */
     public Response deleteMethod(String url, ContentType contentType, Boolean urlEncodingEnabled, Boolean logAll,
             Map<String, String> headers, Map<String, Object> queryParams, String tokenType, String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().config(getConfigWithTimeouts()).contentType(contentType).relaxedHTTPSValidation()
-                        .urlEncodingEnabled(urlEncodingEnabled).log().all(logAll)
-                        .headers("Authorization", tokenType + " " + accessToken).headers(headers).queryParams(queryParams)
-                        .when().delete(url).then().extract().response();
-                log.info(defaultFirstMessage + deleteMessage + defaultLastMessage + "url=" + url + ", contentType="
-                        + contentType + ", urlEncodingEnabled=" + urlEncodingEnabled + ", logAll=" + logAll
-                        + ", headers=(Authorization: " + tokenType + " " + accessToken + ", " + headers.toString()
-                        + "), queryParams=(" + queryParams.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.DELETE, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).build());
     }
 
     /**
@@ -267,10 +197,10 @@ public class DeleteRequest extends BaseRequest {
     public Response deleteMethod(String url, ContentType contentType, Boolean urlEncodingEnabled, Boolean logAll,
             Map<String, String> headers, Map<String, Object> queryParams, String tokenType, String accessToken,
             Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return deleteMethod(url, contentType, urlEncodingEnabled, logAll, headers, queryParams, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.DELETE, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -291,21 +221,10 @@ public class DeleteRequest extends BaseRequest {
     public Response deleteMethod(String url, ContentType contentType, Boolean urlEncodingEnabled, Boolean logAll,
             Map<String, String> headers, Map<String, Object> queryParams, Map<String, Object> body, String tokenType,
             String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().config(getConfigWithTimeouts()).contentType(contentType).relaxedHTTPSValidation()
-                        .urlEncodingEnabled(urlEncodingEnabled).log().all(logAll)
-                        .headers("Authorization", tokenType + " " + accessToken).headers(headers).queryParams(queryParams)
-                        .body(new Gson().toJson(body)).when().delete(url).then().extract().response();
-                log.info(defaultFirstMessage + deleteMessage + defaultLastMessage + "url=" + url + ", contentType="
-                        + contentType + ", urlEncodingEnabled=" + urlEncodingEnabled + ", logAll=" + logAll
-                        + ", headers=(Authorization: " + tokenType + " " + accessToken + ", " + headers.toString()
-                        + "), queryParams=(" + queryParams.toString() + "), body=(" + body.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.DELETE, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).body(body)
+                .build());
     }
 
     /**
@@ -329,11 +248,10 @@ public class DeleteRequest extends BaseRequest {
     public Response deleteMethod(String url, ContentType contentType, Boolean urlEncodingEnabled, Boolean logAll,
             Map<String, String> headers, Map<String, Object> queryParams, Map<String, Object> body, String tokenType,
             String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return deleteMethod(url, contentType, urlEncodingEnabled, logAll, headers, queryParams, body, tokenType,
-                accessToken);
+        return send(RequestDefinition.builder(Method.DELETE, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -355,21 +273,9 @@ public class DeleteRequest extends BaseRequest {
     public Response deleteMethod(String url, ContentType contentType, Boolean urlEncodingEnabled,
             Map<String, Object> params, Boolean logAll, Map<String, String> headers, Map<String, Object> body,
             String tokenType, String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().config(getConfigWithTimeouts()).contentType(contentType).relaxedHTTPSValidation()
-                        .urlEncodingEnabled(urlEncodingEnabled).log().all(logAll)
-                        .headers("Authorization", tokenType + " " + accessToken).headers(headers).params(params)
-                        .body(new Gson().toJson(body)).when().delete(url).then().extract().response();
-                log.info(defaultFirstMessage + deleteMessage + defaultLastMessage + "url=" + url + ", contentType="
-                        + contentType + ", urlEncodingEnabled=" + urlEncodingEnabled + ", logAll=" + logAll
-                        + ", headers=(Authorization: " + tokenType + " " + accessToken + ", " + headers.toString()
-                        + "), params=(" + params.toString() + "), body=(" + body.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.DELETE, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).params(params).body(body).build());
     }
 
     /**
@@ -394,9 +300,44 @@ public class DeleteRequest extends BaseRequest {
     public Response deleteMethod(String url, ContentType contentType, Boolean urlEncodingEnabled,
             Map<String, Object> params, Boolean logAll, Map<String, String> headers, Map<String, Object> body,
             String tokenType, String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return deleteMethod(url, contentType, urlEncodingEnabled, params, logAll, headers, body, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.DELETE, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).params(params).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
+    }
+
+    /**
+     * Método para realizar uma requisição DELETE simples de forma assíncrona, sem alterar a resposta armazenada.
+     *
+     * @param url URL do endpoint onde a requisição será realizada.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> deleteMethodAsync(String url) {
+        return sendAsync(RequestDefinition.builder(Method.DELETE, url).build());
+    }
+
+    /**
+     * Método para realizar uma requisição DELETE com cabeçalhos de forma assíncrona.
+     *
+     * @param url     URL do endpoint.
+     * @param headers Map com cabeçalhos HTTP adicionais.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> deleteMethodAsync(String url, Map<String, String> headers) {
+        return sendAsync(RequestDefinition.builder(Method.DELETE, url).headers(headers).build());
+    }
+
+    /**
+     * Método para realizar uma requisição DELETE com cabeçalhos e token de autenticação de forma assíncrona.
+     *
+     * @param url         URL do endpoint.
+     * @param headers     Map com cabeçalhos HTTP adicionais.
+     * @param tokenType   Tipo de token (ex: Bearer).
+     * @param accessToken Token de acesso.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> deleteMethodAsync(String url, Map<String, String> headers, String tokenType, String accessToken) {
+        return sendAsync(RequestDefinition.builder(Method.DELETE, url).authorization(tokenType, accessToken)
+                .headers(headers).build());
     }
 }
@@ -1,8 +1,10 @@
 package controller.request.methods;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 
+import controller.request.response.MultiPatternMatcher;
+import controller.request.response.MultiPatternMatcher.Matches;
+import controller.request.response.ParsedResponse;
 import io.restassured.response.Response;
 import lombok.extern.log4j.Log4j2;
 
@@ -18,7 +20,7 @@ public class GeneralRequest extends PutRequest{
 	 */
 	public ArrayList<Object> getListForPath(String path) {
 		log.info("Extraindo lista de objetos para o caminho: " + path);
-		return getResponse().then().extract().path(path);
+		return getParsedResponse().path(path);
 	}
 
 	/**
@@ -27,7 +29,7 @@ public class GeneralRequest extends PutRequest{
 	 * @return int código de status da resposta.
 	 */
 	public Integer getStatusCode() {
-		int statusCode = getResponse().then().extract().statusCode();
+		int statusCode = getParsedResponse().getStatusCode();
 		log.info("Código de status da resposta: " + statusCode);
 		return statusCode;
 	}
@@ -39,32 +41,44 @@ public class GeneralRequest extends PutRequest{
 	 * @return boolean true se o texto estiver presente, caso contrário false.
 	 */
 	public Boolean bodyContains(Object text) {
-		boolean contains = getResponse().then().extract().body().asString().contains(String.valueOf(text));
+		boolean contains = MultiPatternMatcher.contains(getParsedResponse().asJsonBytes(), String.valueOf(text));
 		log.info("Verificando se o corpo da resposta contém o texto: " + text + " - Resultado: " + contains);
 		return contains;
 	}
 
+	/**
+	 * Procura vários textos no corpo da resposta em uma única passada sobre os
+	 * bytes (ver {@link MultiPatternMatcher}).
+	 *
+	 * @param texts Textos a serem procurados no corpo da resposta.
+	 * @return Matches com os textos encontrados, a posição da primeira ocorrência
+	 *         e o número de ocorrências de cada um.
+	 */
+	public Matches findInBody(String... texts) {
+		Matches matches = MultiPatternMatcher.compile(texts).find(getParsedResponse().asJsonBytes());
+		log.info("Procurando os textos no corpo da resposta - Resultado: " + matches);
+		return matches;
+	}
+
 	/**
 	 * Retorna o corpo da resposta como uma String.
 	 *
 	 * @return String contendo o corpo da resposta.
 	 */
 	public String getBody() {
-		String body = getResponse().then().extract().body().asString();
+		String body = getParsedResponse().asString();
 		log.info("Corpo da resposta extraído: " + body);
 		return body;
 	}
 
 	/**
 	 * Extrai o corpo da resposta em uma única linha, removendo quebras de linha e
-	 * espaços extras.
+	 * espaços extras (ver {@link ParsedResponse#asOneLine()}).
 	 *
 	 * @return String contendo o corpo da resposta em uma única linha.
 	 */
 	public String getResponseOneLine() {
-		String responseOneLine = Arrays.stream(getResponse().then().extract().body().asString().split("\\n"))
-				.map(String::trim).reduce(String::concat).toString();
-		String result = responseOneLine.substring(9, responseOneLine.length() - 1);
+		String result = getParsedResponse().asOneLine();
 		log.info("Resposta em uma linha extraída: " + result);
 		return result;
 	}
@@ -91,7 +105,7 @@ public class GeneralRequest extends PutRequest{
 	 */
 	public void validateJsonStructure(Response response) {
 		try {
-			response.getBody().jsonPath();
+			ParsedResponse.of(response).getJsonPath();
 			log.info("JSON structure validated successfully.");
 		} catch (Exception e) {
 			log.error("Invalid JSON structure: " + e.getMessage());
@@ -1,18 +1,15 @@
 package controller.request.methods;
 
-import static io.restassured.RestAssured.given;
-
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import controller.request.executor.RequestDefinition;
 import io.restassured.http.ContentType;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
-import lombok.extern.log4j.Log4j2;
 
-@Log4j2
 public class GetRequest extends DeleteRequest {
 
-    private String getMessage = "get ";
-
     /**
      * Realiza uma requisição GET simples a uma URL.
      *
@@ -20,15 +17,7 @@ public class GetRequest extends DeleteRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response getMethod(String url) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().when().get(url);
-                log.info(defaultFirstMessage + getMessage + defaultLastMessage + "url=" + url);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.GET, url).build());
     }
 
     /**
@@ -41,10 +30,8 @@ public class GetRequest extends DeleteRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response getMethod(String url, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return getMethod(url);
+        return send(RequestDefinition.builder(Method.GET, url)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -55,15 +42,8 @@ public class GetRequest extends DeleteRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response getMethod(String url, Map<String, String> headers) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().relaxedHTTPSValidation().headers(headers).when().get(url);
-                log.info(defaultFirstMessage + getMessage + defaultLastMessage + "url=" + url + ", headers=(" + headers.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.GET, url).relaxedHTTPSValidation().headers(headers)
+                .build());
     }
 
     /**
@@ -77,10 +57,8 @@ public class GetRequest extends DeleteRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response getMethod(String url, Map<String, String> headers, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return getMethod(url, headers);
+        return send(RequestDefinition.builder(Method.GET, url).relaxedHTTPSValidation().headers(headers)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -91,15 +69,7 @@ public class GetRequest extends DeleteRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response getMethod(String url, String proxy) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().relaxedHTTPSValidation().proxy(proxy).when().get(url);
-                log.info(defaultFirstMessage + getMessage + defaultLastMessage + "url=" + url + ", proxy=" + proxy);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.GET, url).relaxedHTTPSValidation().proxy(proxy).build());
     }
 
     /**
@@ -113,10 +83,8 @@ public class GetRequest extends DeleteRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response getMethod(String url, String proxy, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return getMethod(url, proxy);
+        return send(RequestDefinition.builder(Method.GET, url).relaxedHTTPSValidation().proxy(proxy)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -132,18 +100,9 @@ public class GetRequest extends DeleteRequest {
      */
     public Response getMethod(String url, ContentType contentType, Boolean urlEncodingEnabled, Boolean logAll,
                                  Map<String, String> headers, Map<String, Object> queryParams) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers(headers).queryParams(queryParams).get(url).then().extract().response();
-                log.info(defaultFirstMessage + getMessage + defaultLastMessage + "url=" + url + ", contentType=" + contentType
-                        + ", urlEncodingEnabled=" + urlEncodingEnabled + ", logAll=" + logAll + ", headers=(" + headers.toString()
-                        + "), queryParams=(" + queryParams.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.GET, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).queryParams(queryParams).build());
     }
 
     /**
@@ -162,10 +121,10 @@ public class GetRequest extends DeleteRequest {
      */
     public Response getMethod(String url, ContentType contentType, Boolean urlEncodingEnabled, Boolean logAll,
                                  Map<String, String> headers, Map<String, Object> queryParams, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return getMethod(url, contentType, urlEncodingEnabled, logAll, headers, queryParams);
+        return send(RequestDefinition.builder(Method.GET, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).queryParams(queryParams)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -181,18 +140,9 @@ public class GetRequest extends DeleteRequest {
      */
     public Response getMethod(String url, ContentType contentType, boolean urlEncodingEnabled,
                                  Map<String, Object> params, Boolean logAll, Map<String, String> headers) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers(headers).params(params).get(url).then().extract().response();
-                log.info(defaultFirstMessage + getMessage + defaultLastMessage + "url=" + url + ", contentType=" + contentType
-                        + ", urlEncodingEnabled=" + urlEncodingEnabled + ", logAll=" + logAll + ", headers=(" + headers.toString()
-                        + "), params=(" + params.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.GET, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).params(params).build());
     }
 
     /**
@@ -211,10 +161,9 @@ public class GetRequest extends DeleteRequest {
      */
     public Response getMethod(String url, ContentType contentType, boolean urlEncodingEnabled,
                                  Map<String, Object> params, Boolean logAll, Map<String, String> headers, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return getMethod(url, contentType, urlEncodingEnabled, params, logAll, headers);
+        return send(RequestDefinition.builder(Method.GET, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).params(params).timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -232,19 +181,9 @@ public class GetRequest extends DeleteRequest {
      */
     public Response getMethod(String url, ContentType contentType, Boolean urlEncodingEnabled, Boolean logAll,
                                  Map<String, String> headers, Map<String, Object> queryParams, String tokenType, String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers("Authorization", tokenType + " " + accessToken).headers(headers)
-                        .queryParams(queryParams).get(url).then().extract().response();
-                log.info(defaultFirstMessage + getMessage + defaultLastMessage + "url=" + url + ", contentType=" + contentType
-                        + ", urlEncodingEnabled=" + urlEncodingEnabled + ", logAll=" + logAll + ", headers=(Authorization: "
-                        + tokenType + " " + accessToken + ", " + headers.toString() + "), queryParams=(" + queryParams.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.GET, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).build());
     }
 
     /**
@@ -266,10 +205,10 @@ public class GetRequest extends DeleteRequest {
     public Response getMethod(String url, ContentType contentType, Boolean urlEncodingEnabled, Boolean logAll,
                                  Map<String, String> headers, Map<String, Object> queryParams, String tokenType, String accessToken,
                                  Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return getMethod(url, contentType, urlEncodingEnabled, logAll, headers, queryParams, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.GET, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -288,19 +227,9 @@ public class GetRequest extends DeleteRequest {
     public Response getMethod(String url, ContentType contentType, boolean urlEncodingEnabled,
                                  Map<String, Object> params, Boolean logAll, Map<String, String> headers, String tokenType,
                                  String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers("Authorization", tokenType + " " + accessToken).headers(headers)
-                        .params(params).get(url).then().extract().response();
-                log.info(defaultFirstMessage + getMessage + defaultLastMessage + "url=" + url + ", contentType=" + contentType
-                        + ", urlEncodingEnabled=" + urlEncodingEnabled + ", logAll=" + logAll + ", headers=(Authorization: "
-                        + tokenType + " " + accessToken + ", " + headers.toString() + "), params=(" + params.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.GET, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).params(params).build());
     }
 
     /**
@@ -322,9 +251,69 @@ public class GetRequest extends DeleteRequest {
     public Response getMethod(String url, ContentType contentType, boolean urlEncodingEnabled,
                                  Map<String, Object> params, Boolean logAll, Map<String, String> headers, String tokenType,
                                  String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return getMethod(url, contentType, urlEncodingEnabled, params, logAll, headers, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.GET, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).params(params)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
+    }
+
+    /**
+     * Realiza uma requisição GET simples de forma assíncrona, sem alterar a resposta armazenada.
+     *
+     * @param url URL do endpoint onde a requisição será realizada.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> getMethodAsync(String url) {
+        return sendAsync(RequestDefinition.builder(Method.GET, url).build());
+    }
+
+    /**
+     * Realiza uma requisição GET com cabeçalhos de forma assíncrona, sem alterar a resposta armazenada.
+     *
+     * @param url     URL do endpoint.
+     * @param headers Map com cabeçalhos HTTP adicionais.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> getMethodAsync(String url, Map<String, String> headers) {
+        return sendAsync(RequestDefinition.builder(Method.GET, url).relaxedHTTPSValidation().headers(headers)
+                .build());
+    }
+
+    /**
+     * Realiza uma requisição GET com parâmetros de consulta e cabeçalhos de forma assíncrona.
+     *
+     * @param url               URL do endpoint.
+     * @param contentType       Tipo de conteúdo (Content-Type).
+     * @param urlEncodingEnabled Habilita ou desabilita codificação de URL.
+     * @param logAll            Boolean para logar a requisição inteira.
+     * @param headers           Map com cabeçalhos HTTP.
+     * @param queryParams       Map com os parâmetros de consulta.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> getMethodAsync(String url, ContentType contentType, Boolean urlEncodingEnabled, Boolean logAll,
+                                 Map<String, String> headers, Map<String, Object> queryParams) {
+        return sendAsync(RequestDefinition.builder(Method.GET, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).queryParams(queryParams).build());
+    }
+
+    /**
+     * Realiza uma requisição GET com parâmetros de consulta, cabeçalhos e token de forma assíncrona.
+     *
+     * @param url               URL do endpoint.
+     * @param contentType       Tipo de conteúdo (Content-Type).
+     * @param urlEncodingEnabled Habilita ou desabilita codificação de URL.
+     * @param logAll            Boolean para logar a requisição inteira.
+     * @param headers           Map com cabeçalhos HTTP.
+     * @param queryParams       Map com os parâmetros de consulta.
+     * @param tokenType         Tipo de token (ex: Bearer).
+     * @param accessToken       Token de acesso.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> getMethodAsync(String url, ContentType contentType, Boolean urlEncodingEnabled, Boolean logAll,
+                                 Map<String, String> headers, Map<String, Object> queryParams, String tokenType, String accessToken) {
+        return sendAsync(RequestDefinition.builder(Method.GET, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).build());
     }
 }
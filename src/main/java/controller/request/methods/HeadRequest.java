@@ -1,17 +1,15 @@
 package controller.request.methods;
 
-import static io.restassured.RestAssured.given;
-
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import controller.request.executor.RequestDefinition;
 import io.restassured.http.ContentType;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
-import lombok.extern.log4j.Log4j2;
 
-@Log4j2
 public class HeadRequest extends GetRequest {
     
-    private String headMessage = "head ";
 
     /**
      * Realiza uma requisição HEAD simples a uma URL.
@@ -20,15 +18,7 @@ public class HeadRequest extends GetRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response headMethod(String url) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().when().head(url);
-                log.info(defaultFirstMessage + headMessage + defaultLastMessage + "url=" + url);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.HEAD, url).build());
     }
 
     /**
@@ -41,10 +31,8 @@ public class HeadRequest extends GetRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response headMethod(String url, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return headMethod(url);
+        return send(RequestDefinition.builder(Method.HEAD, url)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -56,16 +44,7 @@ public class HeadRequest extends GetRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response headMethod(String url, String tokenType, String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().headers("Authorization", tokenType + " " + accessToken).when().head(url);
-                log.info(defaultFirstMessage + headMessage + defaultLastMessage + "url=" + url + ", headers=(Authorization: "
-                        + tokenType + " " + accessToken + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.HEAD, url).authorization(tokenType, accessToken).build());
     }
 
     /**
@@ -80,10 +59,8 @@ public class HeadRequest extends GetRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response headMethod(String url, String tokenType, String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return headMethod(url, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.HEAD, url).authorization(tokenType, accessToken)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -94,16 +71,7 @@ public class HeadRequest extends GetRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response headMethod(String url, Map<String, String> headers) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().headers(headers).when().head(url);
-                log.info(defaultFirstMessage + headMessage + defaultLastMessage + "url=" + url + ", headers=("
-                        + headers.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.HEAD, url).headers(headers).build());
     }
 
     /**
@@ -117,10 +85,8 @@ public class HeadRequest extends GetRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response headMethod(String url, Map<String, String> headers, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return headMethod(url, headers);
+        return send(RequestDefinition.builder(Method.HEAD, url).headers(headers)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -133,17 +99,8 @@ public class HeadRequest extends GetRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response headMethod(String url, Map<String, String> headers, String tokenType, String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().headers("Authorization", tokenType + " " + accessToken).headers(headers).when()
-                        .head(url);
-                log.info(defaultFirstMessage + headMessage + defaultLastMessage + "url=" + url
-                        + ", headers=(Authorization: " + tokenType + " " + accessToken + ", " + headers.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.HEAD, url).authorization(tokenType, accessToken)
+                .headers(headers).build());
     }
 
     /**
@@ -159,10 +116,8 @@ public class HeadRequest extends GetRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response headMethod(String url, Map<String, String> headers, String tokenType, String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return headMethod(url, headers, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.HEAD, url).authorization(tokenType, accessToken)
+                .headers(headers).timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -174,16 +129,8 @@ public class HeadRequest extends GetRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response headMethod(String url, Map<String, String> headers, Map<String, Object> queryParams) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().headers(headers).queryParams(queryParams).when().head(url);
-                log.info(defaultFirstMessage + headMessage + defaultLastMessage + "url=" + url + ", headers=("
-                        + headers.toString() + "), queryParams=(" + queryParams.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.HEAD, url).headers(headers).queryParams(queryParams)
+                .build());
     }
 
     /**
@@ -198,10 +145,8 @@ public class HeadRequest extends GetRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response headMethod(String url, Map<String, String> headers, Map<String, Object> queryParams, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return headMethod(url, headers, queryParams);
+        return send(RequestDefinition.builder(Method.HEAD, url).headers(headers).queryParams(queryParams)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -219,20 +164,9 @@ public class HeadRequest extends GetRequest {
      */
     public Response headMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll,
                                   Map<String, String> headers, Map<String, Object> queryParams, String tokenType, String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers("Authorization", tokenType + " " + accessToken).headers(headers)
-                        .queryParams(queryParams).when().head(url).then().extract().response();
-                log.info(defaultFirstMessage + headMessage + defaultLastMessage + "url=" + url + ", contentType="
-                        + contentType + ", urlEncodingEnabled=" + urlEncodingEnabled + ", logAll=" + logAll
-                        + ", headers=(Authorization: " + tokenType + " " + accessToken + ", " + headers.toString()
-                        + "), queryParams=(" + queryParams.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.HEAD, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).build());
     }
 
     /**
@@ -255,10 +189,10 @@ public class HeadRequest extends GetRequest {
     public Response headMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll,
                                   Map<String, String> headers, Map<String, Object> queryParams, String tokenType, String accessToken,
                                   Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return headMethod(url, contentType, urlEncodingEnabled, logAll, headers, queryParams, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.HEAD, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -278,20 +212,10 @@ public class HeadRequest extends GetRequest {
     public Response headMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll,
                                   Map<String, String> headers, Map<String, Object> queryParams, Map<String, Object> body, String tokenType,
                                   String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers("Authorization", tokenType + " " + accessToken).headers(headers)
-                        .queryParams(queryParams).body(body).when().head(url).then().extract().response();
-                log.info(defaultFirstMessage + headMessage + defaultLastMessage + "url=" + url + ", contentType="
-                        + contentType + ", urlEncodingEnabled=" + urlEncodingEnabled + ", logAll=" + logAll
-                        + ", headers=(Authorization: " + tokenType + " " + accessToken + ", " + headers.toString()
-                        + "), queryParams=(" + queryParams.toString() + "), body=(" + body.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.HEAD, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).body(body)
+                .build());
     }
 
     /**
@@ -315,10 +239,10 @@ public class HeadRequest extends GetRequest {
     public Response headMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll,
                                   Map<String, String> headers, Map<String, Object> queryParams, Map<String, Object> body, String tokenType,
                                   String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return headMethod(url, contentType, urlEncodingEnabled, logAll, headers, queryParams, body, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.HEAD, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -337,20 +261,9 @@ public class HeadRequest extends GetRequest {
     public Response headMethod(String url, ContentType contentType, boolean urlEncodingEnabled,
                                   Map<String, Object> params, Boolean logAll, Map<String, String> headers, String tokenType,
                                   String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers("Authorization", tokenType + " " + accessToken).headers(headers)
-                        .params(params).when().head(url).then().extract().response();
-                log.info(defaultFirstMessage + headMessage + defaultLastMessage + "url=" + url + ", contentType="
-                        + contentType + ", urlEncodingEnabled=" + urlEncodingEnabled + ", logAll=" + logAll
-                        + ", headers=(Authorization: " + tokenType + " " + accessToken + ", " + headers.toString()
-                        + "), params=(" + params.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.HEAD, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).params(params).build());
     }
 
     /**
@@ -373,9 +286,30 @@ public class HeadRequest extends GetRequest {
     public Response headMethod(String url, ContentType contentType, boolean urlEncodingEnabled,
                                   Map<String, Object> params, Boolean logAll, Map<String, String> headers, String tokenType,
                                   String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return headMethod(url, contentType, urlEncodingEnabled, params, logAll, headers, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.HEAD, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).params(params)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
+    }
+
+    /**
+     * Realiza uma requisição HEAD simples de forma assíncrona, sem alterar a resposta armazenada.
+     *
+     * @param url URL do endpoint onde a requisição será realizada.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> headMethodAsync(String url) {
+        return sendAsync(RequestDefinition.builder(Method.HEAD, url).build());
+    }
+
+    /**
+     * Realiza uma requisição HEAD com cabeçalhos de forma assíncrona.
+     *
+     * @param url     URL do endpoint.
+     * @param headers Map com cabeçalhos HTTP adicionais.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> headMethodAsync(String url, Map<String, String> headers) {
+        return sendAsync(RequestDefinition.builder(Method.HEAD, url).headers(headers).build());
     }
 }
@@ -1,18 +1,15 @@
 package controller.request.methods;
 
-import static io.restassured.RestAssured.given;
-
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import controller.request.executor.RequestDefinition;
 import io.restassured.http.ContentType;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
-import lombok.extern.log4j.Log4j2;
 
-@Log4j2
 public class OptionsRequest extends HeadRequest {
 
-    private String optionsMessage = "options ";
-
     /**
      * Método para realizar uma requisição OPTIONS simples a uma URL.
      *
@@ -20,15 +17,7 @@ public class OptionsRequest extends HeadRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response optionsMethod(String url) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().when().options(url);
-                log.info(defaultFirstMessage + optionsMessage + defaultLastMessage + "url=" + url);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.OPTIONS, url).build());
     }
 
     /**
@@ -41,10 +30,8 @@ public class OptionsRequest extends HeadRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response optionsMethod(String url, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return optionsMethod(url);
+        return send(RequestDefinition.builder(Method.OPTIONS, url)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -56,16 +43,8 @@ public class OptionsRequest extends HeadRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response optionsMethod(String url, String tokenType, String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().headers("Authorization", tokenType + " " + accessToken).when().options(url);
-                log.info(defaultFirstMessage + optionsMessage + defaultLastMessage + "url=" + url + ", headers=(Authorization: "
-                        + tokenType + " " + accessToken + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.OPTIONS, url).authorization(tokenType, accessToken)
+                .build());
     }
 
     /**
@@ -80,10 +59,8 @@ public class OptionsRequest extends HeadRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response optionsMethod(String url, String tokenType, String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return optionsMethod(url, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.OPTIONS, url).authorization(tokenType, accessToken)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -94,16 +71,7 @@ public class OptionsRequest extends HeadRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response optionsMethod(String url, Map<String, String> headers) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().headers(headers).when().options(url);
-                log.info(defaultFirstMessage + optionsMessage + defaultLastMessage + "url=" + url + ", headers=("
-                        + headers.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.OPTIONS, url).headers(headers).build());
     }
 
     /**
@@ -117,10 +85,8 @@ public class OptionsRequest extends HeadRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response optionsMethod(String url, Map<String, String> headers, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return optionsMethod(url, headers);
+        return send(RequestDefinition.builder(Method.OPTIONS, url).headers(headers)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -133,16 +99,8 @@ public class OptionsRequest extends HeadRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response optionsMethod(String url, Map<String, String> headers, String tokenType, String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().headers("Authorization", tokenType + " " + accessToken).headers(headers).when().options(url);
-                log.info(defaultFirstMessage + optionsMessage + defaultLastMessage + "url=" + url + ", headers=(Authorization: "
-                        + tokenType + " " + accessToken + ", " + headers.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.OPTIONS, url).authorization(tokenType, accessToken)
+                .headers(headers).build());
     }
 
     /**
@@ -158,10 +116,8 @@ public class OptionsRequest extends HeadRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response optionsMethod(String url, Map<String, String> headers, String tokenType, String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return optionsMethod(url, headers, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.OPTIONS, url).authorization(tokenType, accessToken)
+                .headers(headers).timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -173,16 +129,8 @@ public class OptionsRequest extends HeadRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response optionsMethod(String url, Map<String, String> headers, Map<String, Object> queryParams) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().headers(headers).queryParams(queryParams).when().options(url);
-                log.info(defaultFirstMessage + optionsMessage + defaultLastMessage + "url=" + url + ", headers=("
-                        + headers.toString() + "), queryParams=(" + queryParams.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.OPTIONS, url).headers(headers).queryParams(queryParams)
+                .build());
     }
 
     /**
@@ -197,10 +145,8 @@ public class OptionsRequest extends HeadRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response optionsMethod(String url, Map<String, String> headers, Map<String, Object> queryParams, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return optionsMethod(url, headers, queryParams);
+        return send(RequestDefinition.builder(Method.OPTIONS, url).headers(headers).queryParams(queryParams)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -219,20 +165,9 @@ public class OptionsRequest extends HeadRequest {
     public Response optionsMethod(String url, ContentType contentType, Boolean urlEncodingEnabled, Boolean logAll,
                                      Map<String, String> headers, Map<String, Object> queryParams, String tokenType,
                                      String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers("Authorization", tokenType + " " + accessToken).headers(headers)
-                        .queryParams(queryParams).when().options(url).then().extract().response();
-                log.info(defaultFirstMessage + optionsMessage + defaultLastMessage + "url=" + url + ", contentType="
-                        + contentType + ", urlEncodingEnabled=" + urlEncodingEnabled + ", logAll=" + logAll
-                        + ", headers=(Authorization: " + tokenType + " " + accessToken + ", " + headers.toString()
-                        + "), queryParams=(" + queryParams.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.OPTIONS, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).build());
     }
 
     /**
@@ -253,10 +188,10 @@ public class OptionsRequest extends HeadRequest {
      */
     public Response optionsMethod(String url, ContentType contentType, Boolean urlEncodingEnabled, Boolean logAll,
                                      Map<String, String> headers, Map<String, Object> queryParams, String tokenType, String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return optionsMethod(url, contentType, urlEncodingEnabled, logAll, headers, queryParams, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.OPTIONS, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -276,20 +211,10 @@ public class OptionsRequest extends HeadRequest {
     public Response optionsMethod(String url, ContentType contentType, Boolean urlEncodingEnabled, Boolean logAll,
                                      Map<String, String> headers, Map<String, Object> queryParams, Map<String, Object> body, String tokenType,
                                      String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers("Authorization", tokenType + " " + accessToken).headers(headers)
-                        .queryParams(queryParams).body(body).when().options(url).then().extract().response();
-                log.info(defaultFirstMessage + optionsMessage + defaultLastMessage + "url=" + url + ", contentType="
-                        + contentType + ", urlEncodingEnabled=" + urlEncodingEnabled + ", logAll=" + logAll
-                        + ", headers=(Authorization: " + tokenType + " " + accessToken + ", " + headers.toString()
-                        + "), queryParams=(" + queryParams.toString() + "), body=(" + body.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.OPTIONS, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).body(body)
+                .build());
     }
 
     /**
@@ -312,10 +237,10 @@ public class OptionsRequest extends HeadRequest {
     public Response optionsMethod(String url, ContentType contentType, Boolean urlEncodingEnabled, Boolean logAll,
                                      Map<String, String> headers, Map<String, Object> queryParams, Map<String, Object> body, String tokenType,
                                      String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return optionsMethod(url, contentType, urlEncodingEnabled, logAll, headers, queryParams, body, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.OPTIONS, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -334,20 +259,9 @@ public class OptionsRequest extends HeadRequest {
     public Response optionsMethod(String url, ContentType contentType, Boolean urlEncodingEnabled,
                                      Map<String, Object> params, Boolean logAll, Map<String, String> headers, String tokenType,
                                      String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers("Authorization", tokenType + " " + accessToken).headers(headers)
-                        .params(params).when().options(url).then().extract().response();
-                log.info(defaultFirstMessage + optionsMessage + defaultLastMessage + "url=" + url + ", contentType="
-                        + contentType + ", urlEncodingEnabled=" + urlEncodingEnabled + ", logAll=" + logAll
-                        + ", headers=(Authorization: " + tokenType + " " + accessToken + ", " + headers.toString()
-                        + "), params=(" + params.toString() + ")");
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.OPTIONS, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).params(params).build());
     }
 
     /**
@@ -369,9 +283,30 @@ public class OptionsRequest extends HeadRequest {
     public Response optionsMethod(String url, ContentType contentType, Boolean urlEncodingEnabled,
                                      Map<String, Object> params, Boolean logAll, Map<String, String> headers, String tokenType,
                                      String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return optionsMethod(url, contentType, urlEncodingEnabled, params, logAll, headers, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.OPTIONS, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).params(params)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
+    }
+
+    /**
+     * Método para realizar uma requisição OPTIONS simples de forma assíncrona, sem alterar a resposta armazenada.
+     *
+     * @param url URL do endpoint onde a requisição será realizada.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> optionsMethodAsync(String url) {
+        return sendAsync(RequestDefinition.builder(Method.OPTIONS, url).build());
+    }
+
+    /**
+     * Método para realizar uma requisição OPTIONS com cabeçalhos de forma assíncrona.
+     *
+     * @param url     URL do endpoint.
+     * @param headers Map com cabeçalhos HTTP adicionais.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> optionsMethodAsync(String url, Map<String, String> headers) {
+        return sendAsync(RequestDefinition.builder(Method.OPTIONS, url).headers(headers).build());
     }
 }
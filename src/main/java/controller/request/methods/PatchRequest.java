@@ -1,20 +1,16 @@
 package controller.request.methods;
 
-import static io.restassured.RestAssured.given;
-
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
-import com.google.gson.Gson;
-
+import controller.request.body.RequestBody;
+import controller.request.executor.RequestDefinition;
 import io.restassured.http.ContentType;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
-import lombok.extern.log4j.Log4j2;
 
-@Log4j2
 public class PatchRequest extends OptionsRequest {
 
-    private String patchMessage = "patch ";
-
     /**
      * Método para realizar uma requisição PATCH simples com um corpo (body).
      *
@@ -23,15 +19,7 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, Map<String, Object> body) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().body(body).when().patch(url);
-                log.info(defaultFirstMessage + patchMessage + defaultLastMessage + "url=" + url + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.PATCH, url).body(body).build());
     }
 
     /**
@@ -45,10 +33,8 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, Map<String, Object> body, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return patchMethod(url, body);
+        return send(RequestDefinition.builder(Method.PATCH, url).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -60,15 +46,8 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, Map<String, Object> body, String tokenAndType) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().body(body).headers("Authorization", tokenAndType).when().patch(url);
-                log.info(defaultFirstMessage + patchMessage + defaultLastMessage + "url=" + url + ", body=" + body + ", Authorization=" + tokenAndType);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.PATCH, url).authorization(tokenAndType).body(body)
+                .build());
     }
 
     /**
@@ -83,10 +62,8 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, Map<String, Object> body, String tokenAndType, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return patchMethod(url, body, tokenAndType);
+        return send(RequestDefinition.builder(Method.PATCH, url).authorization(tokenAndType).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -99,15 +76,8 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, Map<String, Object> body, String tokenType, String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().body(body).headers("Authorization", tokenType + " " + accessToken).when().patch(url);
-                log.info(defaultFirstMessage + patchMessage + defaultLastMessage + "url=" + url + ", body=" + body + ", Authorization=" + tokenType + " " + accessToken);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.PATCH, url).authorization(tokenType, accessToken)
+                .body(body).build());
     }
 
     /**
@@ -123,10 +93,8 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, Map<String, Object> body, String tokenType, String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return patchMethod(url, body, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.PATCH, url).authorization(tokenType, accessToken)
+                .body(body).timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -141,16 +109,9 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll, Map<String, String> headers, Map<String, Object> body) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers(headers).body(new Gson().toJson(body)).when().patch(url).then().extract().response();
-                log.info(defaultFirstMessage + patchMessage + defaultLastMessage + "url=" + url + ", contentType=" + contentType + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.PATCH, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).body(body).build());
     }
 
     /**
@@ -168,10 +129,9 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll, Map<String, String> headers, Map<String, Object> body, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return patchMethod(url, contentType, urlEncodingEnabled, logAll, headers, body);
+        return send(RequestDefinition.builder(Method.PATCH, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).body(body).timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -187,17 +147,9 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll, Map<String, String> headers, Map<String, Object> queryParams, Map<String, Object> body) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers(headers).queryParams(queryParams).body(new Gson().toJson(body)).when().patch(url)
-                        .then().extract().response();
-                log.info(defaultFirstMessage + patchMessage + defaultLastMessage + "url=" + url + ", contentType=" + contentType + ", queryParams=" + queryParams + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.PATCH, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).queryParams(queryParams).body(body).build());
     }
 
     /**
@@ -216,10 +168,10 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll, Map<String, String> headers, Map<String, Object> queryParams, Map<String, Object> body, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return patchMethod(url, contentType, urlEncodingEnabled, logAll, headers, queryParams, body);
+        return send(RequestDefinition.builder(Method.PATCH, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).queryParams(queryParams).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
 
@@ -237,17 +189,9 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll, Map<String, String> headers, Map<String, Object> body, String tokenType, String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers("Authorization", tokenType + " " + accessToken).headers(headers)
-                        .body(new Gson().toJson(body)).when().patch(url).then().extract().response();
-                log.info(defaultFirstMessage + patchMessage + defaultLastMessage + "url=" + url + ", contentType=" + contentType + ", tokenType=" + tokenType + ", accessToken=" + accessToken + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.PATCH, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).body(body).build());
     }
 
     /**
@@ -267,10 +211,10 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll, Map<String, String> headers, Map<String, Object> body, String tokenType, String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return patchMethod(url, contentType, urlEncodingEnabled, logAll, headers, body, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.PATCH, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -288,17 +232,9 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Map<String, Object> params, Boolean logAll, Map<String, String> headers, Map<String, Object> body, String tokenType, String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers("Authorization", tokenType + " " + accessToken).headers(headers)
-                        .params(params).body(new Gson().toJson(body)).when().patch(url).then().extract().response();
-                log.info(defaultFirstMessage + patchMessage + defaultLastMessage + "url=" + url + ", contentType=" + contentType + ", tokenType=" + tokenType + ", accessToken=" + accessToken + ", params=" + params + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.PATCH, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).params(params).body(body).build());
     }
 
     /**
@@ -319,10 +255,10 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Map<String, Object> params, Boolean logAll, Map<String, String> headers, Map<String, Object> body, String tokenType, String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return patchMethod(url, contentType, urlEncodingEnabled, params, logAll, headers, body, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.PATCH, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).params(params).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -339,16 +275,9 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll, Map<String, String> headers, Map<String, Object> body, Map<String, Object> userName, Map<String, Object> password) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers(headers).body(userName).body(password).body(new Gson().toJson(body)).when().patch(url).then().extract().response();
-                log.info(defaultFirstMessage + patchMessage + defaultLastMessage + "url=" + url + ", contentType=" + contentType + ", userName=" + userName + ", password=" + password + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.PATCH, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).body(body).build());
     }
 
     /**
@@ -368,10 +297,9 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll, Map<String, String> headers, Map<String, Object> body, Map<String, Object> userName, Map<String, Object> password, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return patchMethod(url, contentType, urlEncodingEnabled, logAll, headers, body, userName, password);
+        return send(RequestDefinition.builder(Method.PATCH, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).body(body).timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -389,17 +317,10 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll, Map<String, String> headers, Map<String, Object> queryParams, Map<String, Object> body, String tokenType, String accessToken) {
-        return executeWithRetry(() -> {
-            try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers("Authorization", tokenType + " " + accessToken).headers(headers)
-                        .queryParams(queryParams).body(new Gson().toJson(body)).when().patch(url).then().extract().response();
-                log.info(defaultFirstMessage + patchMessage + defaultLastMessage + "url=" + url + ", contentType=" + contentType + ", tokenType=" + tokenType + ", accessToken=" + accessToken + ", queryParams=" + queryParams + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-        });
+        return send(RequestDefinition.builder(Method.PATCH, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).body(body)
+                .build());
     }
 
     /**
@@ -420,10 +341,72 @@ public class PatchRequest extends OptionsRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response patchMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll, Map<String, String> headers, Map<String, Object> queryParams, Map<String, Object> body, String tokenType, String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return patchMethod(url, contentType, urlEncodingEnabled, logAll, headers, queryParams, body, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.PATCH, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
+    }
+
+    /**
+     * Método para realizar uma requisição PATCH com corpo binário ou em fluxo, sem convertê-lo em String.
+     *
+     * @param url  URL do endpoint.
+     * @param body Corpo da requisição (bytes, ByteBuffer, InputStream ou arquivo).
+     * @return Response objeto contendo a resposta da requisição.
+     */
+    public Response patchMethod(String url, RequestBody body) {
+        return send(RequestDefinition.builder(Method.PATCH, url).relaxedHTTPSValidation().body(body).build());
     }
 
+    /**
+     * Método para realizar uma requisição PATCH com cabeçalhos e corpo binário ou em fluxo.
+     *
+     * @param url     URL do endpoint.
+     * @param headers Map com cabeçalhos HTTP.
+     * @param body    Corpo da requisição (bytes, ByteBuffer, InputStream ou arquivo).
+     * @return Response objeto contendo a resposta da requisição.
+     */
+    public Response patchMethod(String url, Map<String, String> headers, RequestBody body) {
+        return send(RequestDefinition.builder(Method.PATCH, url).relaxedHTTPSValidation().headers(headers).body(body)
+                .build());
+    }
+
+    /**
+     * Método para realizar uma requisição PATCH simples com corpo de forma assíncrona, sem alterar a resposta armazenada.
+     *
+     * @param url  URL do endpoint.
+     * @param body Mapa com os dados a serem enviados no corpo da requisição.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> patchMethodAsync(String url, Map<String, Object> body) {
+        return sendAsync(RequestDefinition.builder(Method.PATCH, url).body(body).build());
+    }
+
+    /**
+     * Método PATCH com cabeçalhos e corpo da requisição de forma assíncrona.
+     *
+     * @param url               URL do endpoint.
+     * @param contentType       Tipo de conteúdo (Content-Type).
+     * @param urlEncodingEnabled Habilita ou desabilita codificação de URL.
+     * @param logAll            Define se a requisição inteira deve ser logada.
+     * @param headers           Cabeçalhos HTTP.
+     * @param body              Corpo da requisição.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> patchMethodAsync(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll, Map<String, String> headers, Map<String, Object> body) {
+        return sendAsync(RequestDefinition.builder(Method.PATCH, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).body(body).build());
+    }
+
+    /**
+     * Método para realizar uma requisição PATCH com corpo binário ou em fluxo de forma assíncrona.
+     *
+     * @param url  URL do endpoint.
+     * @param body Corpo da requisição (bytes, ByteBuffer, InputStream ou arquivo).
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> patchMethodAsync(String url, RequestBody body) {
+        return sendAsync(RequestDefinition.builder(Method.PATCH, url).relaxedHTTPSValidation().body(body).build());
+    }
 }
@@ -1,22 +1,21 @@
 package controller.request.methods;
 
-import static io.restassured.RestAssured.given;
-
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
-import com.google.gson.Gson;
-
+import controller.request.body.RequestBody;
+import controller.request.executor.RequestDefinition;
 import io.restassured.http.ContentType;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
-import lombok.extern.log4j.Log4j2;
 
-@Log4j2
 public class PostRequest extends PatchRequest {
 
-    private String postMessage = "post ";
-
     /**
      * Método para realizar uma requisição POST simples com um corpo (body).
      *
@@ -25,16 +24,8 @@ public class PostRequest extends PatchRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response postMethod(String url, Map<String, Object> body) {
-    	return executeWithRetry(() -> {
-	        try {
-	            response = given().contentType(ContentType.JSON).relaxedHTTPSValidation().urlEncodingEnabled(false)
-	                    .log().all(true).body(new Gson().toJson(body)).post(url).then().extract().response();
-	            log.info(defaultFirstMessage + postMessage + defaultLastMessage + "url=" + url + ", body=" + body);
-	        } catch (Exception e) {
-	            log.error("error: " + e);
-	        }
-	        return response;
-    	});
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation()
+                .contentType(ContentType.JSON).body(body).build());
     }
 
     /**
@@ -49,10 +40,9 @@ public class PostRequest extends PatchRequest {
      */
     public Response postMethod(String url, Map<String, Object> body, Integer connectionTimeout,
                                   Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return postMethod(url, body);
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation()
+                .contentType(ContentType.JSON).body(body).timeouts(connectionTimeout, readTimeout, retryCount)
+                .build());
     }
 
     /**
@@ -64,18 +54,9 @@ public class PostRequest extends PatchRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response postMethod(Map<String, Object> body, Map<String, String> headers, String url) {
-    	return executeWithRetry(() -> {
-    		try {
-               response = given().contentType(ContentType.JSON).relaxedHTTPSValidation().urlEncodingEnabled(false)
-                        .log().all(true).headers(headers).body(new Gson().toJson(body)).post(url).then()
-                        .extract().response();
-                log.info(defaultFirstMessage + postMessage + defaultLastMessage + "url=" + url + ", headers="
-                        + headers + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-    	});
+        return send(RequestDefinition.builder(Method.POST, url).contentType(ContentType.JSON)
+                .relaxedHTTPSValidation().urlEncodingEnabled(false).logAll(true).headers(headers).body(body)
+                .build());
     }
 
     /**
@@ -91,10 +72,9 @@ public class PostRequest extends PatchRequest {
      */
     public Response postMethod(Map<String, Object> body, Map<String, String> headers, String url,
                                   Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return postMethod(body, headers, url);
+        return send(RequestDefinition.builder(Method.POST, url).contentType(ContentType.JSON)
+                .relaxedHTTPSValidation().urlEncodingEnabled(false).logAll(true).headers(headers).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -106,17 +86,8 @@ public class PostRequest extends PatchRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response postMethod(String url, Map<String, String> headers, Map<String, Object> queryParams) {
-    	return executeWithRetry(() -> {
-    		try {
-    	           response = given().relaxedHTTPSValidation().log().all().headers(headers).queryParams(queryParams)
-    	                    .when().post(url);
-    	            log.info(defaultFirstMessage + postMessage + defaultLastMessage + "url=" + url + ", headers="
-    	                    + headers + ", queryParams=" + queryParams);
-    	        } catch (Exception e) {
-    	            log.error("error: " + e);
-    	        }
-    	        return response;
-    	});
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation().logAll(true)
+                .headers(headers).queryParams(queryParams).build());
     }
 
     /**
@@ -132,10 +103,9 @@ public class PostRequest extends PatchRequest {
      */
     public Response postMethod(String url, Map<String, String> headers, Map<String, Object> queryParams,
                                   Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return postMethod(url, headers, queryParams);
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation().logAll(true)
+                .headers(headers).queryParams(queryParams)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -149,17 +119,8 @@ public class PostRequest extends PatchRequest {
      */
     public Response postMethod(String url, Map<String, String> headers, Map<String, Object> queryParams,
                                   String proxy) {
-    	return executeWithRetry(() -> {
-    		try {
-    	           response = given().relaxedHTTPSValidation().log().all().headers(headers).proxy(proxy)
-    	                    .queryParams(queryParams).when().post(url);
-    	            log.info(defaultFirstMessage + postMessage + defaultLastMessage + "url=" + url + ", headers="
-    	                    + headers + ", queryParams=" + queryParams + ", proxy=" + proxy);
-    	        } catch (Exception e) {
-    	            log.error("error: " + e);
-    	        }
-    	        return response;
-    	});
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation().logAll(true)
+                .headers(headers).proxy(proxy).queryParams(queryParams).build());
     }
 
     /**
@@ -176,10 +137,9 @@ public class PostRequest extends PatchRequest {
      */
     public Response postMethod(String url, Map<String, String> headers, Map<String, Object> queryParams,
                                   String proxy, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return postMethod(url, headers, queryParams, proxy);
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation().logAll(true)
+                .headers(headers).proxy(proxy).queryParams(queryParams)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
 
@@ -193,17 +153,8 @@ public class PostRequest extends PatchRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response postMethod(String url, String token, Map<String, String> headers, Map<String, Object> body) {
-    	return executeWithRetry(() -> {
-    		try {
-    	           response = given().relaxedHTTPSValidation().log().all().headers("Authorization", token)
-    	                    .headers(headers).body(body).when().post(url);
-    	            log.info(defaultFirstMessage + postMessage + defaultLastMessage + "url=" + url + ", token="
-    	                    + token + ", headers=" + headers + ", body=" + body);
-    	        } catch (Exception e) {
-    	            log.error("error: " + e);
-    	        }
-    	        return response;
-    	});
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation().logAll(true)
+                .authorization(token).headers(headers).body(body).build());
     }
 
     /**
@@ -220,10 +171,9 @@ public class PostRequest extends PatchRequest {
      */
     public Response postMethod(String url, String token, Map<String, String> headers, Map<String, Object> body,
                                   Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return postMethod(url, token, headers, body);
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation().logAll(true)
+                .authorization(token).headers(headers).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -234,15 +184,8 @@ public class PostRequest extends PatchRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response postMethod(String url, JSONObject body) {
-    	return executeWithRetry(() -> {
-    		try {
-    	           response = given().relaxedHTTPSValidation().body(body).when().post(url);
-    	            log.info(defaultFirstMessage + postMessage + defaultLastMessage + "url=" + url + ", body=" + body);
-    	        } catch (Exception e) {
-    	            log.error("error: " + e);
-    	        }
-    	        return response;
-    	});
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation()
+                .contentType(ContentType.JSON).body(body).build());
     }
 
     /**
@@ -257,10 +200,9 @@ public class PostRequest extends PatchRequest {
      */
     public Response postMethod(String url, JSONObject body, Integer connectionTimeout,
                                   Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return postMethod(url, body);
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation()
+                .contentType(ContentType.JSON).body(body).timeouts(connectionTimeout, readTimeout, retryCount)
+                .build());
     }
 
     /**
@@ -271,16 +213,8 @@ public class PostRequest extends PatchRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response postMethod(String url, String body) {
-    	return executeWithRetry(() -> {
-    		try {
-    	           response = given().relaxedHTTPSValidation().contentType(ContentType.JSON).body(body).when()
-    	                    .post(url);
-    	            log.info(defaultFirstMessage + postMessage + defaultLastMessage + "url=" + url + ", body=" + body);
-    	        } catch (Exception e) {
-    	            log.error("error: " + e);
-    	        }
-    	        return response;
-    	});
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation()
+                .contentType(ContentType.JSON).body(body).build());
     }
 
     /**
@@ -295,10 +229,9 @@ public class PostRequest extends PatchRequest {
      */
     public Response postMethod(String url, String body, Integer connectionTimeout,
                                   Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return postMethod(url, body);
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation()
+                .contentType(ContentType.JSON).body(body).timeouts(connectionTimeout, readTimeout, retryCount)
+                .build());
     }
 
     /**
@@ -311,17 +244,8 @@ public class PostRequest extends PatchRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response postMethod(String url, String body, Map<String, String> headers, String proxy) {
-    	return executeWithRetry(() -> {
-    		try {
-    	           response = given().relaxedHTTPSValidation().proxy(proxy).contentType(ContentType.JSON)
-    	                    .headers(headers).body(body).when().post(url);
-    	            log.info(defaultFirstMessage + postMessage + defaultLastMessage + "url=" + url + ", headers="
-    	                    + headers + ", proxy=" + proxy + ", body=" + body);
-    	        } catch (Exception e) {
-    	            log.error("error: " + e);
-    	        }
-    	        return response;
-    	});
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation().proxy(proxy)
+                .contentType(ContentType.JSON).headers(headers).body(body).build());
     }
 
     /**
@@ -338,10 +262,9 @@ public class PostRequest extends PatchRequest {
      */
     public Response postMethod(String url, String body, Map<String, String> headers, String proxy,
                                   Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return postMethod(url, body, headers, proxy);
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation().proxy(proxy)
+                .contentType(ContentType.JSON).headers(headers).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -353,17 +276,8 @@ public class PostRequest extends PatchRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response postMethod(String url, JSONObject body, String token) {
-    	return executeWithRetry(() -> {
-    		try {
-    	           response = given().headers("Authorization", token).body(body.toString()).log().all()
-    	                    .when().post(url);
-    	            log.info(defaultFirstMessage + postMessage + defaultLastMessage + "url=" + url + ", token="
-    	                    + token + ", body=" + body);
-    	        } catch (Exception e) {
-    	            log.error("error: " + e);
-    	        }
-    	        return response;
-    	});
+        return send(RequestDefinition.builder(Method.POST, url).authorization(token).logAll(true).body(body)
+                .build());
     }
 
     /**
@@ -379,10 +293,8 @@ public class PostRequest extends PatchRequest {
      */
     public Response postMethod(String url, JSONObject body, String token, Integer connectionTimeout,
                                   Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return postMethod(url, body, token);
+        return send(RequestDefinition.builder(Method.POST, url).authorization(token).logAll(true).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -398,18 +310,9 @@ public class PostRequest extends PatchRequest {
      */
     public Response postMethod(String url, ContentType contentType, boolean urlEncodingEnabled,
                                   Boolean logAll, Map<String, String> headers, Map<String, Object> body) {
-    	return executeWithRetry(() -> {
-    		try {
-    	           response = given().contentType(contentType).relaxedHTTPSValidation()
-    	                    .urlEncodingEnabled(urlEncodingEnabled).log().all(logAll).headers(headers)
-    	                    .body(new Gson().toJson(body)).post(url).then().extract().response();
-    	            log.info(defaultFirstMessage + postMessage + defaultLastMessage + "url=" + url
-    	                    + ", contentType=" + contentType + ", body=" + body);
-    	        } catch (Exception e) {
-    	            log.error("error: " + e);
-    	        }
-    	        return response;
-    	});
+        return send(RequestDefinition.builder(Method.POST, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).body(body).build());
     }
 
     /**
@@ -429,10 +332,9 @@ public class PostRequest extends PatchRequest {
     public Response postMethod(String url, ContentType contentType, boolean urlEncodingEnabled,
                                   Boolean logAll, Map<String, String> headers, Map<String, Object> body,
                                   Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return postMethod(url, contentType, urlEncodingEnabled, logAll, headers, body);
+        return send(RequestDefinition.builder(Method.POST, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).body(body).timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -450,19 +352,9 @@ public class PostRequest extends PatchRequest {
     public Response postMethod(String url, ContentType contentType, boolean urlEncodingEnabled,
                                   Boolean logAll, Map<String, String> headers, Map<String, Object> queryParams,
                                   Map<String, Object> body) {
-    	return executeWithRetry(() -> {
-    		try {
-    	           response = given().contentType(contentType).relaxedHTTPSValidation()
-    	                    .urlEncodingEnabled(urlEncodingEnabled).log().all(logAll).headers(headers)
-    	                    .queryParams(queryParams).body(new Gson().toJson(body)).post(url).then().extract()
-    	                    .response();
-    	            log.info(defaultFirstMessage + postMessage + defaultLastMessage + "url=" + url
-    	                    + ", contentType=" + contentType + ", queryParams=" + queryParams + ", body=" + body);
-    	        } catch (Exception e) {
-    	            log.error("error: " + e);
-    	        }
-    	        return response;
-    	});
+        return send(RequestDefinition.builder(Method.POST, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).queryParams(queryParams).body(body).build());
     }
 
 
@@ -486,10 +378,10 @@ public class PostRequest extends PatchRequest {
                                   Boolean logAll, Map<String, String> headers, Map<String, Object> queryParams,
                                   Map<String, Object> body, Integer connectionTimeout, Integer readTimeout,
                                   Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return postMethod(url, contentType, urlEncodingEnabled, logAll, headers, queryParams, body);
+        return send(RequestDefinition.builder(Method.POST, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).queryParams(queryParams).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -508,20 +400,9 @@ public class PostRequest extends PatchRequest {
     public Response postMethod(String url, ContentType contentType, boolean urlEncodingEnabled,
                                   Boolean logAll, Map<String, String> headers, Map<String, Object> body,
                                   String tokenType, String accessToken) {
-    	return executeWithRetry(() -> {
-    		try {
-    	           response = given().contentType(contentType).relaxedHTTPSValidation()
-    	                    .urlEncodingEnabled(urlEncodingEnabled).log().all(logAll)
-    	                    .headers("Authorization", tokenType + " " + accessToken).headers(headers)
-    	                    .body(new Gson().toJson(body)).post(url).then().extract().response();
-    	            log.info(defaultFirstMessage + postMessage + defaultLastMessage + "url=" + url
-    	                    + ", token=" + tokenType + " " + accessToken + ", contentType=" + contentType
-    	                    + ", body=" + body);
-    	        } catch (Exception e) {
-    	            log.error("error: " + e);
-    	        }
-    	        return response;
-    	});
+        return send(RequestDefinition.builder(Method.POST, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).body(body).build());
     }
 
     /**
@@ -545,11 +426,10 @@ public class PostRequest extends PatchRequest {
                                   Boolean logAll, Map<String, String> headers, Map<String, Object> body,
                                   String tokenType, String accessToken, Integer connectionTimeout,
                                   Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return postMethod(url, contentType, urlEncodingEnabled, logAll, headers, body, tokenType,
-                accessToken);
+        return send(RequestDefinition.builder(Method.POST, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -569,21 +449,10 @@ public class PostRequest extends PatchRequest {
     public Response postMethod(String url, ContentType contentType, boolean urlEncodingEnabled,
                                   Boolean logAll, Map<String, String> headers, Map<String, Object> queryParams,
                                   Map<String, Object> body, String tokenType, String accessToken) {
-    	return executeWithRetry(() -> {
-    		try {
-    	           response = given().contentType(contentType).relaxedHTTPSValidation()
-    	                    .urlEncodingEnabled(urlEncodingEnabled).log().all(logAll)
-    	                    .headers("Authorization", tokenType + " " + accessToken).headers(headers)
-    	                    .queryParams(queryParams).body(new Gson().toJson(body)).post(url).then()
-    	                    .extract().response();
-    	            log.info(defaultFirstMessage + postMessage + defaultLastMessage + "url=" + url
-    	                    + ", token=" + tokenType + " " + accessToken + ", contentType=" + contentType
-    	                    + ", queryParams=" + queryParams + ", body=" + body);
-    	        } catch (Exception e) {
-    	            log.error("error: " + e);
-    	        }
-    	        return response;
-    	});
+        return send(RequestDefinition.builder(Method.POST, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).body(body)
+                .build());
     }
 
     /**
@@ -608,11 +477,10 @@ public class PostRequest extends PatchRequest {
                                   Boolean logAll, Map<String, String> headers, Map<String, Object> queryParams,
                                   Map<String, Object> body, String tokenType, String accessToken,
                                   Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return postMethod(url, contentType, urlEncodingEnabled, logAll, headers, queryParams, body,
-                tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.POST, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -632,21 +500,9 @@ public class PostRequest extends PatchRequest {
     public Response postMethod(String url, ContentType contentType, boolean urlEncodingEnabled,
                                   Map<String, Object> params, Boolean logAll, Map<String, String> headers,
                                   Map<String, Object> body, String tokenType, String accessToken) {
-    	return executeWithRetry(() -> {
-    		try {
-    	           response = given().contentType(contentType).relaxedHTTPSValidation()
-    	                    .urlEncodingEnabled(urlEncodingEnabled).log().all(logAll)
-    	                    .headers("Authorization", tokenType + " " + accessToken).headers(headers)
-    	                    .params(params).body(new Gson().toJson(body)).post(url).then().extract()
-    	                    .response();
-    	            log.info(defaultFirstMessage + postMessage + defaultLastMessage + "url=" + url
-    	                    + ", token=" + tokenType + " " + accessToken + ", contentType=" + contentType
-    	                    + ", params=" + params + ", body=" + body);
-    	        } catch (Exception e) {
-    	            log.error("error: " + e);
-    	        }
-    	        return response;
-    	});
+        return send(RequestDefinition.builder(Method.POST, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).params(params).body(body).build());
     }
 
     /**
@@ -671,11 +527,10 @@ public class PostRequest extends PatchRequest {
                                   Map<String, Object> params, Boolean logAll, Map<String, String> headers,
                                   Map<String, Object> body, String tokenType, String accessToken,
                                   Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return postMethod(url, contentType, urlEncodingEnabled, params, logAll, headers, body,
-                tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.POST, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).params(params).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -697,21 +552,9 @@ public class PostRequest extends PatchRequest {
                                   Boolean logAll, Map<String, String> headers, Map<String, Object> body,
                                   Map<String, Object> userName, Map<String, Object> password,
                                   String tokenType, String accessToken) {
-    	return executeWithRetry(() -> {
-    		try {
-    	           response = given().contentType(contentType).relaxedHTTPSValidation()
-    	                    .urlEncodingEnabled(urlEncodingEnabled).log().all(logAll)
-    	                    .headers("Authorization", tokenType + " " + accessToken).headers(headers)
-    	                    .body(userName).body(password).body(new Gson().toJson(body)).post(url).then()
-    	                    .extract().response();
-    	            log.info(defaultFirstMessage + postMessage + defaultLastMessage + "url=" + url
-    	                    + ", token=" + tokenType + " " + accessToken + ", contentType=" + contentType
-    	                    + ", body=" + body);
-    	        } catch (Exception e) {
-    	            log.error("error: " + e);
-    	        }
-    	        return response;
-    	});
+        return send(RequestDefinition.builder(Method.POST, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).body(body).build());
     }
 
     /**
@@ -738,11 +581,132 @@ public class PostRequest extends PatchRequest {
                                   Map<String, Object> userName, Map<String, Object> password,
                                   String tokenType, String accessToken, Integer connectionTimeout,
                                   Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-        return postMethod(url, contentType, urlEncodingEnabled, logAll, headers, body, userName,
-                password, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.POST, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
+    }
+
+    /**
+     * Método para realizar uma requisição POST com corpo binário ou em fluxo, sem convertê-lo em String.
+     *
+     * @param url  URL do endpoint.
+     * @param body Corpo da requisição (bytes, ByteBuffer, InputStream ou arquivo).
+     * @return Response objeto contendo a resposta da requisição.
+     */
+    public Response postMethod(String url, RequestBody body) {
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation().body(body).build());
     }
 
+    /**
+     * Método para realizar uma requisição POST com cabeçalhos e corpo binário ou em fluxo.
+     *
+     * @param url     URL do endpoint.
+     * @param headers Map com cabeçalhos HTTP.
+     * @param body    Corpo da requisição (bytes, ByteBuffer, InputStream ou arquivo).
+     * @return Response objeto contendo a resposta da requisição.
+     */
+    public Response postMethod(String url, Map<String, String> headers, RequestBody body) {
+        return send(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation().headers(headers).body(body)
+                .build());
+    }
+
+    /**
+     * Método para realizar uma requisição POST com corpo do tipo byte[].
+     *
+     * @param url  URL do endpoint.
+     * @param body Bytes enviados no corpo da requisição, sem cópia.
+     * @return Response objeto contendo a resposta da requisição.
+     */
+    public Response postMethod(String url, byte[] body) {
+        return postMethod(url, RequestBody.of(body));
+    }
+
+    /**
+     * Método para realizar uma requisição POST com corpo do tipo ByteBuffer.
+     *
+     * @param url  URL do endpoint.
+     * @param body Buffer com os bytes enviados no corpo da requisição.
+     * @return Response objeto contendo a resposta da requisição.
+     */
+    public Response postMethod(String url, ByteBuffer body) {
+        return postMethod(url, RequestBody.of(body));
+    }
+
+    /**
+     * Método para realizar uma requisição POST com corpo do tipo InputStream.
+     *
+     * @param url  URL do endpoint.
+     * @param body Fluxo enviado em partes (chunked); a requisição não é repetida em caso de falha.
+     * @return Response objeto contendo a resposta da requisição.
+     */
+    public Response postMethod(String url, InputStream body) {
+        return postMethod(url, RequestBody.of(body));
+    }
+
+    /**
+     * Método para realizar uma requisição POST com corpo do tipo Path.
+     *
+     * @param url  URL do endpoint.
+     * @param file Arquivo transmitido do disco sem ser carregado na memória.
+     * @return Response objeto contendo a resposta da requisição.
+     */
+    public Response postMethod(String url, Path file) {
+        return postMethod(url, RequestBody.of(file));
+    }
+
+    /**
+     * Método para realizar uma requisição POST simples com corpo de forma assíncrona, sem alterar a resposta armazenada.
+     *
+     * @param url  URL do endpoint.
+     * @param body Mapa com os dados a serem enviados no corpo da requisição.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> postMethodAsync(String url, Map<String, Object> body) {
+        return sendAsync(RequestDefinition.builder(Method.POST, url).contentType(ContentType.JSON)
+                .relaxedHTTPSValidation().urlEncodingEnabled(false).logAll(true).body(body).build());
+    }
+
+    /**
+     * Método para realizar uma requisição POST com headers de forma assíncrona.
+     *
+     * @param body    Mapa com os dados a serem enviados no corpo da requisição.
+     * @param headers Map com cabeçalhos HTTP.
+     * @param url     URL do endpoint.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> postMethodAsync(Map<String, Object> body, Map<String, String> headers, String url) {
+        return sendAsync(RequestDefinition.builder(Method.POST, url).contentType(ContentType.JSON)
+                .relaxedHTTPSValidation().urlEncodingEnabled(false).logAll(true).headers(headers).body(body)
+                .build());
+    }
+
+    /**
+     * Método para realizar uma requisição POST com cabeçalhos e corpo de forma assíncrona.
+     *
+     * @param url                URL do endpoint.
+     * @param contentType        Tipo de conteúdo (Content-Type).
+     * @param urlEncodingEnabled Habilita ou desabilita codificação de URL.
+     * @param logAll             Boolean para logar a requisição inteira.
+     * @param headers            Map com cabeçalhos HTTP.
+     * @param body               Mapa com os dados a serem enviados no corpo da requisição.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> postMethodAsync(String url, ContentType contentType, boolean urlEncodingEnabled,
+                                  Boolean logAll, Map<String, String> headers, Map<String, Object> body) {
+        return sendAsync(RequestDefinition.builder(Method.POST, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).body(body).build());
+    }
+
+    /**
+     * Método para realizar uma requisição POST com corpo binário ou em fluxo de forma assíncrona.
+     *
+     * @param url  URL do endpoint.
+     * @param body Corpo da requisição (bytes, ByteBuffer, InputStream ou arquivo).
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> postMethodAsync(String url, RequestBody body) {
+        return sendAsync(RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation().body(body).build());
+    }
 }
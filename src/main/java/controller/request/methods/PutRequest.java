@@ -1,20 +1,19 @@
 package controller.request.methods;
 
-import static io.restassured.RestAssured.given;
-
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
-import com.google.gson.Gson;
-
+import controller.request.body.RequestBody;
+import controller.request.executor.RequestDefinition;
 import io.restassured.http.ContentType;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
-import lombok.extern.log4j.Log4j2;
 
-@Log4j2
 public class PutRequest extends PostRequest {
 
-    private String putMessage = "put ";
-
     /**
      * Método para realizar uma requisição PUT simples com um corpo (body).
      *
@@ -23,15 +22,7 @@ public class PutRequest extends PostRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response putMethod(String url, Map<String, Object> body) {
-    	return executeWithRetry(() -> {
-    		try {
-                response = given().body(body).when().put(url);
-                log.info(defaultFirstMessage + putMessage + defaultLastMessage + "url=" + url + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-    	});
+        return send(RequestDefinition.builder(Method.PUT, url).body(body).build());
     }
     
     /**
@@ -42,10 +33,8 @@ public class PutRequest extends PostRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response putMethod(String url, Map<String, Object> body, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-    	return putMethod(url, body);
+        return send(RequestDefinition.builder(Method.PUT, url).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -57,15 +46,7 @@ public class PutRequest extends PostRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response putMethod(String url, Map<String, Object> body, String tokenAndType) {
-    	return executeWithRetry(() -> {
-    		try {
-                response = given().body(body).headers("Authorization", tokenAndType).when().put(url);
-                log.info(defaultFirstMessage + putMessage + defaultLastMessage + "url=" + url + ", token=" + tokenAndType + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-    	});
+        return send(RequestDefinition.builder(Method.PUT, url).authorization(tokenAndType).body(body).build());
     }
     
     /**
@@ -77,10 +58,8 @@ public class PutRequest extends PostRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response putMethod(String url, Map<String, Object> body, String tokenAndType, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-    	return putMethod(url, body, tokenAndType);
+        return send(RequestDefinition.builder(Method.PUT, url).authorization(tokenAndType).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -93,15 +72,8 @@ public class PutRequest extends PostRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response putMethod(String url, Map<String, Object> body, String tokenType, String accessToken) {
-    	return executeWithRetry(() -> {
-    		try {
-                response = given().body(body).headers("Authorization", tokenType + " " + accessToken).when().put(url);
-                log.info(defaultFirstMessage + putMessage + defaultLastMessage + "url=" + url + ", token=" + tokenType + " " + accessToken + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-    	});
+        return send(RequestDefinition.builder(Method.PUT, url).authorization(tokenType, accessToken)
+                .body(body).build());
     }
     
     /**
@@ -114,10 +86,8 @@ public class PutRequest extends PostRequest {
      * @return Response objeto contendo a resposta da requisição.
      */
     public Response putMethod(String url, Map<String, Object> body, String tokenType, String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-    	return putMethod(url, body, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.PUT, url).authorization(tokenType, accessToken)
+                .body(body).timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -133,16 +103,9 @@ public class PutRequest extends PostRequest {
      */
     public Response putMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll,
                                  Map<String, String> headers, Map<String, Object> body) {
-    	return executeWithRetry(() -> {
-    		try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers(headers).body(new Gson().toJson(body)).put(url).then().extract().response();
-                log.info(defaultFirstMessage + putMessage + defaultLastMessage + "url=" + url + ", contentType=" + contentType + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-    	});
+        return send(RequestDefinition.builder(Method.PUT, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).body(body).build());
     }
     
     /**
@@ -158,10 +121,9 @@ public class PutRequest extends PostRequest {
      */
     public Response putMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll,
                                  Map<String, String> headers, Map<String, Object> body, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-    	return putMethod(url, contentType, urlEncodingEnabled, logAll, headers, body);
+        return send(RequestDefinition.builder(Method.PUT, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).body(body).timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -178,17 +140,9 @@ public class PutRequest extends PostRequest {
      */
     public Response putMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll,
                                  Map<String, String> headers, Map<String, Object> queryParams, Map<String, Object> body) {
-    	return executeWithRetry(() -> {
-    		try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers(headers).queryParams(queryParams).body(new Gson().toJson(body)).put(url)
-                        .then().extract().response();
-                log.info(defaultFirstMessage + putMessage + defaultLastMessage + "url=" + url + ", contentType=" + contentType + ", queryParams=" + queryParams + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-    	});
+        return send(RequestDefinition.builder(Method.PUT, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).queryParams(queryParams).body(body).build());
     }
     
     /**
@@ -206,10 +160,10 @@ public class PutRequest extends PostRequest {
     public Response putMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll,
                                  Map<String, String> headers, Map<String, Object> queryParams, Map<String, Object> body,
                                  Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-    	return putMethod(url, contentType, urlEncodingEnabled, logAll, headers, queryParams, body);
+        return send(RequestDefinition.builder(Method.PUT, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).queryParams(queryParams).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -228,17 +182,9 @@ public class PutRequest extends PostRequest {
     public Response putMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll,
                                  Map<String, String> headers, Map<String, Object> body, Map<String, Object> userName,
                                  Map<String, Object> password) {
-    	return executeWithRetry(() -> {
-    		try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers(headers).body(userName).body(password).body(new Gson().toJson(body)).put(url)
-                        .then().extract().response();
-                log.info(defaultFirstMessage + putMessage + defaultLastMessage + "url=" + url + ", contentType=" + contentType + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-    	});
+        return send(RequestDefinition.builder(Method.PUT, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).body(body).build());
     }
     
     /**
@@ -257,10 +203,9 @@ public class PutRequest extends PostRequest {
     public Response putMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll,
                                  Map<String, String> headers, Map<String, Object> body, Map<String, Object> userName,
                                  Map<String, Object> password, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-    	return putMethod(url, contentType, urlEncodingEnabled, logAll, headers, body, userName, password);
+        return send(RequestDefinition.builder(Method.PUT, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).body(body).timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -278,17 +223,9 @@ public class PutRequest extends PostRequest {
      */
     public Response putMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll,
                                  Map<String, String> headers, Map<String, Object> body, String tokenType, String accessToken) {
-    	return executeWithRetry(() -> {
-    		try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers("Authorization", tokenType + " " + accessToken).headers(headers)
-                        .body(new Gson().toJson(body)).put(url).then().extract().response();
-                log.info(defaultFirstMessage + putMessage + defaultLastMessage + "url=" + url + ", token=" + tokenType + " " + accessToken + ", contentType=" + contentType + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-    	});
+        return send(RequestDefinition.builder(Method.PUT, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).body(body).build());
     }
     
     /**
@@ -307,10 +244,10 @@ public class PutRequest extends PostRequest {
     public Response putMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll,
                                  Map<String, String> headers, Map<String, Object> body, String tokenType, String accessToken,
                                  Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-    	return putMethod(url, contentType, urlEncodingEnabled, logAll, headers, body, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.PUT, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -330,17 +267,10 @@ public class PutRequest extends PostRequest {
     public Response putMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll,
                                  Map<String, String> headers, Map<String, Object> queryParams, Map<String, Object> body, String tokenType,
                                  String accessToken) {
-    	return executeWithRetry(() -> {
-    		try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers("Authorization", tokenType + " " + accessToken).headers(headers)
-                        .queryParams(queryParams).body(new Gson().toJson(body)).put(url).then().extract().response();
-                log.info(defaultFirstMessage + putMessage + defaultLastMessage + "url=" + url + ", token=" + tokenType + " " + accessToken + ", contentType=" + contentType + ", queryParams=" + queryParams + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-    	});
+        return send(RequestDefinition.builder(Method.PUT, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).body(body)
+                .build());
     }
     
     /**
@@ -360,11 +290,10 @@ public class PutRequest extends PostRequest {
     public Response putMethod(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll,
                                  Map<String, String> headers, Map<String, Object> queryParams, Map<String, Object> body, String tokenType,
                                  String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-    	return putMethod(url, contentType, urlEncodingEnabled, logAll, headers, queryParams, body, tokenType,
-                accessToken);
+        return send(RequestDefinition.builder(Method.PUT, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).queryParams(queryParams).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
     }
 
     /**
@@ -384,17 +313,9 @@ public class PutRequest extends PostRequest {
     public Response putMethod(String url, ContentType contentType, boolean urlEncodingEnabled,
                                  Map<String, Object> params, Boolean logAll, Map<String, String> headers, Map<String, Object> body,
                                  String tokenType, String accessToken) {
-    	return executeWithRetry(() -> {
-    		try {
-                response = given().contentType(contentType).relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled)
-                        .log().all(logAll).headers("Authorization", tokenType + " " + accessToken).headers(headers).params(params)
-                        .body(new Gson().toJson(body)).put(url).then().extract().response();
-                log.info(defaultFirstMessage + putMessage + defaultLastMessage + "url=" + url + ", token=" + tokenType + " " + accessToken + ", contentType=" + contentType + ", params=" + params + ", body=" + body);
-            } catch (Exception e) {
-                log.error("error: " + e);
-            }
-            return response;
-    	});
+        return send(RequestDefinition.builder(Method.PUT, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).params(params).body(body).build());
     }
     
     /**
@@ -414,9 +335,117 @@ public class PutRequest extends PostRequest {
     public Response putMethod(String url, ContentType contentType, boolean urlEncodingEnabled,
                                  Map<String, Object> params, Boolean logAll, Map<String, String> headers, Map<String, Object> body,
                                  String tokenType, String accessToken, Integer connectionTimeout, Integer readTimeout, Integer retryCount) {
-    	this.connectionTimeout = connectionTimeout;
-        this.readTimeout = readTimeout;
-        this.retryCount = readTimeout;
-    	return putMethod(url, contentType, urlEncodingEnabled, params, logAll, headers, body, tokenType, accessToken);
+        return send(RequestDefinition.builder(Method.PUT, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .authorization(tokenType, accessToken).headers(headers).params(params).body(body)
+                .timeouts(connectionTimeout, readTimeout, retryCount).build());
+    }
+
+    /**
+     * Método para realizar uma requisição PUT com corpo binário ou em fluxo, sem convertê-lo em String.
+     *
+     * @param url  URL do endpoint.
+     * @param body Corpo da requisição (bytes, ByteBuffer, InputStream ou arquivo).
+     * @return Response objeto contendo a resposta da requisição.
+     */
+    public Response putMethod(String url, RequestBody body) {
+        return send(RequestDefinition.builder(Method.PUT, url).relaxedHTTPSValidation().body(body).build());
+    }
+
+    /**
+     * Método para realizar uma requisição PUT com cabeçalhos e corpo binário ou em fluxo.
+     *
+     * @param url     URL do endpoint.
+     * @param headers Map com cabeçalhos HTTP.
+     * @param body    Corpo da requisição (bytes, ByteBuffer, InputStream ou arquivo).
+     * @return Response objeto contendo a resposta da requisição.
+     */
+    public Response putMethod(String url, Map<String, String> headers, RequestBody body) {
+        return send(RequestDefinition.builder(Method.PUT, url).relaxedHTTPSValidation().headers(headers).body(body)
+                .build());
+    }
+
+    /**
+     * Método para realizar uma requisição PUT com corpo do tipo byte[].
+     *
+     * @param url  URL do endpoint.
+     * @param body Bytes enviados no corpo da requisição, sem cópia.
+     * @return Response objeto contendo a resposta da requisição.
+     */
+    public Response putMethod(String url, byte[] body) {
+        return putMethod(url, RequestBody.of(body));
+    }
+
+    /**
+     * Método para realizar uma requisição PUT com corpo do tipo ByteBuffer.
+     *
+     * @param url  URL do endpoint.
+     * @param body Buffer com os bytes enviados no corpo da requisição.
+     * @return Response objeto contendo a resposta da requisição.
+     */
+    public Response putMethod(String url, ByteBuffer body) {
+        return putMethod(url, RequestBody.of(body));
+    }
+
+    /**
+     * Método para realizar uma requisição PUT com corpo do tipo InputStream.
+     *
+     * @param url  URL do endpoint.
+     * @param body Fluxo enviado em partes (chunked); a requisição não é repetida em caso de falha.
+     * @return Response objeto contendo a resposta da requisição.
+     */
+    public Response putMethod(String url, InputStream body) {
+        return putMethod(url, RequestBody.of(body));
+    }
+
+    /**
+     * Método para realizar uma requisição PUT com corpo do tipo Path.
+     *
+     * @param url  URL do endpoint.
+     * @param file Arquivo transmitido do disco sem ser carregado na memória.
+     * @return Response objeto contendo a resposta da requisição.
+     */
+    public Response putMethod(String url, Path file) {
+        return putMethod(url, RequestBody.of(file));
+    }
+
+    /**
+     * Método para realizar uma requisição PUT simples com corpo de forma assíncrona, sem alterar a resposta armazenada.
+     *
+     * @param url  URL do endpoint.
+     * @param body Mapa com os dados a serem enviados no corpo da requisição.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> putMethodAsync(String url, Map<String, Object> body) {
+        return sendAsync(RequestDefinition.builder(Method.PUT, url).body(body).build());
+    }
+
+    /**
+     * Método para realizar uma requisição PUT com cabeçalhos e corpo de forma assíncrona.
+     *
+     * @param url                URL do endpoint.
+     * @param contentType        Tipo de conteúdo (Content-Type).
+     * @param urlEncodingEnabled Habilita ou desabilita codificação de URL.
+     * @param logAll             Boolean para logar a requisição inteira.
+     * @param headers            Map com cabeçalhos HTTP.
+     * @param body               Mapa com os dados a serem enviados no corpo da requisição.
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> putMethodAsync(String url, ContentType contentType, boolean urlEncodingEnabled, Boolean logAll,
+                                 Map<String, String> headers, Map<String, Object> body) {
+        return sendAsync(RequestDefinition.builder(Method.PUT, url).contentType(contentType)
+                .relaxedHTTPSValidation().urlEncodingEnabled(urlEncodingEnabled).logAll(logAll)
+                .headers(headers).body(body).build());
+    }
+
+    /**
+     * Método para realizar uma requisição PUT com corpo binário ou em fluxo de forma assíncrona.
+     *
+     * @param url  URL do endpoint.
+     * @param body Corpo da requisição (bytes, ByteBuffer, InputStream ou arquivo).
+     * @return CompletableFuture que será completado com a resposta da requisição.
+     */
+    public CompletableFuture<Response> putMethodAsync(String url, RequestBody body) {
+        return sendAsync(RequestDefinition.builder(Method.PUT, url).relaxedHTTPSValidation().body(body).build());
     }
 }
@@ -0,0 +1,111 @@
+package controller.request.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latências com resolução relativa de aproximadamente 1,6%.
+ * <p>
+ * Os valores (em microssegundos) são distribuídos em baldes log-lineares: até
+ * 127µs cada valor tem o seu balde e, acima disso, cada potência de dois é
+ * dividida em 64 baldes. Assim o histograma ocupa memória fixa, aceita
+ * gravações concorrentes sem lock e calcula qualquer percentil sem guardar as
+ * amostras.
+ */
+public final class LatencyHistogram {
+
+	private static final int LINEAR_BUCKETS = 128;
+	private static final int SUB_BUCKETS = 64;
+	private static final int SUB_BUCKET_BITS = 6;
+	private static final int BUCKET_COUNT = LINEAR_BUCKETS + 56 * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong errors = new AtomicLong();
+	private final AtomicLong sum = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Registra uma latência.
+	 *
+	 * @param micros Latência (em microssegundos).
+	 */
+	public void record(long micros) {
+		long value = Math.max(0, micros);
+		buckets.incrementAndGet(indexOf(value));
+		count.incrementAndGet();
+		sum.addAndGet(value);
+		max.accumulateAndGet(value, Math::max);
+	}
+
+	/**
+	 * Registra uma chamada que terminou em exceção, sem latência associada.
+	 */
+	public void recordError() {
+		errors.incrementAndGet();
+	}
+
+	public long getCount() {
+		return count.get();
+	}
+
+	public long getErrors() {
+		return errors.get();
+	}
+
+	/**
+	 * Latência máxima registrada (em microssegundos, valor exato).
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Latência média (em microssegundos).
+	 */
+	public double getMean() {
+		long total = count.get();
+		return total == 0 ? 0 : (double) sum.get() / total;
+	}
+
+	/**
+	 * Retorna o percentil informado.
+	 *
+	 * @param percentile Percentil entre 0 e 100 (ex: 99.9).
+	 * @return long maior latência equivalente ao balde do percentil (em
+	 *         microssegundos).
+	 */
+	public long getPercentile(double percentile) {
+		long total = count.get();
+		if (total == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+		long accumulated = 0;
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			accumulated += buckets.get(index);
+			if (accumulated >= target) {
+				return Math.min(highestValueOf(index), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	private static int indexOf(long value) {
+		if (value < LINEAR_BUCKETS) {
+			return (int) value;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) ((value >> shift) - SUB_BUCKETS);
+	}
+
+	private static long highestValueOf(int index) {
+		if (index < LINEAR_BUCKETS) {
+			return index;
+		}
+		int offset = index - LINEAR_BUCKETS;
+		int shift = offset / SUB_BUCKETS + 1;
+		long subBucket = offset % SUB_BUCKETS + SUB_BUCKETS;
+		return ((subBucket + 1) << shift) - 1;
+	}
+}
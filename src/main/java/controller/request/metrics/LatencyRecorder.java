@@ -0,0 +1,138 @@
+package controller.request.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import controller.request.codec.JsonCodec;
+import controller.request.codec.JsonCodecs;
+import io.restassured.http.Method;
+import lombok.extern.log4j.Log4j2;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+
+/**
+ * Registra a latência de todas as chamadas HTTP por endpoint.
+ * <p>
+ * Cada chamada é agrupada pelo método HTTP e pelo modelo da URL (ver
+ * {@link UrlTemplate}), ex: `GET /BookStore/v1/Book/{id}`. Ao final da execução
+ * os percentis p50/p90/p99/p999, o máximo e as contagens de cada endpoint são
+ * gravados em JSON, um endpoint por linha, no arquivo definido em
+ * `metrics.latency.report`.
+ */
+@Log4j2
+public final class LatencyRecorder {
+
+	private static final LatencyRecorder INSTANCE = new LatencyRecorder(new ConfigurationsProperties());
+
+	private final boolean enabled;
+	private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+	private LatencyRecorder(ConfigurationsProperties configurationsProperties) {
+		enabled = configurationsProperties.isLatencyMetricsEnabled();
+		if (enabled) {
+			Path report = Paths.get(configurationsProperties.getLatencyReportFile());
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> writeReport(report), "http-latency-report"));
+		}
+	}
+
+	/**
+	 * Retorna o registrador padrão, compartilhado pela JVM.
+	 *
+	 * @return LatencyRecorder configurado com o `configurations.properties`.
+	 */
+	public static LatencyRecorder getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Registra a latência de uma chamada concluída.
+	 *
+	 * @param method       Método HTTP.
+	 * @param url          URL da requisição.
+	 * @param elapsedNanos Duração da chamada (em nanossegundos).
+	 */
+	public void record(Method method, String url, long elapsedNanos) {
+		if (enabled) {
+			histogramFor(method, url).record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+		}
+	}
+
+	/**
+	 * Registra uma chamada que terminou em exceção.
+	 *
+	 * @param method Método HTTP.
+	 * @param url    URL da requisição.
+	 */
+	public void recordError(Method method, String url) {
+		if (enabled) {
+			histogramFor(method, url).recordError();
+		}
+	}
+
+	/**
+	 * Retorna o histograma do endpoint, criando-o se necessário.
+	 *
+	 * @param method Método HTTP.
+	 * @param url    URL da requisição.
+	 * @return LatencyHistogram do endpoint.
+	 */
+	public LatencyHistogram histogramFor(Method method, String url) {
+		return histograms.computeIfAbsent(method.name() + " " + UrlTemplate.of(url), key -> new LatencyHistogram());
+	}
+
+	/**
+	 * Grava o relatório de latências de todos os endpoints em JSON.
+	 *
+	 * @param report Caminho do arquivo de relatório.
+	 */
+	public void writeReport(Path report) {
+		if (histograms.isEmpty()) {
+			return;
+		}
+		List<Map<String, Object>> endpoints = new ArrayList<>();
+		new TreeMap<>(histograms).forEach((endpoint, histogram) -> {
+			Map<String, Object> line = new LinkedHashMap<>();
+			line.put("endpoint", endpoint);
+			line.put("count", histogram.getCount());
+			line.put("errors", histogram.getErrors());
+			line.put("meanMs", toMillis(histogram.getMean()));
+			line.put("p50Ms", toMillis(histogram.getPercentile(50)));
+			line.put("p90Ms", toMillis(histogram.getPercentile(90)));
+			line.put("p99Ms", toMillis(histogram.getPercentile(99)));
+			line.put("p999Ms", toMillis(histogram.getPercentile(99.9)));
+			line.put("maxMs", toMillis(histogram.getMax()));
+			endpoints.add(line);
+		});
+		try {
+			if (report.getParent() != null) {
+				Files.createDirectories(report.getParent());
+			}
+			JsonCodec codec = JsonCodecs.getCodec();
+			try (Writer writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+				writer.write("[\n");
+				for (int index = 0; index < endpoints.size(); index++) {
+					writer.write(index == 0 ? "  " : ",\n  ");
+					writer.write(new String(codec.write(endpoints.get(index)), StandardCharsets.UTF_8));
+				}
+				writer.write("\n]\n");
+			}
+			log.info("Relatório de latência por endpoint gravado em " + report.toAbsolutePath());
+		} catch (IOException e) {
+			log.error("Erro ao gravar o relatório de latência: " + e.getMessage());
+		}
+	}
+
+	private static double toMillis(double micros) {
+		return Math.round(micros) / 1000.0;
+	}
+}
@@ -0,0 +1,152 @@
+package controller.request.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import controller.request.codec.JsonCodec;
+import controller.request.codec.JsonCodecs;
+import lombok.extern.log4j.Log4j2;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+
+/**
+ * Registra, por endpoint, os bytes trafegados antes e depois da compressão.
+ * <p>
+ * Nas respostas são contados os bytes recebidos pela rede e os bytes do corpo
+ * descompactado; nas requisições compactadas, o tamanho original do corpo e o
+ * tamanho enviado. Os endpoints são agrupados como no {@link LatencyRecorder} e
+ * o relatório é gravado em JSON ao final da execução, no arquivo definido em
+ * `metrics.transfer.report`.
+ */
+@Log4j2
+public final class TransferRecorder {
+
+	private static final TransferRecorder INSTANCE = new TransferRecorder(new ConfigurationsProperties());
+
+	private final boolean enabled;
+	private final Map<String, TransferStats> endpoints = new ConcurrentHashMap<>();
+
+	private TransferRecorder(ConfigurationsProperties configurationsProperties) {
+		enabled = configurationsProperties.isTransferMetricsEnabled();
+		if (enabled) {
+			Path report = Paths.get(configurationsProperties.getTransferReportFile());
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> writeReport(report), "http-transfer-report"));
+		}
+	}
+
+	/**
+	 * Retorna o registrador padrão, compartilhado pela JVM.
+	 *
+	 * @return TransferRecorder configurado com o `configurations.properties`.
+	 */
+	public static TransferRecorder getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Registra o corpo de uma resposta lida por completo.
+	 *
+	 * @param method       Método HTTP.
+	 * @param url          URL (ou caminho) da requisição.
+	 * @param wireBytes    Bytes recebidos pela rede (compactados).
+	 * @param decodedBytes Bytes do corpo descompactado.
+	 */
+	public void recordResponse(String method, String url, long wireBytes, long decodedBytes) {
+		if (enabled) {
+			TransferStats stats = statsFor(method, url);
+			stats.responses.increment();
+			stats.responseWireBytes.add(wireBytes);
+			stats.responseBytes.add(decodedBytes);
+		}
+	}
+
+	/**
+	 * Registra o corpo de uma requisição enviada compactado.
+	 *
+	 * @param method    Método HTTP.
+	 * @param url       URL da requisição.
+	 * @param bodyBytes Tamanho original do corpo.
+	 * @param wireBytes Tamanho do corpo compactado enviado.
+	 */
+	public void recordRequest(String method, String url, long bodyBytes, long wireBytes) {
+		if (enabled) {
+			TransferStats stats = statsFor(method, url);
+			stats.compressedRequests.increment();
+			stats.requestBytes.add(bodyBytes);
+			stats.requestWireBytes.add(wireBytes);
+		}
+	}
+
+	private TransferStats statsFor(String method, String url) {
+		return endpoints.computeIfAbsent(method + " " + UrlTemplate.of(url), key -> new TransferStats());
+	}
+
+	/**
+	 * Grava o relatório de bytes trafegados de todos os endpoints em JSON.
+	 *
+	 * @param report Caminho do arquivo de relatório.
+	 */
+	public void writeReport(Path report) {
+		if (endpoints.isEmpty()) {
+			return;
+		}
+		try {
+			if (report.getParent() != null) {
+				Files.createDirectories(report.getParent());
+			}
+			JsonCodec codec = JsonCodecs.getCodec();
+			try (Writer writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+				writer.write("[\n");
+				boolean first = true;
+				for (Map.Entry<String, TransferStats> entry : new TreeMap<>(endpoints).entrySet()) {
+					writer.write(first ? "  " : ",\n  ");
+					writer.write(new String(codec.write(entry.getValue().toReportLine(entry.getKey())),
+							StandardCharsets.UTF_8));
+					first = false;
+				}
+				writer.write("\n]\n");
+			}
+			log.info("Relatório de bytes trafegados por endpoint gravado em " + report.toAbsolutePath());
+		} catch (IOException e) {
+			log.error("Erro ao gravar o relatório de bytes trafegados: " + e.getMessage());
+		}
+	}
+
+	private static final class TransferStats {
+
+		private final LongAdder responses = new LongAdder();
+		private final LongAdder responseWireBytes = new LongAdder();
+		private final LongAdder responseBytes = new LongAdder();
+		private final LongAdder compressedRequests = new LongAdder();
+		private final LongAdder requestBytes = new LongAdder();
+		private final LongAdder requestWireBytes = new LongAdder();
+
+		private Map<String, Object> toReportLine(String endpoint) {
+			Map<String, Object> line = new LinkedHashMap<>();
+			line.put("endpoint", endpoint);
+			line.put("responses", responses.sum());
+			line.put("responseWireBytes", responseWireBytes.sum());
+			line.put("responseBytes", responseBytes.sum());
+			line.put("responseRatio", ratio(responseWireBytes.sum(), responseBytes.sum()));
+			if (compressedRequests.sum() > 0) {
+				line.put("compressedRequests", compressedRequests.sum());
+				line.put("requestBytes", requestBytes.sum());
+				line.put("requestWireBytes", requestWireBytes.sum());
+				line.put("requestRatio", ratio(requestWireBytes.sum(), requestBytes.sum()));
+			}
+			return line;
+		}
+
+		private static double ratio(long wireBytes, long bytes) {
+			return bytes == 0 ? 1.0 : Math.round(wireBytes * 1000.0 / bytes) / 1000.0;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package controller.request.metrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * Normaliza URLs em modelos de endpoint, trocando os identificadores do
+ * caminho por `{id}` e descartando esquema, host e parâmetros de consulta.
+ * <p>
+ * Ex: `https://demoqa.com/Account/v1/User/5d6f...-a1b2?x=1` vira
+ * `/Account/v1/User/{id}`.
+ */
+public final class UrlTemplate {
+
+	private static final String ID = "{id}";
+
+	private static final Pattern NUMBER = Pattern.compile("\\d+([-.]\\d+)*");
+	private static final Pattern UUID = Pattern
+			.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+	private static final Pattern HEX = Pattern.compile("[0-9a-fA-F]{16,}");
+	private static final Pattern TOKEN = Pattern.compile("(?=.*\\d)[A-Za-z0-9_-]{20,}");
+
+	private UrlTemplate() {
+	}
+
+	/**
+	 * Retorna o modelo do endpoint da URL.
+	 *
+	 * @param url URL da requisição.
+	 * @return String caminho normalizado (ex: "/BookStore/v1/Book/{id}").
+	 */
+	public static String of(String url) {
+		String path = url;
+		int schemeEnd = path.indexOf("://");
+		if (schemeEnd >= 0) {
+			int pathStart = path.indexOf('/', schemeEnd + 3);
+			path = pathStart >= 0 ? path.substring(pathStart) : "/";
+		}
+		int queryStart = indexOfAny(path, '?', '#');
+		if (queryStart >= 0) {
+			path = path.substring(0, queryStart);
+		}
+
+		StringBuilder template = new StringBuilder();
+		for (String segment : path.split("/")) {
+			if (segment.isEmpty()) {
+				continue;
+			}
+			template.append('/').append(isIdentifier(segment) ? ID : segment);
+		}
+		return template.length() == 0 ? "/" : template.toString();
+	}
+
+	private static boolean isIdentifier(String segment) {
+		return NUMBER.matcher(segment).matches() || UUID.matcher(segment).matches()
+				|| HEX.matcher(segment).matches() || TOKEN.matcher(segment).matches();
+	}
+
+	private static int indexOfAny(String value, char first, char second) {
+		int firstIndex = value.indexOf(first);
+		int secondIndex = value.indexOf(second);
+		if (firstIndex < 0) {
+			return secondIndex;
+		}
+		return secondIndex < 0 ? firstIndex : Math.min(firstIndex, secondIndex);
+	}
+}
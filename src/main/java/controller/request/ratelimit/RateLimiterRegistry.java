@@ -0,0 +1,118 @@
+package controller.request.ratelimit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import lombok.extern.log4j.Log4j2;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+
+/**
+ * Limites de requisições por URL base ou trecho de endpoint.
+ * <p>
+ * Os limites são lidos das propriedades `ratelimit.<padrão>=<quantidade>/<s|m|h>`
+ * (ex: `ratelimit.BookStore/v1/Books=50/s`). Antes de cada envio a URL da
+ * requisição é comparada com todos os padrões e a requisição aguarda um token
+ * de cada limite que casar.
+ */
+@Log4j2
+public final class RateLimiterRegistry {
+
+	private static final RateLimiterRegistry INSTANCE = new RateLimiterRegistry(
+			new ConfigurationsProperties().getRateLimits());
+
+	private final List<Limit> limits;
+
+	/**
+	 * Cria os limites a partir do mapa padrão -> taxa (ex: "BookStore/v1/Books" ->
+	 * "50/s").
+	 *
+	 * @param rateLimits Limites configurados.
+	 */
+	public RateLimiterRegistry(Map<String, String> rateLimits) {
+		List<Limit> configuredLimits = new ArrayList<>();
+		for (Map.Entry<String, String> rateLimit : rateLimits.entrySet()) {
+			configuredLimits.add(new Limit(toPattern(rateLimit.getKey()),
+					toBucket(rateLimit.getKey(), rateLimit.getValue())));
+			log.info("Limite de requisições configurado: " + rateLimit.getKey() + " = " + rateLimit.getValue());
+		}
+		limits = Collections.unmodifiableList(configuredLimits);
+	}
+
+	/**
+	 * Retorna o registro padrão, compartilhado pela JVM.
+	 *
+	 * @return RateLimiterRegistry configurado com o `configurations.properties`.
+	 */
+	public static RateLimiterRegistry getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Aguarda os tokens de todos os limites que casam com a URL.
+	 *
+	 * @param url URL da requisição.
+	 */
+	public void acquire(String url) {
+		for (Limit limit : limits) {
+			if (limit.pattern.matcher(url).find()) {
+				long wait = limit.bucket.acquire();
+				if (wait > 0) {
+					log.debug("Requisição para " + url + " aguardou " + TimeUnit.NANOSECONDS.toMillis(wait)
+							+ "ms pelo limite " + limit.bucket.getName());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Converte o padrão da propriedade em expressão regular, tratando `*` como
+	 * curinga e o restante como texto literal.
+	 */
+	private static Pattern toPattern(String urlPattern) {
+		StringBuilder regex = new StringBuilder();
+		for (String part : urlPattern.split("\\*", -1)) {
+			if (regex.length() > 0) {
+				regex.append("[^?#]*");
+			}
+			regex.append(Pattern.quote(part));
+		}
+		return Pattern.compile(regex.toString());
+	}
+
+	/**
+	 * Cria o token bucket a partir da taxa no formato `<quantidade>/<s|m|h>`.
+	 */
+	private static TokenBucket toBucket(String name, String rate) {
+		String[] parts = rate.trim().split("/");
+		if (parts.length != 2) {
+			throw new IllegalArgumentException("Limite de requisições inválido para " + name + ": " + rate);
+		}
+		long permits = Long.parseLong(parts[0].trim());
+		switch (parts[1].trim().toLowerCase()) {
+		case "s":
+			return new TokenBucket(name, permits, 1, TimeUnit.SECONDS);
+		case "m":
+		case "min":
+			return new TokenBucket(name, permits, 1, TimeUnit.MINUTES);
+		case "h":
+			return new TokenBucket(name, permits, 1, TimeUnit.HOURS);
+		default:
+			throw new IllegalArgumentException("Unidade de tempo inválida para " + name + ": " + rate);
+		}
+	}
+
+	private static final class Limit {
+
+		private final Pattern pattern;
+		private final TokenBucket bucket;
+
+		private Limit(Pattern pattern, TokenBucket bucket) {
+			this.pattern = pattern;
+			this.bucket = bucket;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package controller.request.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket com reserva de permissões.
+ * <p>
+ * A cada chamada de {@link #acquire()} um token é reservado; se o balde estiver
+ * vazio, a thread dorme exatamente até o instante em que o seu token será
+ * reposto, sem espera ativa. As reservas são feitas sob um lock curto e a
+ * espera acontece fora dele, de modo que várias threads aguardam em paralelo e
+ * são liberadas na ordem em que reservaram.
+ */
+public final class TokenBucket {
+
+	private final String name;
+	private final double capacity;
+	private final double nanosPerToken;
+
+	private double tokens;
+	private long lastRefill;
+
+	/**
+	 * Cria um balde cheio.
+	 *
+	 * @param name    Nome do limite (usado nos logs).
+	 * @param permits Quantidade de requisições permitidas por período, que também
+	 *                é a capacidade do balde (rajada máxima).
+	 * @param period  Duração do período.
+	 * @param unit    Unidade de tempo do período.
+	 */
+	public TokenBucket(String name, long permits, long period, TimeUnit unit) {
+		if (permits < 1 || period < 1) {
+			throw new IllegalArgumentException("Limite de requisições inválido para " + name);
+		}
+		this.name = name;
+		this.capacity = permits;
+		this.nanosPerToken = (double) unit.toNanos(period) / permits;
+		this.tokens = permits;
+		this.lastRefill = System.nanoTime();
+	}
+
+	/**
+	 * Aguarda até que um token esteja disponível.
+	 *
+	 * @return long tempo aguardado (em nanossegundos).
+	 */
+	public long acquire() {
+		long wait = reserve();
+		if (wait > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(wait);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("Espera do limite de requisições " + name + " interrompida", e);
+			}
+		}
+		return wait;
+	}
+
+	/**
+	 * Reserva um token e calcula quanto tempo falta para ele ser reposto. O saldo
+	 * pode ficar negativo, representando as reservas ainda em espera.
+	 */
+	private synchronized long reserve() {
+		long now = System.nanoTime();
+		tokens = Math.min(capacity, tokens + (now - lastRefill) / nanosPerToken);
+		lastRefill = now;
+		tokens -= 1;
+		return tokens >= 0 ? 0 : (long) Math.ceil(-tokens * nanosPerToken);
+	}
+
+	public String getName() {
+		return name;
+	}
+}
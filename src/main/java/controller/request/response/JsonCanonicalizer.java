@@ -0,0 +1,359 @@
+package controller.request.response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Compactação e forma canônica de documentos JSON.
+ * <p>
+ * {@link #minify} remove os espaços e quebras de linha fora das Strings em uma
+ * única passada sobre os bytes, sem interpretar o documento, e serve para
+ * registrar respostas em uma linha. {@link #canonicalize} gera uma forma
+ * estável do documento (campos em ordem alfabética, números normalizados e
+ * Strings com escape uniforme), de modo que dois JSON equivalentes geram os
+ * mesmos bytes; serve para comparar snapshots e calcular hashes
+ * ({@link #sha256}).
+ * <p>
+ * Para a ordenação, cada objeto guarda só os nomes dos campos e a posição dos
+ * valores no documento; os valores são relidos do documento na ordem dos nomes
+ * e escritos direto na saída, e os arrays são copiados elemento a elemento. O
+ * custo é reler os objetos aninhados uma vez por nível. Lido de um stream, cada
+ * objeto que não está dentro de outro objeto (ex: a raiz ou os itens de um array
+ * na raiz) é copiado uma vez para memória antes da ordenação.
+ */
+public final class JsonCanonicalizer {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	private static final int BUFFER_SIZE = 8192;
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private JsonCanonicalizer() {
+	}
+
+	/**
+	 * Remove os espaços em branco fora das Strings.
+	 *
+	 * @param json Documento JSON em UTF-8.
+	 * @return byte[] com o documento em uma linha.
+	 */
+	public static byte[] minify(byte[] json) {
+		byte[] output = new byte[json.length];
+		int length = new Minifier().strip(json, json.length, output);
+		return length == json.length ? output : Arrays.copyOf(output, length);
+	}
+
+	/**
+	 * Remove os espaços em branco fora das Strings, lendo e escrevendo em blocos.
+	 *
+	 * @param input  Documento JSON.
+	 * @param output Destino do documento compactado.
+	 */
+	public static void minify(InputStream input, OutputStream output) {
+		try {
+			Minifier minifier = new Minifier();
+			byte[] buffer = new byte[BUFFER_SIZE];
+			byte[] stripped = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = input.read(buffer)) != -1) {
+				output.write(stripped, 0, minifier.strip(buffer, read, stripped));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Erro ao compactar o JSON", e);
+		}
+	}
+
+	/**
+	 * Gera a forma canônica do documento.
+	 *
+	 * @param json Documento JSON em UTF-8.
+	 * @return byte[] com a forma canônica em UTF-8.
+	 */
+	public static byte[] canonicalize(byte[] json) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(json.length);
+		try {
+			canonicalize(json, output);
+		} catch (IOException e) {
+			throw new UncheckedIOException("JSON inválido ao gerar a forma canônica", e);
+		}
+		return output.toByteArray();
+	}
+
+	/**
+	 * Gera a forma canônica do documento lido do stream.
+	 *
+	 * @param input  Documento JSON.
+	 * @param output Destino da forma canônica em UTF-8.
+	 */
+	public static void canonicalize(InputStream input, OutputStream output) {
+		try (JsonParser parser = JSON_FACTORY.createParser(input);
+				JsonGenerator generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8)) {
+			JsonToken token = parser.nextToken();
+			if (token != null) {
+				writeStreamed(parser, token, generator);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("JSON inválido ao gerar a forma canônica", e);
+		}
+	}
+
+	/**
+	 * Calcula o SHA-256 da forma canônica do documento, sem materializá-la.
+	 *
+	 * @param json Documento JSON em UTF-8.
+	 * @return String com o hash em hexadecimal.
+	 */
+	public static String sha256(byte[] json) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		try {
+			canonicalize(json, new DigestOutputStream(OutputStream.nullOutputStream(), digest));
+		} catch (IOException e) {
+			throw new UncheckedIOException("JSON inválido ao calcular o hash", e);
+		}
+		byte[] hash = digest.digest();
+		char[] hex = new char[hash.length * 2];
+		for (int index = 0; index < hash.length; index++) {
+			hex[index * 2] = HEX[(hash[index] >> 4) & 0xF];
+			hex[index * 2 + 1] = HEX[hash[index] & 0xF];
+		}
+		return new String(hex);
+	}
+
+	private static void canonicalize(byte[] json, OutputStream output) throws IOException {
+		try (JsonParser parser = JSON_FACTORY.createParser(json);
+				JsonGenerator generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8)) {
+			JsonToken token = parser.nextToken();
+			if (token != null) {
+				write(json, 0, parser, token, generator);
+			}
+		}
+	}
+
+	/**
+	 * Escreve o valor lido do documento.
+	 *
+	 * @param json   Documento JSON.
+	 * @param offset Posição no documento em que o parser começou a leitura.
+	 */
+	private static void write(byte[] json, int offset, JsonParser parser, JsonToken token, JsonGenerator generator)
+			throws IOException {
+		if (token == JsonToken.START_OBJECT) {
+			writeObject(json, offset, parser, generator);
+		} else if (token == JsonToken.START_ARRAY) {
+			generator.writeStartArray();
+			while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+				write(json, offset, parser, token, generator);
+			}
+			generator.writeEndArray();
+		} else {
+			writeScalar(parser, token, generator);
+		}
+	}
+
+	/**
+	 * Escreve os campos do objeto em ordem alfabética (por unidade UTF-16). A
+	 * primeira leitura guarda o nome de cada campo com o valor, se for simples, ou
+	 * com a posição do objeto ou array no documento; depois os objetos e arrays
+	 * são relidos a partir da sua posição, na ordem dos nomes. Em campos repetidos
+	 * prevalece o último.
+	 */
+	private static void writeObject(byte[] json, int offset, JsonParser parser, JsonGenerator generator)
+			throws IOException {
+		Map<String, Member> members = new TreeMap<>();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.currentName();
+			JsonToken token = parser.nextToken();
+			members.put(name, token.isStructStart()
+					? new Member(token, null, offset + (int) parser.currentTokenLocation().getByteOffset())
+					: new Member(token, parser.getText(), -1));
+			parser.skipChildren();
+		}
+		generator.writeStartObject();
+		for (Map.Entry<String, Member> entry : members.entrySet()) {
+			generator.writeFieldName(entry.getKey());
+			Member member = entry.getValue();
+			if (member.position < 0) {
+				writeScalar(member.token, member.text, generator);
+			} else {
+				try (JsonParser value = JSON_FACTORY.createParser(json, member.position,
+						json.length - member.position)) {
+					write(json, member.position, value, value.nextToken(), generator);
+				}
+			}
+		}
+		generator.writeEndObject();
+	}
+
+	/**
+	 * Escreve o valor lido de um stream. Os arrays são copiados elemento a
+	 * elemento; cada objeto é copiado para memória, com os números como estão no
+	 * documento, e ordenado por {@link #writeObject}.
+	 */
+	private static void writeStreamed(JsonParser parser, JsonToken token, JsonGenerator generator)
+			throws IOException {
+		if (token == JsonToken.START_OBJECT) {
+			ByteArrayOutputStream copy = new ByteArrayOutputStream(BUFFER_SIZE);
+			try (JsonGenerator copier = JSON_FACTORY.createGenerator(copy, JsonEncoding.UTF8)) {
+				copy(parser, token, copier);
+			}
+			byte[] object = copy.toByteArray();
+			try (JsonParser objectParser = JSON_FACTORY.createParser(object)) {
+				write(object, 0, objectParser, objectParser.nextToken(), generator);
+			}
+		} else if (token == JsonToken.START_ARRAY) {
+			generator.writeStartArray();
+			while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+				writeStreamed(parser, token, generator);
+			}
+			generator.writeEndArray();
+		} else {
+			writeScalar(parser, token, generator);
+		}
+	}
+
+	/**
+	 * Copia o valor sem alterações, mantendo o texto dos números (a cópia padrão
+	 * do Jackson converte decimais para double).
+	 */
+	private static void copy(JsonParser parser, JsonToken token, JsonGenerator generator) throws IOException {
+		int depth = 0;
+		do {
+			if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+				generator.writeNumber(parser.getText());
+			} else {
+				generator.copyCurrentEvent(parser);
+				if (token.isStructStart()) {
+					depth++;
+				} else if (token.isStructEnd()) {
+					depth--;
+				}
+			}
+		} while (depth > 0 && (token = parser.nextToken()) != null);
+	}
+
+	private static void writeScalar(JsonParser parser, JsonToken token, JsonGenerator generator) throws IOException {
+		if (token == JsonToken.VALUE_STRING) {
+			generator.writeString(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+		} else {
+			writeScalar(token, parser.getText(), generator);
+		}
+	}
+
+	private static void writeScalar(JsonToken token, String text, JsonGenerator generator) throws IOException {
+		switch (token) {
+		case VALUE_STRING:
+			generator.writeString(text);
+			break;
+		case VALUE_NUMBER_INT:
+			generator.writeNumber(text.equals("-0") ? "0" : text);
+			break;
+		case VALUE_NUMBER_FLOAT:
+			generator.writeNumber(normalize(new BigDecimal(text)));
+			break;
+		case VALUE_TRUE:
+		case VALUE_FALSE:
+			generator.writeBoolean(token == JsonToken.VALUE_TRUE);
+			break;
+		case VALUE_NULL:
+			generator.writeNull();
+			break;
+		default:
+			throw new IOException("Token inesperado: " + token);
+		}
+	}
+
+	/**
+	 * Normaliza números decimais: sem zeros à direita nem expoente desnecessário
+	 * (`1.50` e `15e-1` viram `1.5`, `2.0` vira `2`). Valores muito grandes ou
+	 * muito pequenos usam notação científica (`1e+21`, `1.5e-7`).
+	 */
+	private static String normalize(BigDecimal value) {
+		if (value.signum() == 0) {
+			return "0";
+		}
+		BigDecimal stripped = value.stripTrailingZeros();
+		int exponent = stripped.precision() - stripped.scale() - 1;
+		if (exponent > -7 && exponent < 21) {
+			return stripped.toPlainString();
+		}
+		String digits = stripped.unscaledValue().abs().toString();
+		StringBuilder scientific = new StringBuilder(digits.length() + 8);
+		if (stripped.signum() < 0) {
+			scientific.append('-');
+		}
+		scientific.append(digits.charAt(0));
+		if (digits.length() > 1) {
+			scientific.append('.').append(digits, 1, digits.length());
+		}
+		return scientific.append('e').append(exponent > 0 ? "+" : "").append(exponent).toString();
+	}
+
+	/**
+	 * Campo de um objeto: o valor, se for simples, ou a posição do objeto ou array
+	 * no documento.
+	 */
+	private static final class Member {
+
+		private final JsonToken token;
+		private final String text;
+		private final int position;
+
+		private Member(JsonToken token, String text, int position) {
+			this.token = token;
+			this.text = text;
+			this.position = position;
+		}
+	}
+
+	/**
+	 * Estado da compactação entre blocos: dentro ou fora de uma String e se o
+	 * último byte foi uma barra de escape.
+	 */
+	private static final class Minifier {
+
+		private boolean inString;
+		private boolean escaped;
+
+		private int strip(byte[] input, int length, byte[] output) {
+			int position = 0;
+			for (int index = 0; index < length; index++) {
+				byte current = input[index];
+				if (inString) {
+					if (escaped) {
+						escaped = false;
+					} else if (current == '\\') {
+						escaped = true;
+					} else if (current == '"') {
+						inString = false;
+					}
+				} else if (current == ' ' || current == '\n' || current == '\r' || current == '\t') {
+					continue;
+				} else if (current == '"') {
+					inString = true;
+				}
+				output[position++] = current;
+			}
+			return position;
+		}
+	}
+}
@@ -0,0 +1,465 @@
+package controller.request.response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Comparador estrutural de documentos JSON.
+ * <p>
+ * Os dois documentos são lidos em paralelo, token a token, enquanto tiverem a
+ * mesma estrutura e a mesma ordem de campos; só quando a ordem dos campos de um
+ * objeto diverge (ou em arrays sem ordem) o restante daquele trecho é carregado
+ * para ser comparado por chave. As diferenças são informadas como JSON Pointers
+ * (ex: `/books/3/pages`).
+ * <p>
+ * Opções: caminhos ignorados (JSON Pointer com `*` para qualquer campo ou
+ * índice), arrays comparados sem considerar a ordem, tolerância numérica e
+ * campos extras permitidos no documento atual. Em {@link #matches} a comparação
+ * para na primeira diferença; em {@link #diff} todas as diferenças são
+ * listadas.
+ */
+public final class JsonDiff {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	private static final ObjectMapper TREE_READER = new ObjectMapper(JSON_FACTORY);
+	private static final String ANY = "*";
+
+	private final List<String[]> ignoredPaths;
+	private final List<String[]> unorderedPaths;
+	private final boolean allArraysUnordered;
+	private final double numericTolerance;
+	private final boolean extraFieldsAllowed;
+
+	private JsonDiff(Builder builder) {
+		ignoredPaths = new ArrayList<>(builder.ignoredPaths);
+		unorderedPaths = new ArrayList<>(builder.unorderedPaths);
+		allArraysUnordered = builder.allArraysUnordered;
+		numericTolerance = builder.numericTolerance;
+		extraFieldsAllowed = builder.extraFieldsAllowed;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Indica se os documentos são equivalentes, parando na primeira diferença.
+	 *
+	 * @param expected JSON esperado.
+	 * @param actual   JSON atual.
+	 * @return boolean true se não houver diferenças.
+	 */
+	public boolean matches(byte[] expected, byte[] actual) {
+		return compare(expected, actual, null);
+	}
+
+	/**
+	 * Lista todas as diferenças entre os documentos.
+	 *
+	 * @param expected JSON esperado.
+	 * @param actual   JSON atual.
+	 * @return List com o JSON Pointer de cada diferença, na ordem do documento
+	 *         (vazia se forem equivalentes).
+	 */
+	public List<String> diff(byte[] expected, byte[] actual) {
+		List<String> differences = new ArrayList<>();
+		compare(expected, actual, differences);
+		return differences;
+	}
+
+	private boolean compare(byte[] expected, byte[] actual, List<String> differences) {
+		try (JsonParser expectedParser = JSON_FACTORY.createParser(expected);
+				JsonParser actualParser = JSON_FACTORY.createParser(actual)) {
+			Comparison comparison = new Comparison(differences);
+			return comparison.stream(expectedParser, actualParser, expectedParser.nextToken(),
+					actualParser.nextToken());
+		} catch (IOException e) {
+			throw new UncheckedIOException("JSON inválido na comparação", e);
+		}
+	}
+
+	private static boolean pathMatches(List<String[]> patterns, List<String> path) {
+		for (String[] pattern : patterns) {
+			if (pattern.length == path.size()) {
+				boolean matches = true;
+				for (int index = 0; index < pattern.length && matches; index++) {
+					matches = pattern[index].equals(ANY) || pattern[index].equals(path.get(index));
+				}
+				if (matches) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static String[] parsePointer(String pointer) {
+		if (pointer.isEmpty() || pointer.equals("/")) {
+			return new String[0];
+		}
+		if (!pointer.startsWith("/")) {
+			throw new IllegalArgumentException("JSON Pointer deve começar com '/': " + pointer);
+		}
+		String[] segments = pointer.substring(1).split("/", -1);
+		for (int index = 0; index < segments.length; index++) {
+			segments[index] = segments[index].replace("~1", "/").replace("~0", "~");
+		}
+		return segments;
+	}
+
+	private static String toPointer(List<String> path) {
+		if (path.isEmpty()) {
+			return "";
+		}
+		StringBuilder pointer = new StringBuilder();
+		for (String segment : path) {
+			pointer.append('/').append(segment.replace("~", "~0").replace("/", "~1"));
+		}
+		return pointer.toString();
+	}
+
+	/**
+	 * Estado de uma comparação: o caminho atual e as diferenças encontradas. Sem
+	 * lista de diferenças (modo booleano), a primeira diferença interrompe a
+	 * comparação.
+	 */
+	private final class Comparison {
+
+		private final List<String> differences;
+		private final List<String> path = new ArrayList<>();
+
+		private Comparison(List<String> differences) {
+			this.differences = differences;
+		}
+
+		/**
+		 * Registra a diferença no caminho atual (acrescido do segmento, se houver).
+		 * Retorna se a comparação deve continuar.
+		 */
+		private boolean difference(String segment) {
+			if (differences == null) {
+				return false;
+			}
+			if (segment != null) {
+				path.add(segment);
+			}
+			differences.add(toPointer(path));
+			if (segment != null) {
+				path.remove(path.size() - 1);
+			}
+			return true;
+		}
+
+		private boolean stream(JsonParser expected, JsonParser actual, JsonToken expectedToken, JsonToken actualToken)
+				throws IOException {
+			if (pathMatches(ignoredPaths, path)) {
+				expected.skipChildren();
+				actual.skipChildren();
+				return true;
+			}
+			if (expectedToken == JsonToken.START_OBJECT && actualToken == JsonToken.START_OBJECT) {
+				return streamObject(expected, actual);
+			}
+			if (expectedToken == JsonToken.START_ARRAY && actualToken == JsonToken.START_ARRAY) {
+				if (isUnordered()) {
+					return compareTrees(TREE_READER.readTree(expected), TREE_READER.readTree(actual));
+				}
+				return streamArray(expected, actual);
+			}
+			if (isScalar(expectedToken) && isScalar(actualToken)) {
+				return scalarEquals(expected, expectedToken, actual, actualToken) || difference(null);
+			}
+			expected.skipChildren();
+			actual.skipChildren();
+			return difference(null);
+		}
+
+		private boolean streamObject(JsonParser expected, JsonParser actual) throws IOException {
+			JsonToken expectedToken = expected.nextToken();
+			JsonToken actualToken = actual.nextToken();
+			while (expectedToken == JsonToken.FIELD_NAME && actualToken == JsonToken.FIELD_NAME
+					&& expected.currentName().equals(actual.currentName())) {
+				path.add(expected.currentName());
+				boolean keepGoing = stream(expected, actual, expected.nextToken(), actual.nextToken());
+				path.remove(path.size() - 1);
+				if (!keepGoing) {
+					return false;
+				}
+				expectedToken = expected.nextToken();
+				actualToken = actual.nextToken();
+			}
+			if (expectedToken == JsonToken.END_OBJECT && actualToken == JsonToken.END_OBJECT) {
+				return true;
+			}
+			return compareFields(remainingFields(expected, expectedToken), remainingFields(actual, actualToken));
+		}
+
+		private boolean streamArray(JsonParser expected, JsonParser actual) throws IOException {
+			int index = 0;
+			while (true) {
+				JsonToken expectedToken = expected.nextToken();
+				JsonToken actualToken = actual.nextToken();
+				if (expectedToken == JsonToken.END_ARRAY || actualToken == JsonToken.END_ARRAY) {
+					return reportExtraElements(expected, expectedToken, index)
+							&& reportExtraElements(actual, actualToken, index);
+				}
+				path.add(Integer.toString(index));
+				boolean keepGoing = stream(expected, actual, expectedToken, actualToken);
+				path.remove(path.size() - 1);
+				if (!keepGoing) {
+					return false;
+				}
+				index++;
+			}
+		}
+
+		/**
+		 * Registra como diferença cada elemento que sobrou em um dos arrays.
+		 */
+		private boolean reportExtraElements(JsonParser parser, JsonToken token, int index) throws IOException {
+			int position = index;
+			while (token != JsonToken.END_ARRAY) {
+				parser.skipChildren();
+				path.add(Integer.toString(position++));
+				boolean ignored = pathMatches(ignoredPaths, path);
+				path.remove(path.size() - 1);
+				if (!ignored && !difference(Integer.toString(position - 1))) {
+					return false;
+				}
+				token = parser.nextToken();
+			}
+			return true;
+		}
+
+		private Map<String, JsonNode> remainingFields(JsonParser parser, JsonToken token) throws IOException {
+			Map<String, JsonNode> fields = new LinkedHashMap<>();
+			while (token == JsonToken.FIELD_NAME) {
+				String name = parser.currentName();
+				parser.nextToken();
+				fields.put(name, TREE_READER.readTree(parser));
+				token = parser.nextToken();
+			}
+			return fields;
+		}
+
+		private boolean compareFields(Map<String, JsonNode> expected, Map<String, JsonNode> actual) {
+			Set<String> names = new LinkedHashSet<>(expected.keySet());
+			if (!extraFieldsAllowed) {
+				names.addAll(actual.keySet());
+			}
+			for (String name : names) {
+				path.add(name);
+				boolean keepGoing;
+				if (pathMatches(ignoredPaths, path)) {
+					keepGoing = true;
+				} else if (!expected.containsKey(name) || !actual.containsKey(name)) {
+					keepGoing = difference(null);
+				} else {
+					keepGoing = compareTrees(expected.get(name), actual.get(name));
+				}
+				path.remove(path.size() - 1);
+				if (!keepGoing) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean compareTrees(JsonNode expected, JsonNode actual) {
+			if (pathMatches(ignoredPaths, path)) {
+				return true;
+			}
+			if (expected.isObject() && actual.isObject()) {
+				Map<String, JsonNode> expectedFields = new LinkedHashMap<>();
+				expected.fields().forEachRemaining(field -> expectedFields.put(field.getKey(), field.getValue()));
+				Map<String, JsonNode> actualFields = new LinkedHashMap<>();
+				actual.fields().forEachRemaining(field -> actualFields.put(field.getKey(), field.getValue()));
+				return compareFields(expectedFields, actualFields);
+			}
+			if (expected.isArray() && actual.isArray()) {
+				return isUnordered() ? compareUnordered(expected, actual) : compareOrdered(expected, actual);
+			}
+			if (expected.isNumber() && actual.isNumber()) {
+				return numbersEqual(expected.decimalValue(), actual.decimalValue()) || difference(null);
+			}
+			return expected.equals(actual) || difference(null);
+		}
+
+		private boolean compareOrdered(JsonNode expected, JsonNode actual) {
+			int size = Math.max(expected.size(), actual.size());
+			for (int index = 0; index < size; index++) {
+				path.add(Integer.toString(index));
+				boolean keepGoing;
+				if (pathMatches(ignoredPaths, path)) {
+					keepGoing = true;
+				} else if (index >= expected.size() || index >= actual.size()) {
+					keepGoing = difference(null);
+				} else {
+					keepGoing = compareTrees(expected.get(index), actual.get(index));
+				}
+				path.remove(path.size() - 1);
+				if (!keepGoing) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Pareia cada elemento esperado com um elemento atual equivalente ainda não
+		 * usado, tentando primeiro a mesma posição. Elementos esperados sem par (e,
+		 * sem campos extras permitidos, elementos atuais que sobraram) são
+		 * diferenças.
+		 */
+		private boolean compareUnordered(JsonNode expected, JsonNode actual) {
+			List<JsonNode> unmatched = new ArrayList<>();
+			actual.forEach(unmatched::add);
+			List<Integer> unmatchedPositions = new ArrayList<>();
+			for (int index = 0; index < actual.size(); index++) {
+				unmatchedPositions.add(index);
+			}
+			for (int index = 0; index < expected.size(); index++) {
+				path.add(Integer.toString(index));
+				int match = findMatch(expected.get(index), unmatched, Math.min(index, unmatched.size() - 1));
+				boolean ignored = pathMatches(ignoredPaths, path);
+				path.remove(path.size() - 1);
+				if (match >= 0) {
+					unmatched.remove(match);
+					unmatchedPositions.remove(match);
+				} else if (!ignored && !difference(Integer.toString(index))) {
+					return false;
+				}
+			}
+			if (!extraFieldsAllowed) {
+				for (Integer position : unmatchedPositions) {
+					if (!difference(Integer.toString(position))) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+
+		private int findMatch(JsonNode element, List<JsonNode> candidates, int preferred) {
+			if (preferred >= 0 && silentlyEqual(element, candidates.get(preferred))) {
+				return preferred;
+			}
+			for (int index = 0; index < candidates.size(); index++) {
+				if (index != preferred && silentlyEqual(element, candidates.get(index))) {
+					return index;
+				}
+			}
+			return -1;
+		}
+
+		private boolean silentlyEqual(JsonNode expected, JsonNode actual) {
+			Comparison silent = new Comparison(null);
+			silent.path.addAll(path);
+			return silent.compareTrees(expected, actual);
+		}
+
+		private boolean isUnordered() {
+			return allArraysUnordered || pathMatches(unorderedPaths, path);
+		}
+
+		private boolean scalarEquals(JsonParser expected, JsonToken expectedToken, JsonParser actual,
+				JsonToken actualToken) throws IOException {
+			if (expectedToken.isNumeric() && actualToken.isNumeric()) {
+				return numbersEqual(expected.getDecimalValue(), actual.getDecimalValue());
+			}
+			if (expectedToken != actualToken) {
+				return false;
+			}
+			return expectedToken != JsonToken.VALUE_STRING || expected.getText().equals(actual.getText());
+		}
+
+		private boolean numbersEqual(BigDecimal expected, BigDecimal actual) {
+			int comparison = expected.compareTo(actual);
+			if (comparison == 0) {
+				return true;
+			}
+			return numericTolerance > 0
+					&& expected.subtract(actual).abs().compareTo(BigDecimal.valueOf(numericTolerance)) <= 0;
+		}
+	}
+
+	private static boolean isScalar(JsonToken token) {
+		return token != null && token.isScalarValue();
+	}
+
+	/**
+	 * Builder de {@link JsonDiff}.
+	 */
+	public static final class Builder {
+
+		private final List<String[]> ignoredPaths = new ArrayList<>();
+		private final List<String[]> unorderedPaths = new ArrayList<>();
+		private boolean allArraysUnordered;
+		private double numericTolerance;
+		private boolean extraFieldsAllowed;
+
+		private Builder() {
+		}
+
+		/**
+		 * Ignora os caminhos informados (JSON Pointer; `*` casa com qualquer campo ou
+		 * índice, ex: `/books/*&#47;publish_date`).
+		 */
+		public Builder ignorePaths(String... pointers) {
+			for (String pointer : pointers) {
+				ignoredPaths.add(parsePointer(pointer));
+			}
+			return this;
+		}
+
+		/**
+		 * Compara sem considerar a ordem os arrays dos caminhos informados, ou todos os
+		 * arrays se nenhum caminho for informado.
+		 */
+		public Builder unorderedArrays(String... pointers) {
+			if (pointers.length == 0) {
+				allArraysUnordered = true;
+			}
+			for (String pointer : pointers) {
+				unorderedPaths.add(parsePointer(pointer));
+			}
+			return this;
+		}
+
+		/**
+		 * Considera iguais os números cuja diferença absoluta não passa da tolerância.
+		 */
+		public Builder numericTolerance(double tolerance) {
+			this.numericTolerance = tolerance;
+			return this;
+		}
+
+		/**
+		 * Aceita campos (e elementos de arrays sem ordem) presentes apenas no
+		 * documento atual, comparando só o que o documento esperado define.
+		 */
+		public Builder allowExtraFields() {
+			this.extraFieldsAllowed = true;
+			return this;
+		}
+
+		public JsonDiff build() {
+			return new JsonDiff(this);
+		}
+	}
+}
@@ -0,0 +1,332 @@
+package controller.request.response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Busca de vários textos de uma vez nos bytes do corpo da resposta
+ * (Aho-Corasick).
+ * <p>
+ * Os textos procurados são codificados em UTF-8 e compilados em um autômato;
+ * o corpo é percorrido uma única vez, qualquer que seja a quantidade de textos,
+ * sem decodificá-lo para String. O resultado informa quais textos foram
+ * encontrados, a posição (em bytes) da primeira ocorrência e o número de
+ * ocorrências. Os autômatos compilados ficam em cache por lista de textos, até
+ * {@value #MAX_CACHED} listas; depois disso, as novas listas são compiladas a
+ * cada chamada sem entrar no cache. Assim, textos fixos de um passo são
+ * compilados uma única vez, mas textos montados com dados dinâmicos (ex: um id
+ * gerado por cenário) não fazem o cache crescer sem limite. Para um único
+ * texto, {@link #contains(byte[], String)} procura direto nos bytes, sem
+ * autômato.
+ */
+public final class MultiPatternMatcher {
+
+	/**
+	 * Quantidade máxima de listas de textos com autômato em cache.
+	 */
+	public static final int MAX_CACHED = 256;
+
+	private static final Map<List<String>, MultiPatternMatcher> CACHE = new ConcurrentHashMap<>();
+	private static final int BUFFER_SIZE = 8192;
+
+	private final String[] needles;
+	private final int[] byteClasses = new int[256];
+	private final int classCount;
+	/** Transições completas do autômato: `transitions[estado * classCount + classe]`. */
+	private final int[] transitions;
+	/** Índices dos textos que terminam em cada estado (incluindo os sufixos). */
+	private final int[][] outputs;
+	private final int[] lengths;
+
+	private MultiPatternMatcher(List<String> needleList) {
+		needles = needleList.toArray(new String[0]);
+		byte[][] encoded = new byte[needles.length][];
+		lengths = new int[needles.length];
+		int nextClass = 1;
+		int maxStates = 1;
+		for (int index = 0; index < needles.length; index++) {
+			encoded[index] = needles[index].getBytes(StandardCharsets.UTF_8);
+			lengths[index] = encoded[index].length;
+			maxStates += encoded[index].length;
+			for (byte value : encoded[index]) {
+				if (byteClasses[value & 0xFF] == 0) {
+					byteClasses[value & 0xFF] = nextClass++;
+				}
+			}
+		}
+		classCount = nextClass;
+
+		int[] trie = new int[maxStates * classCount];
+		Arrays.fill(trie, -1);
+		List<List<Integer>> stateOutputs = new ArrayList<>();
+		stateOutputs.add(new ArrayList<Integer>());
+		int states = 1;
+		for (int index = 0; index < encoded.length; index++) {
+			int state = 0;
+			for (byte value : encoded[index]) {
+				int slot = state * classCount + byteClasses[value & 0xFF];
+				if (trie[slot] < 0) {
+					trie[slot] = states++;
+					stateOutputs.add(new ArrayList<Integer>());
+				}
+				state = trie[slot];
+			}
+			if (state > 0) {
+				stateOutputs.get(state).add(index);
+			}
+		}
+
+		transitions = Arrays.copyOf(trie, states * classCount);
+		int[] failures = new int[states];
+		Deque<Integer> queue = new ArrayDeque<>();
+		for (int byteClass = 0; byteClass < classCount; byteClass++) {
+			if (transitions[byteClass] < 0) {
+				transitions[byteClass] = 0;
+			} else {
+				queue.add(transitions[byteClass]);
+			}
+		}
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			stateOutputs.get(state).addAll(stateOutputs.get(failures[state]));
+			for (int byteClass = 0; byteClass < classCount; byteClass++) {
+				int slot = state * classCount + byteClass;
+				int fallback = transitions[failures[state] * classCount + byteClass];
+				if (transitions[slot] < 0) {
+					transitions[slot] = fallback;
+				} else {
+					failures[transitions[slot]] = fallback;
+					queue.add(transitions[slot]);
+				}
+			}
+		}
+
+		outputs = new int[states][];
+		for (int state = 0; state < states; state++) {
+			outputs[state] = stateOutputs.get(state).stream().mapToInt(Integer::intValue).toArray();
+		}
+	}
+
+	/**
+	 * Retorna o autômato dos textos informados, compilando-o no primeiro uso. Com o
+	 * cache cheio, listas novas são compiladas sem serem guardadas.
+	 *
+	 * @param needles Textos a procurar.
+	 * @return MultiPatternMatcher para a lista de textos.
+	 */
+	public static MultiPatternMatcher compile(String... needles) {
+		List<String> key = Collections.unmodifiableList(Arrays.asList(needles.clone()));
+		MultiPatternMatcher matcher = CACHE.get(key);
+		if (matcher != null) {
+			return matcher;
+		}
+		if (CACHE.size() >= MAX_CACHED) {
+			return new MultiPatternMatcher(key);
+		}
+		return CACHE.computeIfAbsent(key, MultiPatternMatcher::new);
+	}
+
+	/**
+	 * Indica se o texto aparece no corpo. Com um único texto não há ganho em
+	 * montar o autômato: os bytes são comparados diretamente, sem cache.
+	 *
+	 * @param body Corpo da resposta em bytes.
+	 * @param text Texto a procurar.
+	 * @return boolean true se o texto foi encontrado.
+	 */
+	public static boolean contains(byte[] body, String text) {
+		byte[] needle = text.getBytes(StandardCharsets.UTF_8);
+		if (needle.length == 0) {
+			return true;
+		}
+		byte first = needle[0];
+		int last = body.length - needle.length;
+		for (int start = 0; start <= last; start++) {
+			if (body[start] != first) {
+				continue;
+			}
+			int index = 1;
+			while (index < needle.length && body[start + index] == needle[index]) {
+				index++;
+			}
+			if (index == needle.length) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Procura todos os textos no corpo, percorrendo-o inteiro.
+	 *
+	 * @param body Corpo da resposta em bytes.
+	 * @return Matches com os textos encontrados, posições e ocorrências.
+	 */
+	public Matches find(byte[] body) {
+		Matches matches = new Matches(needles);
+		scan(body, 0, body.length, 0, 0, matches, false);
+		return matches;
+	}
+
+	/**
+	 * Procura todos os textos no corpo lido do stream, em blocos.
+	 *
+	 * @param body Corpo da resposta.
+	 * @return Matches com os textos encontrados, posições e ocorrências.
+	 */
+	public Matches find(InputStream body) {
+		Matches matches = new Matches(needles);
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int state = 0;
+		long offset = 0;
+		try {
+			int read;
+			while ((read = body.read(buffer)) != -1) {
+				state = scan(buffer, 0, read, state, offset, matches, false);
+				offset += read;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Erro ao ler o corpo da resposta", e);
+		}
+		return matches;
+	}
+
+	/**
+	 * Indica se todos os textos aparecem no corpo, parando assim que o último for
+	 * encontrado.
+	 *
+	 * @param body Corpo da resposta em bytes.
+	 * @return boolean true se todos os textos foram encontrados.
+	 */
+	public boolean containsAll(byte[] body) {
+		Matches matches = new Matches(needles);
+		scan(body, 0, body.length, 0, 0, matches, true);
+		return matches.allFound();
+	}
+
+	/**
+	 * Percorre os bytes a partir do estado informado, registrando as ocorrências.
+	 *
+	 * @return int estado do autômato ao fim do trecho, para continuar no próximo
+	 *         bloco.
+	 */
+	private int scan(byte[] body, int from, int to, int state, long offset, Matches matches, boolean stopWhenAllFound) {
+		int current = state;
+		for (int index = from; index < to; index++) {
+			current = transitions[current * classCount + byteClasses[body[index] & 0xFF]];
+			int[] found = outputs[current];
+			if (found.length > 0) {
+				for (int needle : found) {
+					matches.record(needle, offset + index + 1 - lengths[needle]);
+				}
+				if (stopWhenAllFound && matches.allFound()) {
+					return current;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Resultado de uma busca: para cada texto, a posição da primeira ocorrência
+	 * (em bytes, -1 se ausente) e o número de ocorrências, incluindo as
+	 * sobrepostas.
+	 */
+	public static final class Matches {
+
+		private final String[] needles;
+		private final long[] firstPositions;
+		private final long[] counts;
+		private int found;
+
+		private Matches(String[] needles) {
+			this.needles = needles;
+			firstPositions = new long[needles.length];
+			counts = new long[needles.length];
+			Arrays.fill(firstPositions, -1);
+			for (int index = 0; index < needles.length; index++) {
+				if (needles[index].isEmpty()) {
+					record(index, 0);
+				}
+			}
+		}
+
+		private void record(int needle, long position) {
+			if (counts[needle]++ == 0) {
+				firstPositions[needle] = position;
+				found++;
+			}
+		}
+
+		public boolean allFound() {
+			return found == needles.length;
+		}
+
+		public boolean anyFound() {
+			return found > 0;
+		}
+
+		public boolean contains(String needle) {
+			return firstPosition(needle) >= 0;
+		}
+
+		public long firstPosition(String needle) {
+			int index = indexOf(needle);
+			return index < 0 ? -1 : firstPositions[index];
+		}
+
+		public long count(String needle) {
+			int index = indexOf(needle);
+			return index < 0 ? 0 : counts[index];
+		}
+
+		public List<String> getFound() {
+			List<String> result = new ArrayList<>();
+			for (int index = 0; index < needles.length; index++) {
+				if (counts[index] > 0) {
+					result.add(needles[index]);
+				}
+			}
+			return result;
+		}
+
+		public List<String> getMissing() {
+			List<String> result = new ArrayList<>();
+			for (int index = 0; index < needles.length; index++) {
+				if (counts[index] == 0) {
+					result.add(needles[index]);
+				}
+			}
+			return result;
+		}
+
+		private int indexOf(String needle) {
+			for (int index = 0; index < needles.length; index++) {
+				if (needles[index].equals(needle)) {
+					return index;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder description = new StringBuilder("{");
+			for (int index = 0; index < needles.length; index++) {
+				description.append(index > 0 ? ", " : "").append(needles[index]).append('=')
+						.append(firstPositions[index]).append(" (").append(counts[index]).append("x)");
+			}
+			return description.append('}').toString();
+		}
+	}
+}
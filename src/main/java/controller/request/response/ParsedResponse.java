@@ -0,0 +1,290 @@
+package controller.request.response;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import controller.request.codec.MediaTypeCodecs;
+import io.restassured.http.Method;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+
+/**
+ * Visão de uma {@link Response} que decodifica o corpo uma única vez.
+ * <p>
+ * O corpo em bytes, a String, o {@link JsonPath} e cada modelo desserializado
+ * são calculados na primeira consulta e reaproveitados nas seguintes. Assim, um
+ * cenário que valida vários campos da mesma resposta não interpreta o mesmo
+ * JSON várias vezes. Respostas em formatos binários (CBOR, Smile, MessagePack)
+ * são decodificadas pelo codec do Content-Type e expostas como JSON, de modo que
+ * as mesmas consultas funcionam para qualquer formato. Há uma única instância
+ * por `Response` (obtida por {@link #of(Response)}). O cache identifica a
+ * resposta pela identidade e guarda apenas uma referência fraca a ela, de modo
+ * que a visão é descartada assim que a resposta deixa de ser usada; por isso a
+ * visão não mantém a resposta viva e deve ser consultada enquanto a resposta
+ * estiver em uso. Os modelos em cache são compartilhados entre as consultas e
+ * não devem ser alterados.
+ */
+public final class ParsedResponse {
+
+	private static final Map<ResponseReference, ParsedResponse> CACHE = new ConcurrentHashMap<>();
+	private static final ReferenceQueue<Response> COLLECTED = new ReferenceQueue<>();
+
+	private final ResponseReference response;
+	private final int statusCode;
+	private final String contentType;
+	private final boolean utf8;
+	private final Map<Class<?>, Object> models = new ConcurrentHashMap<>();
+	private volatile byte[] bytes;
+	private volatile String body;
+	private volatile JsonPath jsonPath;
+	private volatile JsonNode tree;
+	private volatile Method method;
+	private volatile String url;
+
+	private ParsedResponse(ResponseReference response) {
+		this.response = response;
+		this.statusCode = response().getStatusCode();
+		this.contentType = response().getContentType();
+		this.utf8 = isUtf8(contentType);
+	}
+
+	/**
+	 * Retorna a visão em cache da resposta, criando-a no primeiro acesso.
+	 *
+	 * @param response Resposta da requisição.
+	 * @return ParsedResponse associado à resposta.
+	 */
+	public static ParsedResponse of(Response response) {
+		expungeCollected();
+		return CACHE.computeIfAbsent(new ResponseReference(response, COLLECTED), ParsedResponse::new);
+	}
+
+	/**
+	 * Quantidade de respostas com visão em cache.
+	 */
+	public static int cacheSize() {
+		expungeCollected();
+		return CACHE.size();
+	}
+
+	/**
+	 * Retorna a resposta, ou null se ela já foi descartada.
+	 */
+	public Response getResponse() {
+		return response.get();
+	}
+
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+	/**
+	 * Registra o método e a URL da requisição que gerou a resposta. Chamado pelo
+	 * executor de requisições a cada envio.
+	 *
+	 * @param method Método HTTP.
+	 * @param url    URL da requisição.
+	 */
+	public void setRequest(Method method, String url) {
+		this.method = method;
+		this.url = url;
+	}
+
+	/**
+	 * Retorna o método da requisição, ou null se a resposta não veio do executor.
+	 */
+	public Method getMethod() {
+		return method;
+	}
+
+	/**
+	 * Retorna a URL da requisição, ou null se a resposta não veio do executor.
+	 */
+	public String getUrl() {
+		return url;
+	}
+
+	/**
+	 * Retorna o corpo da resposta em bytes.
+	 */
+	public byte[] asByteArray() {
+		byte[] value = bytes;
+		if (value == null) {
+			value = response().asByteArray();
+			bytes = value;
+		}
+		return value;
+	}
+
+	/**
+	 * Indica se o corpo está em um formato binário registrado em
+	 * {@link MediaTypeCodecs}.
+	 */
+	public boolean isBinary() {
+		return MediaTypeCodecs.isBinary(contentType);
+	}
+
+	/**
+	 * Retorna o corpo da resposta como String, decodificado uma única vez com o
+	 * charset da resposta. Corpos binários são convertidos para JSON.
+	 */
+	public String asString() {
+		String value = body;
+		if (value == null) {
+			value = isBinary() ? MediaTypeCodecs.toJson(asByteArray(), contentType) : response().asString();
+			body = value;
+		}
+		return value;
+	}
+
+	/**
+	 * Retorna o corpo em bytes JSON, sempre em UTF-8: o próprio corpo para
+	 * respostas em UTF-8 ou sem charset, o corpo decodificado com o charset da
+	 * resposta e recodificado para os demais charsets (ex: ISO-8859-1), ou o JSON
+	 * convertido para respostas binárias.
+	 */
+	public byte[] asJsonBytes() {
+		return isBinary() || !utf8 ? asString().getBytes(StandardCharsets.UTF_8) : asByteArray();
+	}
+
+	/**
+	 * Retorna o corpo em uma única linha. Corpos JSON (inclusive os binários) são
+	 * compactados por {@link JsonCanonicalizer#minify(byte[])}, preservando os
+	 * espaços dentro das Strings; os demais têm as linhas aparadas e unidas.
+	 */
+	public String asOneLine() {
+		if (isJson()) {
+			return new String(JsonCanonicalizer.minify(asJsonBytes()), StandardCharsets.UTF_8);
+		}
+		StringBuilder oneLine = new StringBuilder();
+		for (String line : asString().split("\\r?\\n")) {
+			oneLine.append(line.trim());
+		}
+		return oneLine.toString();
+	}
+
+	/**
+	 * Indica se o Content-Type não declara charset ou declara UTF-8.
+	 */
+	private static boolean isUtf8(String contentType) {
+		int start = contentType == null ? -1 : contentType.toLowerCase().indexOf("charset=");
+		if (start < 0) {
+			return true;
+		}
+		int end = contentType.indexOf(';', start);
+		String charset = contentType.substring(start + 8, end < 0 ? contentType.length() : end).trim()
+				.replace("\"", "");
+		try {
+			return Charset.forName(charset).equals(StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	private boolean isJson() {
+		return isBinary() || contentType != null && contentType.toLowerCase().contains("json");
+	}
+
+	/**
+	 * Retorna o corpo decodificado na árvore do Jackson, qualquer que seja o
+	 * formato.
+	 */
+	public JsonNode getTree() {
+		JsonNode value = tree;
+		if (value == null) {
+			value = MediaTypeCodecs.readTree(asByteArray(), contentType);
+			tree = value;
+		}
+		return value;
+	}
+
+	/**
+	 * Retorna o corpo interpretado como JSON, para consultas por caminho.
+	 */
+	public JsonPath getJsonPath() {
+		JsonPath value = jsonPath;
+		if (value == null) {
+			value = new JsonPath(asString());
+			jsonPath = value;
+		}
+		return value;
+	}
+
+	/**
+	 * Retorna o valor do caminho informado no corpo JSON.
+	 *
+	 * @param path Caminho no formato do JsonPath do RestAssured (GPath).
+	 * @return T valor encontrado, ou null se o caminho não existir.
+	 */
+	public <T> T path(String path) {
+		return getJsonPath().get(path);
+	}
+
+	/**
+	 * Desserializa o corpo no modelo informado com o codec do Content-Type da
+	 * resposta. Cada tipo é desserializado apenas uma vez por resposta.
+	 *
+	 * @param type Classe do modelo.
+	 * @return T modelo preenchido com o corpo da resposta.
+	 */
+	public <T> T as(Class<T> type) {
+		return type.cast(models.computeIfAbsent(type, key -> MediaTypeCodecs.forContentType(contentType).read(asByteArray(), key)));
+	}
+
+	private Response response() {
+		Response value = response.get();
+		if (value == null) {
+			throw new IllegalStateException(
+					"A resposta já foi descartada; consulte a visão enquanto a resposta estiver em uso");
+		}
+		return value;
+	}
+
+	/**
+	 * Remove do cache as visões das respostas já descartadas.
+	 */
+	private static void expungeCollected() {
+		Object collected;
+		while ((collected = COLLECTED.poll()) != null) {
+			CACHE.remove(collected);
+		}
+	}
+
+	/**
+	 * Referência fraca à resposta, comparada pela identidade da resposta. Depois
+	 * de descartada, a referência é igual apenas a si mesma, o que permite
+	 * removê-la do cache.
+	 */
+	private static final class ResponseReference extends WeakReference<Response> {
+
+		private final int hash;
+
+		private ResponseReference(Response response, ReferenceQueue<Response> queue) {
+			super(response, queue);
+			this.hash = System.identityHashCode(response);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof ResponseReference)) {
+				return false;
+			}
+			Response value = get();
+			return value != null && value == ((ResponseReference) other).get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
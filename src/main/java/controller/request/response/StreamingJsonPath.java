@@ -0,0 +1,334 @@
+package controller.request.response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Avaliador de caminhos JSON sobre o fluxo de tokens do corpo, sem montar a
+ * árvore do documento.
+ * <p>
+ * O corpo é lido uma única vez e só os valores que casam com o caminho são
+ * convertidos em objetos Java; o restante é apenas percorrido. As consultas
+ * param de ler o corpo assim que a resposta é conhecida (ex: o primeiro valor
+ * que não atende ao predicado em {@link #allMatch}).
+ * <p>
+ * Sintaxe: nomes separados por ponto, `[n]` para um índice e `[*]` para todos os
+ * elementos de um array (ex: `books[*].pages`, `$.books[0].isbn`). Como no GPath
+ * do RestAssured, um nome aplicado a um array é aplicado a cada elemento, então
+ * `books.isbn` equivale a `books[*].isbn`.
+ */
+public final class StreamingJsonPath {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	private static final Map<String, StreamingJsonPath> COMPILED = new ConcurrentHashMap<>();
+
+	private final String expression;
+	private final Segment[] segments;
+
+	private StreamingJsonPath(String expression, Segment[] segments) {
+		this.expression = expression;
+		this.segments = segments;
+	}
+
+	/**
+	 * Compila o caminho informado. Caminhos já compilados são reaproveitados.
+	 *
+	 * @param expression Caminho JSON (ex: `books[*].pages`).
+	 * @return StreamingJsonPath pronto para ser avaliado.
+	 */
+	public static StreamingJsonPath compile(String expression) {
+		return COMPILED.computeIfAbsent(expression, StreamingJsonPath::parse);
+	}
+
+	public String getExpression() {
+		return expression;
+	}
+
+	/**
+	 * Indica se todos os valores do caminho atendem ao predicado. Retorna true
+	 * quando o caminho não existe.
+	 */
+	public boolean allMatch(byte[] json, Predicate<Object> predicate) {
+		return scan(json, value -> predicate.test(value));
+	}
+
+	public boolean allMatch(InputStream json, Predicate<Object> predicate) {
+		return scan(json, value -> predicate.test(value));
+	}
+
+	/**
+	 * Indica se algum valor do caminho atende ao predicado.
+	 */
+	public boolean anyMatch(byte[] json, Predicate<Object> predicate) {
+		return !scan(json, value -> !predicate.test(value));
+	}
+
+	public boolean anyMatch(InputStream json, Predicate<Object> predicate) {
+		return !scan(json, value -> !predicate.test(value));
+	}
+
+	/**
+	 * Indica se algum valor do caminho é igual ao valor informado. Números são
+	 * comparados pelo valor numérico e os demais tipos pela representação em
+	 * texto, de modo que `contains(json, 10)` e `contains(json, "10")` são
+	 * equivalentes.
+	 */
+	public boolean contains(byte[] json, Object expected) {
+		return anyMatch(json, value -> matches(value, expected));
+	}
+
+	public boolean contains(InputStream json, Object expected) {
+		return anyMatch(json, value -> matches(value, expected));
+	}
+
+	/**
+	 * Retorna o primeiro valor do caminho, ou null se o caminho não existir.
+	 */
+	public Object first(byte[] json) {
+		Object[] first = new Object[1];
+		scan(json, value -> {
+			first[0] = value;
+			return false;
+		});
+		return first[0];
+	}
+
+	/**
+	 * Conta os valores do caminho.
+	 */
+	public long count(byte[] json) {
+		long[] count = new long[1];
+		scan(json, value -> {
+			count[0]++;
+			return true;
+		});
+		return count[0];
+	}
+
+	/**
+	 * Retorna todos os valores do caminho, na ordem do documento.
+	 */
+	public List<Object> values(byte[] json) {
+		List<Object> values = new ArrayList<>();
+		scan(json, values::add);
+		return values;
+	}
+
+	private boolean scan(byte[] json, Visitor visitor) {
+		try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+			return scan(parser, visitor);
+		} catch (IOException e) {
+			throw new UncheckedIOException("JSON inválido ao avaliar o caminho " + expression, e);
+		}
+	}
+
+	private boolean scan(InputStream json, Visitor visitor) {
+		try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+			return scan(parser, visitor);
+		} catch (IOException e) {
+			throw new UncheckedIOException("JSON inválido ao avaliar o caminho " + expression, e);
+		}
+	}
+
+	private boolean scan(JsonParser parser, Visitor visitor) throws IOException {
+		JsonToken token = parser.nextToken();
+		return token == null || walk(parser, token, 0, visitor);
+	}
+
+	/**
+	 * Percorre o valor atual (cujo primeiro token é `token`) a partir do segmento
+	 * informado. Ao final o parser está no último token do valor. Retorna false
+	 * quando o visitante pediu para interromper a leitura.
+	 */
+	private boolean walk(JsonParser parser, JsonToken token, int segmentIndex, Visitor visitor) throws IOException {
+		if (segmentIndex == segments.length) {
+			return visitor.visit(readValue(parser, token));
+		}
+		Segment segment = segments[segmentIndex];
+		if (token == JsonToken.START_OBJECT) {
+			if (segment.name == null) {
+				parser.skipChildren();
+				return true;
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				boolean selected = segment.name.equals(parser.currentName());
+				JsonToken valueToken = parser.nextToken();
+				if (selected) {
+					if (!walk(parser, valueToken, segmentIndex + 1, visitor)) {
+						return false;
+					}
+				} else {
+					parser.skipChildren();
+				}
+			}
+			return true;
+		}
+		if (token == JsonToken.START_ARRAY) {
+			int index = 0;
+			JsonToken element;
+			while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+				boolean keepGoing;
+				if (segment.name != null) {
+					keepGoing = walk(parser, element, segmentIndex, visitor);
+				} else if (segment.index < 0 || segment.index == index) {
+					keepGoing = walk(parser, element, segmentIndex + 1, visitor);
+				} else {
+					parser.skipChildren();
+					keepGoing = true;
+				}
+				if (!keepGoing) {
+					return false;
+				}
+				if (segment.index == index) {
+					parser.skipChildren();
+					break;
+				}
+				index++;
+			}
+			if (element != JsonToken.END_ARRAY) {
+				skipRemaining(parser);
+			}
+			return true;
+		}
+		return true;
+	}
+
+	private static void skipRemaining(JsonParser parser) throws IOException {
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+			if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	private static Object readValue(JsonParser parser, JsonToken token) throws IOException {
+		switch (token) {
+		case START_OBJECT:
+			Map<String, Object> object = new LinkedHashMap<>();
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String name = parser.currentName();
+				object.put(name, readValue(parser, parser.nextToken()));
+			}
+			return object;
+		case START_ARRAY:
+			List<Object> array = new ArrayList<>();
+			JsonToken element;
+			while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+				array.add(readValue(parser, element));
+			}
+			return array;
+		case VALUE_STRING:
+			return parser.getText();
+		case VALUE_NUMBER_INT:
+		case VALUE_NUMBER_FLOAT:
+			return parser.getNumberValue();
+		case VALUE_TRUE:
+			return Boolean.TRUE;
+		case VALUE_FALSE:
+			return Boolean.FALSE;
+		default:
+			return null;
+		}
+	}
+
+	private static boolean matches(Object value, Object expected) {
+		if (value == null || expected == null) {
+			return value == expected;
+		}
+		if (value instanceof Number && (expected instanceof Number || isNumeric(expected.toString()))) {
+			return new BigDecimal(value.toString()).compareTo(new BigDecimal(expected.toString())) == 0;
+		}
+		return value.toString().equals(expected.toString());
+	}
+
+	private static boolean isNumeric(String text) {
+		try {
+			new BigDecimal(text);
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	private static StreamingJsonPath parse(String expression) {
+		String path = expression.trim();
+		if (path.startsWith("$")) {
+			path = path.substring(1);
+		}
+		List<Segment> segments = new ArrayList<>();
+		int position = 0;
+		while (position < path.length()) {
+			char current = path.charAt(position);
+			if (current == '.') {
+				position++;
+			} else if (current == '[') {
+				int end = path.indexOf(']', position);
+				if (end < 0) {
+					throw new IllegalArgumentException("Caminho JSON inválido: " + expression);
+				}
+				String index = path.substring(position + 1, end).trim();
+				try {
+					segments.add(index.equals("*") ? Segment.ANY_INDEX : Segment.index(Integer.parseInt(index)));
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException("Índice inválido no caminho JSON: " + expression);
+				}
+				position = end + 1;
+			} else {
+				int end = position;
+				while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+					end++;
+				}
+				segments.add(Segment.field(path.substring(position, end)));
+				position = end;
+			}
+		}
+		return new StreamingJsonPath(expression, segments.toArray(new Segment[0]));
+	}
+
+	@Override
+	public String toString() {
+		return expression;
+	}
+
+	@FunctionalInterface
+	private interface Visitor {
+		boolean visit(Object value);
+	}
+
+	private static final class Segment {
+
+		private static final Segment ANY_INDEX = new Segment(null, -1);
+
+		private final String name;
+		private final int index;
+
+		private Segment(String name, int index) {
+			this.name = name;
+			this.index = index;
+		}
+
+		private static Segment field(String name) {
+			return new Segment(name, -1);
+		}
+
+		private static Segment index(int index) {
+			if (index < 0) {
+				throw new IllegalArgumentException("Índice negativo no caminho JSON: " + index);
+			}
+			return new Segment(null, index);
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package controller.request.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Orçamento de novas tentativas compartilhado por toda a execução.
+ * <p>
+ * Permite no máximo `minRetries + ratio * requisições` novas tentativas, de
+ * modo que um backend fora do ar não multiplique a carga enviada a ele
+ * (tempestade de retries).
+ */
+public final class RetryBudget {
+
+	private final int minRetries;
+	private final double ratio;
+	private final AtomicLong requests = new AtomicLong();
+	private final AtomicLong retries = new AtomicLong();
+
+	/**
+	 * Cria um orçamento de novas tentativas.
+	 *
+	 * @param minRetries Quantidade mínima de novas tentativas sempre disponível.
+	 * @param ratio      Fração das requisições enviadas que pode ser repetida.
+	 */
+	public RetryBudget(int minRetries, double ratio) {
+		this.minRetries = minRetries;
+		this.ratio = ratio;
+	}
+
+	/**
+	 * Registra uma nova requisição (primeira tentativa), aumentando o orçamento.
+	 */
+	public void recordRequest() {
+		requests.incrementAndGet();
+	}
+
+	/**
+	 * Tenta reservar uma nova tentativa do orçamento.
+	 *
+	 * @return boolean true se a nova tentativa foi autorizada.
+	 */
+	public boolean tryAcquire() {
+		while (true) {
+			long current = retries.get();
+			if (current >= minRetries + (long) (ratio * requests.get())) {
+				return false;
+			}
+			if (retries.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	public long getRequests() {
+		return requests.get();
+	}
+
+	public long getRetries() {
+		return retries.get();
+	}
+}
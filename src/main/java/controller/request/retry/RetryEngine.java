@@ -0,0 +1,168 @@
+package controller.request.retry;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.restassured.response.Response;
+import lombok.extern.log4j.Log4j2;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+
+/**
+ * Motor de novas tentativas das requisições HTTP.
+ * <p>
+ * Repete a requisição quando ela lança uma exceção repetível ou quando a resposta possui
+ * um status configurado como repetível, aguardando entre as tentativas conforme
+ * a {@link RetryPolicy} e consumindo o {@link RetryBudget} da execução. Mantém
+ * contadores de tentativas, novas tentativas e desistências, registrados no log
+ * ao final dos cenários (ver {@link #logStatistics()}).
+ */
+@Log4j2
+public final class RetryEngine {
+
+	private static final RetryEngine INSTANCE = new RetryEngine(new ConfigurationsProperties());
+
+	private final RetryPolicy policy;
+	private final RetryBudget budget;
+
+	private final AtomicLong attempts = new AtomicLong();
+	private final AtomicLong retries = new AtomicLong();
+	private final AtomicLong giveUps = new AtomicLong();
+	private final AtomicLong budgetExhausted = new AtomicLong();
+
+	/**
+	 * Cria um motor com a política e o orçamento informados.
+	 *
+	 * @param policy Política de novas tentativas.
+	 * @param budget Orçamento de novas tentativas.
+	 */
+	public RetryEngine(RetryPolicy policy, RetryBudget budget) {
+		this.policy = policy;
+		this.budget = budget;
+	}
+
+	private RetryEngine(ConfigurationsProperties configurationsProperties) {
+		this(RetryPolicy.fromConfiguration(configurationsProperties),
+				new RetryBudget(configurationsProperties.getRetryBudgetMin(),
+						configurationsProperties.getRetryBudgetRatio()));
+	}
+
+	/**
+	 * Retorna o motor padrão, compartilhado pela JVM.
+	 *
+	 * @return RetryEngine configurado com o `configurations.properties`.
+	 */
+	public static RetryEngine getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Executa a ação, repetindo-a enquanto houver tentativas e orçamento
+	 * disponíveis. Se todas as tentativas terminarem com status repetível, a
+	 * última resposta é devolvida para que o cenário valide o status recebido.
+	 *
+	 * @param action      Ação que envia a requisição.
+	 * @param maxAttempts Número máximo de tentativas (incluindo a primeira).
+	 * @return Response objeto contendo a resposta da última tentativa.
+	 * @throws RuntimeException se a última tentativa lançar uma exceção.
+	 */
+	public Response execute(Callable<Response> action, int maxAttempts) {
+		budget.recordRequest();
+		int attempt = 0;
+		while (true) {
+			attempt++;
+			attempts.incrementAndGet();
+			Response response;
+			try {
+				response = action.call();
+			} catch (Exception e) {
+				if (!policy.isRetryable(e)) {
+					throw e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e);
+				}
+				log.error("Erro na tentativa " + attempt + ": " + e.getMessage());
+				if (!canRetry(attempt, maxAttempts)) {
+					throw new RuntimeException("Falha após " + attempt + " tentativas", e);
+				}
+				pause(policy.delayFor(attempt, null));
+				continue;
+			}
+			if (!policy.isRetryable(response)) {
+				return response;
+			}
+			log.warn("Status " + response.getStatusCode() + " na tentativa " + attempt);
+			if (!canRetry(attempt, maxAttempts)) {
+				return response;
+			}
+			pause(policy.delayFor(attempt, response));
+		}
+	}
+
+	/**
+	 * Verifica se ainda há tentativas e orçamento para repetir a requisição,
+	 * contabilizando a desistência quando não houver. Requisições com uma única
+	 * tentativa (ex: POST ou corpo não repetível) não contam como desistência.
+	 */
+	private boolean canRetry(int attempt, int maxAttempts) {
+		if (attempt >= maxAttempts) {
+			if (maxAttempts > 1) {
+				giveUps.incrementAndGet();
+			}
+			return false;
+		}
+		if (!budget.tryAcquire()) {
+			budgetExhausted.incrementAndGet();
+			giveUps.incrementAndGet();
+			log.warn("Orçamento de novas tentativas esgotado (" + budget.getRetries() + " de "
+					+ budget.getRequests() + " requisições); desistindo na tentativa " + attempt);
+			return false;
+		}
+		retries.incrementAndGet();
+		return true;
+	}
+
+	private void pause(long delay) {
+		if (delay <= 0) {
+			return;
+		}
+		log.info("Nova tentativa em " + delay + "ms");
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Espera entre tentativas interrompida", e);
+		}
+	}
+
+	/**
+	 * Registra no log os contadores de tentativas. Chamado pelo hook `@AfterAll`
+	 * dos cenários, enquanto o Log4j2 ainda está ativo.
+	 */
+	public void logStatistics() {
+		log.info("Estatísticas de novas tentativas: " + this);
+	}
+
+	public RetryPolicy getPolicy() {
+		return policy;
+	}
+
+	public long getAttempts() {
+		return attempts.get();
+	}
+
+	public long getRetries() {
+		return retries.get();
+	}
+
+	public long getGiveUps() {
+		return giveUps.get();
+	}
+
+	public long getBudgetExhausted() {
+		return budgetExhausted.get();
+	}
+
+	@Override
+	public String toString() {
+		return "attempts=" + getAttempts() + ", retries=" + getRetries() + ", giveUps=" + getGiveUps()
+				+ ", budgetExhausted=" + getBudgetExhausted();
+	}
+}
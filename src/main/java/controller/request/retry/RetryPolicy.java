@@ -0,0 +1,180 @@
+package controller.request.retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+
+/**
+ * Política de novas tentativas das requisições HTTP.
+ * <p>
+ * Define quais métodos, status HTTP e falhas devem ser repetidos e quanto tempo
+ * esperar antes de cada nova tentativa, usando backoff exponencial com "full
+ * jitter" (espera aleatória entre zero e o teto exponencial) ou o valor do
+ * cabeçalho `Retry-After`, quando a resposta o informar. Por padrão só os
+ * métodos idempotentes são repetidos: repetir um POST que expirou pode criar o
+ * mesmo recurso duas vezes.
+ */
+public final class RetryPolicy {
+
+	private static final String RETRY_AFTER_HEADER = "Retry-After";
+
+	private final long baseDelay;
+	private final long maxDelay;
+	private final Set<Integer> retryStatusCodes;
+	private final Set<String> retryMethods;
+	private final boolean retryAfterEnabled;
+	private final long maxRetryAfter;
+
+	/**
+	 * Cria uma política de novas tentativas.
+	 *
+	 * @param baseDelay         Atraso base do backoff (em milissegundos).
+	 * @param maxDelay          Atraso máximo do backoff (em milissegundos).
+	 * @param retryStatusCodes  Status HTTP que disparam uma nova tentativa.
+	 * @param retryMethods      Métodos HTTP repetidos sem permissão explícita da
+	 *                          requisição (ex: GET, PUT).
+	 * @param retryAfterEnabled Se o cabeçalho `Retry-After` deve ser respeitado.
+	 * @param maxRetryAfter     Espera máxima aceita do `Retry-After` (em milissegundos).
+	 */
+	public RetryPolicy(long baseDelay, long maxDelay, Set<Integer> retryStatusCodes, Set<String> retryMethods,
+			boolean retryAfterEnabled, long maxRetryAfter) {
+		this.baseDelay = baseDelay;
+		this.maxDelay = maxDelay;
+		this.retryStatusCodes = Collections.unmodifiableSet(new HashSet<>(retryStatusCodes));
+		Set<String> methods = new HashSet<>();
+		for (String method : retryMethods) {
+			methods.add(method.trim().toUpperCase(Locale.ROOT));
+		}
+		this.retryMethods = Collections.unmodifiableSet(methods);
+		this.retryAfterEnabled = retryAfterEnabled;
+		this.maxRetryAfter = maxRetryAfter;
+	}
+
+	/**
+	 * Cria a política a partir das propriedades `retry.*` do arquivo de
+	 * configuração.
+	 *
+	 * @param configurationsProperties Propriedades de configuração.
+	 * @return RetryPolicy configurada.
+	 */
+	public static RetryPolicy fromConfiguration(ConfigurationsProperties configurationsProperties) {
+		Set<Integer> statusCodes = new HashSet<>();
+		for (String statusCode : configurationsProperties.getRetryStatusCodes().split(",")) {
+			if (!statusCode.isBlank()) {
+				statusCodes.add(Integer.parseInt(statusCode.trim()));
+			}
+		}
+		Set<String> methods = new HashSet<>();
+		for (String method : configurationsProperties.getRetryMethods().split(",")) {
+			if (!method.isBlank()) {
+				methods.add(method);
+			}
+		}
+		return new RetryPolicy(configurationsProperties.getRetryBackoffBase(),
+				configurationsProperties.getRetryBackoffMax(), statusCodes, methods,
+				configurationsProperties.isRetryAfterEnabled(), configurationsProperties.getRetryAfterMax());
+	}
+
+	/**
+	 * Verifica se o método pode ser repetido sem permissão explícita da
+	 * requisição.
+	 *
+	 * @param method Método HTTP.
+	 * @return boolean true se o método estiver na lista de métodos repetíveis.
+	 */
+	public boolean isRetryable(Method method) {
+		return method != null && retryMethods.contains(method.name());
+	}
+
+	/**
+	 * Verifica se a resposta possui um status que deve ser repetido.
+	 *
+	 * @param response Resposta da requisição.
+	 * @return boolean true se o status estiver na lista de status repetíveis.
+	 */
+	public boolean isRetryable(Response response) {
+		return response != null && retryStatusCodes.contains(response.getStatusCode());
+	}
+
+	/**
+	 * Verifica se a exceção lançada pela requisição deve ser repetida. Só falhas
+	 * de transporte (uma {@link IOException} na cadeia de causas, ex: conexão
+	 * recusada ou tempo limite) são repetidas; erros de programação, de
+	 * serialização e chamadas recusadas pelo circuit breaker não são.
+	 *
+	 * @param exception Exceção lançada pela requisição.
+	 * @return boolean true se a requisição pode ser repetida.
+	 */
+	public boolean isRetryable(Exception exception) {
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			if (cause instanceof IOException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Calcula a espera antes da próxima tentativa. Se a resposta trouxer um
+	 * `Retry-After` válido, ele é usado (limitado ao máximo configurado); caso
+	 * contrário, aplica o backoff exponencial com full jitter.
+	 *
+	 * @param retryNumber Número da nova tentativa (começando em 1).
+	 * @param response    Última resposta recebida, ou null se houve exceção.
+	 * @return long tempo de espera (em milissegundos).
+	 */
+	public long delayFor(int retryNumber, Response response) {
+		long retryAfter = retryAfterDelay(response);
+		if (retryAfter >= 0) {
+			return Math.min(retryAfter, maxRetryAfter);
+		}
+		return backoffDelay(retryNumber);
+	}
+
+	/**
+	 * Backoff exponencial com full jitter: valor aleatório entre zero e
+	 * `min(maxDelay, baseDelay * 2^(retryNumber - 1))`.
+	 */
+	private long backoffDelay(int retryNumber) {
+		int exponent = Math.min(Math.max(retryNumber - 1, 0), 30);
+		long ceiling = Math.min(maxDelay, baseDelay << exponent);
+		return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+	}
+
+	/**
+	 * Lê o cabeçalho `Retry-After`, em segundos ou no formato de data HTTP.
+	 *
+	 * @return long espera em milissegundos, ou -1 se o cabeçalho não existir ou
+	 *         for inválido.
+	 */
+	private long retryAfterDelay(Response response) {
+		if (!retryAfterEnabled || response == null) {
+			return -1;
+		}
+		String retryAfter = response.getHeader(RETRY_AFTER_HEADER);
+		if (retryAfter == null || retryAfter.isBlank()) {
+			return -1;
+		}
+		retryAfter = retryAfter.trim();
+		try {
+			return Math.max(0, Long.parseLong(retryAfter) * 1000);
+		} catch (NumberFormatException e) {
+			try {
+				ZonedDateTime date = ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME);
+				return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+			} catch (RuntimeException invalidDate) {
+				return -1;
+			}
+		}
+	}
+}
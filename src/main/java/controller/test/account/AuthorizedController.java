@@ -1,21 +1,23 @@
 package controller.test.account;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import controller.request.ApiRest;
+import controller.request.codec.JsonCodecs;
+import controller.request.response.JsonDiff;
+import controller.request.response.ParsedResponse;
 import lombok.extern.log4j.Log4j2;
 import model.test.request.account.authorized.AuthorizedPostRequest;
-import model.test.response.account.authorized.AuthorizedPostSuccessResponse;
 import utils.schemas.SchemaValidator;
 
 @Log4j2
 public class AuthorizedController {
 	
 	private final static String URL_AUTHORIZED = "Account/v1/Authorized";
-	private final static String FILE_PATH_POST_AUTHORIZED_SCHEMA = "account/post/authorized/";
-	private final static String FILE_NAME_POST_AUTHOROZED_SCHEMA = "authorized_post_success_200";
-	private final static String FILE_EXTENSION_POST_AUTHOROZED_SCHEMA = ".json";
+	private final static JsonDiff MODEL_DIFF = JsonDiff.builder().allowExtraFields().build();
 	
 	private ApiRest apiRest;
 	private String baseUrl;
@@ -40,12 +42,7 @@ public class AuthorizedController {
 	
 	public Boolean isValidPostAuthorizedSuccessWithSchema() {
 		try {
-			return schemaValidator
-					.validateResponseBodyWithJSONSchema(
-							FILE_PATH_POST_AUTHORIZED_SCHEMA,
-							FILE_NAME_POST_AUTHOROZED_SCHEMA,
-							FILE_EXTENSION_POST_AUTHOROZED_SCHEMA,
-							apiRest.getResponse());
+			return schemaValidator.validateResponseBodyWithJSONSchema(apiRest.getResponse());
 		} catch (Exception e) {
 			log.info("erro de validacao: " + e);
 			return false;
@@ -54,18 +51,19 @@ public class AuthorizedController {
 	
 	public Boolean isValidPostAuthorizedSuccessWithModel() {
 	    try {
-	        // Converter a resposta da API para o modelo AuthorizedPostSuccessResponse
-	        AuthorizedPostSuccessResponse actualResponse = apiRest.getResponse().getBody().as(AuthorizedPostSuccessResponse.class);
+	        // A API retorna apenas o booleano true no corpo, e não um objeto {"success":true}
+	        byte[] expectedResponse = JsonCodecs.getCodec().write(Boolean.TRUE);
 
-	        // Criar uma instância do modelo esperado com sucesso = true
-	        AuthorizedPostSuccessResponse expectedResponse = new AuthorizedPostSuccessResponse(true);
-
-	        // Verificar se a resposta da API é igual ao modelo esperado
-	        if (expectedResponse.equals(actualResponse)) {
+	        // Comparar a estrutura da resposta da API com o modelo esperado, campo a campo
+	        List<String> differences = MODEL_DIFF.diff(expectedResponse,
+	                ParsedResponse.of(apiRest.getResponse()).asJsonBytes());
+	        if (differences.isEmpty()) {
 	            log.info("Validação de sucesso: O corpo da resposta é válido.");
 	            return true;
 	        } else {
-	            log.error("Erro na validação: O corpo da resposta não é válido.");
+	            // O JSON Pointer da raiz é vazio; no log ele aparece como "/"
+	            log.error("Erro na validação: O corpo da resposta não é válido. Campos divergentes: " + differences
+	                    .stream().map(pointer -> pointer.isEmpty() ? "/" : pointer).collect(Collectors.toList()));
 	            return false;
 	        }
 	    } catch (Exception e) {
@@ -74,9 +72,6 @@ public class AuthorizedController {
 	    }
 	}
 
-
-
-
 	
 	public Boolean isStatusCodeEquals(Integer statusCode) {
 		return apiRest.getStatusCode().equals(statusCode);
@@ -0,0 +1,136 @@
+package model.test.format;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+/**
+ * Formato das datas dos modelos (ex: `publish_date`), no padrão
+ * `yyyy-MM-dd'T'HH:mm:ss.SSSXXX` retornado pela API.
+ * <p>
+ * Usa um único {@link DateTimeFormatter} imutável, compartilhado por todas as
+ * leituras e escritas, em vez de criar um formatador por campo. Na leitura, o
+ * formato fixo da API é interpretado direto do buffer do parser, sem criar a
+ * String intermediária.
+ */
+public final class OffsetDateTimeFormat {
+
+	/**
+	 * Formatador de escrita: milissegundos e deslocamento (`Z` para UTC).
+	 */
+	public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+
+	private OffsetDateTimeFormat() {
+	}
+
+	/**
+	 * Converte o texto em data. Aceita qualquer data ISO-8601 com deslocamento,
+	 * com ou sem frações de segundo.
+	 *
+	 * @param text Data no formato ISO-8601.
+	 * @return OffsetDateTime correspondente, ou null se o texto estiver vazio.
+	 */
+	public static OffsetDateTime parse(String text) {
+		if (text == null || text.isEmpty()) {
+			return null;
+		}
+		return parse(text.toCharArray(), 0, text.length());
+	}
+
+	/**
+	 * Converte o trecho informado em data. O formato da API
+	 * (`2020-06-04T08:48:39.000Z` ou com deslocamento `+03:00`) é lido direto dos
+	 * caracteres; os demais formatos ISO-8601 passam pelo formatador padrão.
+	 */
+	public static OffsetDateTime parse(char[] chars, int offset, int length) {
+		if (length == 0) {
+			return null;
+		}
+		if ((length == 24 || length == 29) && matchesApiLayout(chars, offset, length)) {
+			ZoneOffset zone = length == 24 ? ZoneOffset.UTC
+					: ZoneOffset.ofHoursMinutes(
+							(chars[offset + 23] == '-' ? -1 : 1) * digits(chars, offset, length, 24, 2),
+							(chars[offset + 23] == '-' ? -1 : 1) * digits(chars, offset, length, 27, 2));
+			return OffsetDateTime.of(digits(chars, offset, length, 0, 4), digits(chars, offset, length, 5, 2),
+					digits(chars, offset, length, 8, 2), digits(chars, offset, length, 11, 2),
+					digits(chars, offset, length, 14, 2), digits(chars, offset, length, 17, 2),
+					digits(chars, offset, length, 20, 3) * 1_000_000, zone);
+		}
+		return OffsetDateTime.parse(new String(chars, offset, length), DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+	}
+
+	private static boolean matchesApiLayout(char[] chars, int offset, int length) {
+		if (chars[offset + 4] != '-' || chars[offset + 7] != '-' || chars[offset + 10] != 'T'
+				|| chars[offset + 13] != ':' || chars[offset + 16] != ':' || chars[offset + 19] != '.') {
+			return false;
+		}
+		if (length == 24) {
+			return chars[offset + 23] == 'Z';
+		}
+		return (chars[offset + 23] == '+' || chars[offset + 23] == '-') && chars[offset + 26] == ':';
+	}
+
+	/**
+	 * Lê `count` dígitos a partir da posição `start` da data contida em
+	 * `chars[offset, offset + length)`. Em caso de erro, a exceção informa apenas
+	 * a data e a posição dentro dela, e não o restante do buffer do parser.
+	 */
+	private static int digits(char[] chars, int offset, int length, int start, int count) {
+		int value = 0;
+		for (int i = start; i < start + count; i++) {
+			int digit = chars[offset + i] - '0';
+			if (digit < 0 || digit > 9) {
+				throw new DateTimeParseException("Data inválida: dígito esperado na posição " + i,
+						new String(chars, offset, length), i);
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	public static String format(OffsetDateTime value) {
+		return value == null ? null : FORMATTER.format(value);
+	}
+
+	public static final class Deserializer extends StdScalarDeserializer<OffsetDateTime> {
+
+		private static final long serialVersionUID = 1L;
+
+		public Deserializer() {
+			super(OffsetDateTime.class);
+		}
+
+		@Override
+		public OffsetDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+			if (parser.currentToken() != JsonToken.VALUE_STRING) {
+				return parse(parser.getValueAsString());
+			}
+			return parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+		}
+	}
+
+	public static final class Serializer extends StdScalarSerializer<OffsetDateTime> {
+
+		private static final long serialVersionUID = 1L;
+
+		public Serializer() {
+			super(OffsetDateTime.class);
+		}
+
+		@Override
+		public void serialize(OffsetDateTime value, JsonGenerator generator, SerializerProvider provider)
+				throws IOException {
+			generator.writeString(format(value));
+		}
+	}
+}
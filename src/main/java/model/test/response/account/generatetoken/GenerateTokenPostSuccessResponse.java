@@ -1,17 +1,21 @@
 package model.test.response.account.generatetoken;
 
-import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
-import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import model.test.format.OffsetDateTimeFormat;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({
@@ -25,9 +29,10 @@ public class GenerateTokenPostSuccessResponse {
     @JsonProperty("token")
     private String token;
 
-    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
+    @JsonSerialize(using = OffsetDateTimeFormat.Serializer.class)
+    @JsonDeserialize(using = OffsetDateTimeFormat.Deserializer.class)
     @JsonProperty("expires")
-    private Timestamp expires;
+    private OffsetDateTime expires;
 
     @JsonProperty("status")
     private String status;
@@ -36,7 +41,7 @@ public class GenerateTokenPostSuccessResponse {
     private String result;
 
     @JsonIgnore
-    private Map<String, Object> additionalProperties = new HashMap<String, Object>();
+    private Map<String, Object> additionalProperties;
 
     public GenerateTokenPostSuccessResponse() {
     }
@@ -52,12 +57,12 @@ public class GenerateTokenPostSuccessResponse {
     }
 
     @JsonProperty("expires")
-    public Timestamp getExpires() {
+    public OffsetDateTime getExpires() {
         return expires;
     }
 
     @JsonProperty("expires")
-    public void setExpires(Timestamp expires) {
+    public void setExpires(OffsetDateTime expires) {
         this.expires = expires;
     }
 
@@ -83,12 +88,15 @@ public class GenerateTokenPostSuccessResponse {
 
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
-        return this.additionalProperties;
+        return additionalProperties != null ? additionalProperties : Collections.emptyMap();
     }
 
     @JsonAnySetter
     public void setAdditionalProperty(String name, Object value) {
-        this.additionalProperties.put(name, value);
+        if (additionalProperties == null) {
+            additionalProperties = new HashMap<>();
+        }
+        additionalProperties.put(name, value);
     }
 }
 
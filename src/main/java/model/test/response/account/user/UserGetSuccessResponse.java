@@ -1,6 +1,7 @@
 package model.test.response.account.user;
 
-import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -11,6 +12,10 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import model.test.format.OffsetDateTimeFormat;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({
@@ -30,7 +35,7 @@ public class UserGetSuccessResponse {
     private List<Book> books = null;
 
     @JsonIgnore
-    private Map<String, Object> additionalProperties = new HashMap<>();
+    private Map<String, Object> additionalProperties;
 
     @JsonProperty("userId")
     public String getUserId() {
@@ -64,12 +69,15 @@ public class UserGetSuccessResponse {
 
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
-        return this.additionalProperties;
+        return additionalProperties != null ? additionalProperties : Collections.emptyMap();
     }
 
     @JsonAnySetter
     public void setAdditionalProperty(String name, Object value) {
-        this.additionalProperties.put(name, value);
+        if (additionalProperties == null) {
+            additionalProperties = new HashMap<>();
+        }
+        additionalProperties.put(name, value);
     }
 
     public static class Book {
@@ -86,8 +94,10 @@ public class UserGetSuccessResponse {
         @JsonProperty("author")
         private String author;
 
+        @JsonSerialize(using = OffsetDateTimeFormat.Serializer.class)
+        @JsonDeserialize(using = OffsetDateTimeFormat.Deserializer.class)
         @JsonProperty("publish_date")
-        private Timestamp publishDate;
+        private OffsetDateTime publishDate;
 
         @JsonProperty("publisher")
         private String publisher;
@@ -144,12 +154,12 @@ public class UserGetSuccessResponse {
         }
 
         @JsonProperty("publish_date")
-        public Timestamp getPublishDate() {
+        public OffsetDateTime getPublishDate() {
             return publishDate;
         }
 
         @JsonProperty("publish_date")
-        public void setPublishDate(Timestamp publishDate) {
+        public void setPublishDate(OffsetDateTime publishDate) {
             this.publishDate = publishDate;
         }
 
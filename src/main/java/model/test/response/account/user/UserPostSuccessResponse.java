@@ -2,17 +2,21 @@ package model.test.response.account.user;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
-import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
-import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import model.test.format.OffsetDateTimeFormat;
+
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({
         "userId",
@@ -31,7 +35,7 @@ public class UserPostSuccessResponse {
     private List<Book> books = null;
 
     @JsonIgnore
-    private Map<String, Object> additionalProperties = new HashMap<String, Object>();
+    private Map<String, Object> additionalProperties;
 
     // Inner class to represent Book
     public static class Book {
@@ -48,9 +52,10 @@ public class UserPostSuccessResponse {
         @JsonProperty("author")
         private String author;
 
-        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
+        @JsonSerialize(using = OffsetDateTimeFormat.Serializer.class)
+        @JsonDeserialize(using = OffsetDateTimeFormat.Deserializer.class)
         @JsonProperty("publish_date")
-        private Timestamp publishDate;
+        private OffsetDateTime publishDate;
 
         @JsonProperty("publisher")
         private String publisher;
@@ -98,12 +103,15 @@ public class UserPostSuccessResponse {
 
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
-        return this.additionalProperties;
+        return additionalProperties != null ? additionalProperties : Collections.emptyMap();
     }
 
     @JsonAnySetter
     public void setAdditionalProperty(String name, Object value) {
-        this.additionalProperties.put(name, value);
+        if (additionalProperties == null) {
+            additionalProperties = new HashMap<>();
+        }
+        additionalProperties.put(name, value);
     }
 }
 
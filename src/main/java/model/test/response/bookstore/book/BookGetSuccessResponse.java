@@ -1,16 +1,20 @@
 package model.test.response.bookstore.book;
 
-import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
-import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import model.test.format.OffsetDateTimeFormat;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({
@@ -38,9 +42,10 @@ public class BookGetSuccessResponse {
     @JsonProperty("author")
     private String author;
 
-    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
+    @JsonSerialize(using = OffsetDateTimeFormat.Serializer.class)
+    @JsonDeserialize(using = OffsetDateTimeFormat.Deserializer.class)
     @JsonProperty("publish_date")
-    private Timestamp publishDate;
+    private OffsetDateTime publishDate;
 
     @JsonProperty("publisher")
     private String publisher;
@@ -55,7 +60,7 @@ public class BookGetSuccessResponse {
     private String website;
 
     @JsonIgnore
-    private Map<String, Object> additionalProperties = new HashMap<>();
+    private Map<String, Object> additionalProperties;
 
     // Getters and Setters
 
@@ -100,12 +105,12 @@ public class BookGetSuccessResponse {
     }
 
     @JsonProperty("publish_date")
-    public Timestamp getPublishDate() {
+    public OffsetDateTime getPublishDate() {
         return publishDate;
     }
 
     @JsonProperty("publish_date")
-    public void setPublishDate(Timestamp publishDate) {
+    public void setPublishDate(OffsetDateTime publishDate) {
         this.publishDate = publishDate;
     }
 
@@ -151,12 +156,15 @@ public class BookGetSuccessResponse {
 
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
-        return this.additionalProperties;
+        return additionalProperties != null ? additionalProperties : Collections.emptyMap();
     }
 
     @JsonAnySetter
     public void setAdditionalProperty(String name, Object value) {
-        this.additionalProperties.put(name, value);
+        if (additionalProperties == null) {
+            additionalProperties = new HashMap<>();
+        }
+        additionalProperties.put(name, value);
     }
 }
 
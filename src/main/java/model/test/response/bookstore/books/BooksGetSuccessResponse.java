@@ -1,17 +1,21 @@
 package model.test.response.bookstore.books;
 
-import java.sql.Timestamp;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
-import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import model.test.format.OffsetDateTimeFormat;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({
@@ -23,7 +27,7 @@ public class BooksGetSuccessResponse {
     private List<Book> books = null;
 
     @JsonIgnore
-    private Map<String, Object> additionalProperties = new HashMap<>();
+    private Map<String, Object> additionalProperties;
 
     // Getters and Setters
 
@@ -39,12 +43,15 @@ public class BooksGetSuccessResponse {
 
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
-        return this.additionalProperties;
+        return additionalProperties != null ? additionalProperties : Collections.emptyMap();
     }
 
     @JsonAnySetter
     public void setAdditionalProperty(String name, Object value) {
-        this.additionalProperties.put(name, value);
+        if (additionalProperties == null) {
+            additionalProperties = new HashMap<>();
+        }
+        additionalProperties.put(name, value);
     }
 
     // Classe interna representando o livro
@@ -62,9 +69,10 @@ public class BooksGetSuccessResponse {
         @JsonProperty("author")
         private String author;
 
-        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
+        @JsonSerialize(using = OffsetDateTimeFormat.Serializer.class)
+        @JsonDeserialize(using = OffsetDateTimeFormat.Deserializer.class)
         @JsonProperty("publish_date")
-        private Timestamp publishDate;
+        private OffsetDateTime publishDate;
 
         @JsonProperty("publisher")
         private String publisher;
@@ -79,7 +87,7 @@ public class BooksGetSuccessResponse {
         private String website;
 
         @JsonIgnore
-        private Map<String, Object> additionalProperties = new HashMap<>();
+        private Map<String, Object> additionalProperties;
 
         // Getters and Setters
 
@@ -124,12 +132,12 @@ public class BooksGetSuccessResponse {
         }
 
         @JsonProperty("publish_date")
-        public Timestamp getPublishDate() {
+        public OffsetDateTime getPublishDate() {
             return publishDate;
         }
 
         @JsonProperty("publish_date")
-        public void setPublishDate(Timestamp publishDate) {
+        public void setPublishDate(OffsetDateTime publishDate) {
             this.publishDate = publishDate;
         }
 
@@ -175,12 +183,15 @@ public class BooksGetSuccessResponse {
 
         @JsonAnyGetter
         public Map<String, Object> getAdditionalProperties() {
-            return this.additionalProperties;
+            return additionalProperties != null ? additionalProperties : Collections.emptyMap();
         }
 
         @JsonAnySetter
         public void setAdditionalProperty(String name, Object value) {
-            this.additionalProperties.put(name, value);
+            if (additionalProperties == null) {
+                additionalProperties = new HashMap<>();
+            }
+            additionalProperties.put(name, value);
         }
     }
 }
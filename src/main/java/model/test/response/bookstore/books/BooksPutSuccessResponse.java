@@ -1,8 +1,9 @@
 package model.test.response.bookstore.books;
 
-import java.sql.Timestamp;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Collections;
 import java.util.HashMap;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
@@ -11,6 +12,10 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import model.test.format.OffsetDateTimeFormat;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({
@@ -30,7 +35,7 @@ public class BooksPutSuccessResponse {
     private List<Book> books;
 
     @JsonIgnore
-    private Map<String, Object> additionalProperties = new HashMap<>();
+    private Map<String, Object> additionalProperties;
 
     public static class Book {
         @JsonProperty("isbn")
@@ -45,8 +50,10 @@ public class BooksPutSuccessResponse {
         @JsonProperty("author")
         private String author;
 
+        @JsonSerialize(using = OffsetDateTimeFormat.Serializer.class)
+        @JsonDeserialize(using = OffsetDateTimeFormat.Deserializer.class)
         @JsonProperty("publish_date")
-        private Timestamp publishDate;
+        private OffsetDateTime publishDate;
 
         @JsonProperty("publisher")
         private String publisher;
@@ -103,12 +110,12 @@ public class BooksPutSuccessResponse {
         }
 
         @JsonProperty("publish_date")
-        public Timestamp getPublishDate() {
+        public OffsetDateTime getPublishDate() {
             return publishDate;
         }
 
         @JsonProperty("publish_date")
-        public void setPublishDate(Timestamp publishDate) {
+        public void setPublishDate(OffsetDateTime publishDate) {
             this.publishDate = publishDate;
         }
 
@@ -187,12 +194,15 @@ public class BooksPutSuccessResponse {
 
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
-        return additionalProperties;
+        return additionalProperties != null ? additionalProperties : Collections.emptyMap();
     }
 
     @JsonAnySetter
     public void setAdditionalProperty(String name, Object value) {
-        this.additionalProperties.put(name, value);
+        if (additionalProperties == null) {
+            additionalProperties = new HashMap<>();
+        }
+        additionalProperties.put(name, value);
     }
 }
 
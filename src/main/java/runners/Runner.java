@@ -1,6 +1,10 @@
 package runners;
 
 import lombok.extern.log4j.Log4j2;
+import runners.load.LoadGenerator;
+import runners.load.LoadResult;
+import runners.load.LoadSchedule;
+import runners.load.LoadTarget;
 import utils.readers.properties.configuration.ConfigurationsProperties;
 
 @Log4j2
@@ -33,6 +37,9 @@ public class Runner {
 		case "serenity":
 			runSerenity();
 			break;
+		case "load":
+			runLoad(configurationsProperties);
+			break;
 		default:
 			log.error("Runner não configurado ou não suportado: " + runnerType);
 		}
@@ -102,4 +109,18 @@ public class Runner {
 			log.error("Erro ao executar Serenity: " + e.getMessage(), e);
 		}
 	}
+
+	// Método para executar o teste de carga em modelo aberto
+	private static void runLoad(ConfigurationsProperties configurationsProperties) {
+		try {
+			log.info("Executando teste de carga...");
+			LoadResult result = new LoadGenerator(configurationsProperties.getLoadMaxConcurrency()).run(
+					LoadSchedule.fromConfiguration(configurationsProperties),
+					configurationsProperties.getLoadDuration(),
+					LoadTarget.of(configurationsProperties.getLoadTarget()));
+			log.info("Resultado do teste de carga: " + result);
+		} catch (Exception e) {
+			log.error("Erro ao executar o teste de carga: " + e.getMessage(), e);
+		}
+	}
 }
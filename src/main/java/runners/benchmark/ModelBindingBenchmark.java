@@ -0,0 +1,119 @@
+package runners.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import controller.request.codec.JacksonJsonCodec;
+import lombok.extern.log4j.Log4j2;
+import model.test.request.bookstore.books.BooksPostRequest;
+import model.test.response.bookstore.books.BooksGetSuccessResponse;
+
+/**
+ * Microbenchmark da leitura de uma lista grande de livros
+ * ({@link BooksGetSuccessResponse}) e da escrita de uma requisição com muitos
+ * ISBNs ({@link BooksPostRequest}): um ObjectMapper padrão, que acessa os
+ * modelos por reflexão, contra o codec compartilhado, que usa acessores gerados
+ * (Blackbird).
+ * <p>
+ * Execução: `mvn -q compile exec:java -Dexec.mainClass=runners.benchmark.ModelBindingBenchmark`
+ */
+@Log4j2
+public class ModelBindingBenchmark {
+
+	private static final int BOOKS = 10_000;
+	private static final int WARMUP_ITERATIONS = 50;
+	private static final int MEASURED_ITERATIONS = 200;
+	private static final int ROUNDS = 5;
+
+	public static void main(String[] args) {
+		byte[] json = catalog(BOOKS);
+		BooksPostRequest request = collection(BOOKS);
+		ObjectMapper reflective = new ObjectMapper();
+		JacksonJsonCodec codec = new JacksonJsonCodec();
+
+		Runnable reflectionRead = () -> {
+			try {
+				reflective.readValue(json, BooksGetSuccessResponse.class);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+		Runnable generatedRead = () -> codec.read(json, BooksGetSuccessResponse.class);
+		Runnable reflectionWrite = () -> {
+			try {
+				reflective.writeValueAsBytes(request);
+			} catch (JsonProcessingException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+		Runnable generatedWrite = () -> codec.write(request);
+
+		log.info("Catálogo com " + BOOKS + " livros (" + json.length + " bytes)");
+		for (int round = 1; round <= ROUNDS; round++) {
+			report("leitura - ObjectMapper por reflexão", round, measure(reflectionRead));
+			report("leitura - codec com acessores gerados", round, measure(generatedRead));
+			report("escrita - ObjectMapper por reflexão", round, measure(reflectionWrite));
+			report("escrita - codec com acessores gerados", round, measure(generatedWrite));
+		}
+	}
+
+	private static long[] measure(Runnable operation) {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			operation.run();
+		}
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+		long start = System.nanoTime();
+		for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+			operation.run();
+		}
+		long elapsed = System.nanoTime() - start;
+		long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+		return new long[] { elapsed / MEASURED_ITERATIONS, allocated / MEASURED_ITERATIONS };
+	}
+
+	/**
+	 * Gera o JSON de um catálogo no formato da resposta de `BookStore/v1/Books`.
+	 */
+	static byte[] catalog(int books) {
+		StringBuilder json = new StringBuilder("{\"books\":[");
+		for (int i = 0; i < books; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"isbn\":\"").append(9781449325862L + i).append("\",\"title\":\"Git Pocket Guide ").append(i)
+					.append("\",\"subTitle\":\"A Working Introduction\",\"author\":\"Richard E. Silverman\",")
+					.append("\"publish_date\":\"2020-06-04T08:48:39.000Z\",\"publisher\":\"O'Reilly Media\",")
+					.append("\"pages\":").append(100 + i % 400)
+					.append(",\"description\":\"This pocket guide is the perfect on-the-job companion to Git.\",")
+					.append("\"website\":\"http://chimera.labs.oreilly.com/books/1230000000561/index.html\"}");
+		}
+		return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Monta a requisição de `BookStore/v1/Books` com a quantidade de ISBNs
+	 * informada.
+	 */
+	static BooksPostRequest collection(int books) {
+		List<BooksPostRequest.Isbn> isbns = new ArrayList<>(books);
+		for (int i = 0; i < books; i++) {
+			isbns.add(BooksPostRequest.Isbn.builder().withIsbn(String.valueOf(9781449325862L + i)));
+		}
+		return BooksPostRequest.builder().withUserId("5a8c4b3e-1f2d-4e6a-9b7c-0d1e2f3a4b5c").withCollectionOfIsbns(isbns);
+	}
+
+	private static void report(String scenario, int round, long[] result) {
+		log.info("Rodada " + round + " - " + scenario + ": " + result[0] / 1000 + " µs/op, " + result[1] + " bytes/op");
+	}
+}
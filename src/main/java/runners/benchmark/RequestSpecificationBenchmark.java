@@ -0,0 +1,83 @@
+package runners.benchmark;
+
+import static io.restassured.RestAssured.given;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import controller.request.client.HttpClientPool;
+import controller.request.executor.RequestDefinition;
+import controller.request.executor.RequestSpecificationRegistry;
+import io.restassured.http.ContentType;
+import io.restassured.http.Method;
+import io.restassured.specification.RequestSpecification;
+import lombok.extern.log4j.Log4j2;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+
+/**
+ * Microbenchmark do custo de montagem da especificação de cada requisição (sem
+ * enviá-la): a cadeia completa do RestAssured montada a cada chamada contra a
+ * especificação pré-montada do {@link RequestSpecificationRegistry} acrescida
+ * apenas das partes da requisição.
+ * <p>
+ * Execução: `mvn -q compile exec:java -Dexec.mainClass=runners.benchmark.RequestSpecificationBenchmark`
+ */
+@Log4j2
+public class RequestSpecificationBenchmark {
+
+	private static final int WARMUP_ITERATIONS = 20_000;
+	private static final int MEASURED_ITERATIONS = 100_000;
+	private static final int ROUNDS = 5;
+
+	public static void main(String[] args) {
+		ConfigurationsProperties configurationsProperties = new ConfigurationsProperties();
+		int connectionTimeout = configurationsProperties.getConnectionTimeout();
+		int readTimeout = configurationsProperties.getReadTimeout();
+		String url = configurationsProperties.getBaseUrlToBeExecute() + "Account/v1/Authorized";
+		Map<String, String> headers = new HashMap<>();
+		headers.put("X-Request-Id", "benchmark");
+		String body = "{\"userName\":\"user\",\"password\":\"secret\"}";
+		RequestDefinition definition = RequestDefinition.builder(Method.POST, url).relaxedHTTPSValidation()
+				.urlEncodingEnabled(true).logAll(true).authorization("Bearer token").headers(headers).body(body)
+				.build();
+		RequestSpecificationRegistry registry = RequestSpecificationRegistry.getInstance();
+
+		Supplier<RequestSpecification> fullChain = () -> given()
+				.config(HttpClientPool.getInstance().getConfig(connectionTimeout, readTimeout))
+				.contentType(ContentType.JSON).relaxedHTTPSValidation().urlEncodingEnabled(true).log().all()
+				.header("Authorization", "Bearer token").accept(configurationsProperties.getResponseAcceptType())
+				.header("Accept-Language", configurationsProperties.getResponseLanguage()).headers(headers)
+				.body(body);
+		Supplier<RequestSpecification> prebuilt = () -> given()
+				.spec(registry.get(definition, connectionTimeout, readTimeout))
+				.header("Authorization", "Bearer token").contentType(ContentType.JSON).headers(headers).body(body);
+
+		for (int round = 1; round <= ROUNDS; round++) {
+			report("cadeia completa por chamada", round, measure(fullChain));
+			report("especificação pré-montada", round, measure(prebuilt));
+		}
+	}
+
+	private static long[] measure(Supplier<RequestSpecification> setup) {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			setup.get();
+		}
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+		long start = System.nanoTime();
+		for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+			setup.get();
+		}
+		long elapsed = System.nanoTime() - start;
+		long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+		return new long[] { elapsed / MEASURED_ITERATIONS, allocated / MEASURED_ITERATIONS };
+	}
+
+	private static void report(String scenario, int round, long[] result) {
+		log.info("Rodada " + round + " - " + scenario + ": " + result[0] + " ns/op, " + result[1] + " bytes/op");
+	}
+}
@@ -0,0 +1,125 @@
+package runners.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.log4j.Log4j2;
+import utils.schemas.engine.CompiledSchema;
+import utils.schemas.engine.FgeSchemaEngine;
+import utils.schemas.engine.NetworkntSchemaEngine;
+import utils.schemas.engine.SchemaEngine;
+
+/**
+ * Microbenchmark dos motores de JSON Schema ({@link FgeSchemaEngine} e
+ * {@link NetworkntSchemaEngine}) com os schemas de `resources/schemas`: tempo
+ * para compilar todos os schemas e tempo de validação de um livro e de
+ * catálogos de tamanhos diferentes.
+ * <p>
+ * Execução: `mvn -q compile exec:java -Dexec.mainClass=runners.benchmark.SchemaValidationBenchmark`
+ */
+@Log4j2
+public class SchemaValidationBenchmark {
+
+	private static final String BOOK_SCHEMA = "schemas/bookstore/get/book/book_get_success_200.json";
+	private static final String BOOKS_SCHEMA = "schemas/bookstore/get/books/books_get_success_200.json";
+	private static final String[] SCHEMAS = {
+			"schemas/account/post/authorized/authorized_post_error_400.json",
+			"schemas/account/post/authorized/authorized_post_error_404.json",
+			"schemas/account/post/authorized/authorized_post_success_200.json",
+			"schemas/account/post/user/user_post_success_201.json",
+			"schemas/account/post/user/user_post_error_406.json",
+			"schemas/account/post/generate-token/generate_token_post_success_200.json",
+			BOOK_SCHEMA,
+			BOOKS_SCHEMA,
+			"schemas/bookstore/post/books/books_post_success_201.json",
+			"schemas/bookstore/put/books/books_put_success_200.json" };
+	private static final int COMPILE_ITERATIONS = 20;
+	private static final int ROUNDS = 5;
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	public static void main(String[] args) {
+		List<JsonNode> schemas = new ArrayList<>();
+		for (String schema : SCHEMAS) {
+			schemas.add(read(schema));
+		}
+		Map<String, JsonNode> payloads = new LinkedHashMap<>();
+		payloads.put("1 livro", tree(ModelBindingBenchmark.catalog(1)).path("books").get(0));
+		payloads.put("catálogo com 100 livros", tree(ModelBindingBenchmark.catalog(100)));
+		payloads.put("catálogo com 10000 livros", tree(ModelBindingBenchmark.catalog(10_000)));
+
+		SchemaEngine[] engines = { new FgeSchemaEngine(), new NetworkntSchemaEngine() };
+		for (int round = 1; round <= ROUNDS; round++) {
+			for (SchemaEngine engine : engines) {
+				log.info("Rodada " + round + " - " + engine.getName() + ": compilação de " + schemas.size()
+						+ " schemas em " + measureCompilation(engine, schemas) / 1000 + " µs");
+				CompiledSchema book = engine.compile(read(BOOK_SCHEMA));
+				CompiledSchema books = engine.compile(read(BOOKS_SCHEMA));
+				for (Map.Entry<String, JsonNode> payload : payloads.entrySet()) {
+					CompiledSchema schema = payload.getValue().has("books") ? books : book;
+					log.info("Rodada " + round + " - " + engine.getName() + ", " + payload.getKey() + ": "
+							+ measureValidation(schema, payload.getValue()) / 1000 + " µs/op");
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tempo médio para compilar todos os schemas, sem reaproveitar nada entre as
+	 * iterações (um motor novo por iteração, como na primeira execução).
+	 */
+	private static long measureCompilation(SchemaEngine engine, List<JsonNode> schemas) {
+		long elapsed = 0;
+		for (int i = 0; i < COMPILE_ITERATIONS; i++) {
+			SchemaEngine fresh = engine instanceof FgeSchemaEngine ? new FgeSchemaEngine()
+					: new NetworkntSchemaEngine();
+			long start = System.nanoTime();
+			for (JsonNode schema : schemas) {
+				fresh.compile(schema);
+			}
+			elapsed += System.nanoTime() - start;
+		}
+		return elapsed / COMPILE_ITERATIONS;
+	}
+
+	private static long measureValidation(CompiledSchema schema, JsonNode payload) {
+		int iterations = Math.max(5, 200_000 / Math.max(1, payload.path("books").size() * 10));
+		for (int i = 0; i < iterations; i++) {
+			check(schema.validate(payload));
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			check(schema.validate(payload));
+		}
+		return (System.nanoTime() - start) / iterations;
+	}
+
+	private static void check(List<String> violations) {
+		if (!violations.isEmpty()) {
+			throw new IllegalStateException("Payload inválido no benchmark: " + violations);
+		}
+	}
+
+	private static JsonNode read(String resourcePath) {
+		try (InputStream input = SchemaValidationBenchmark.class.getClassLoader().getResourceAsStream(resourcePath)) {
+			return MAPPER.readTree(input);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static JsonNode tree(byte[] json) {
+		try {
+			return MAPPER.readTree(json);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package runners.load;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Gerador de carga em modelo aberto.
+ * <p>
+ * Uma thread de agendamento calcula o instante previsto de cada chegada a partir
+ * do {@link LoadSchedule} e entrega a iteração às threads de trabalho, sem
+ * esperar as anteriores terminarem. Se todas as threads estiverem ocupadas, as
+ * iterações aguardam na fila, mas a latência continua sendo medida a partir do
+ * instante previsto, evitando a omissão coordenada. Ao final, as tarefas que
+ * implementam {@link AutoCloseable} são fechadas uma única vez.
+ * <p>
+ * Exemplo reaproveitando o controller e os modelos existentes:
+ *
+ * <pre>
+ * LoadResult result = new LoadGenerator(50).run(LoadSchedule.constant(10), 60, () -&gt; {
+ * 	AuthorizedController controller = new AuthorizedController();
+ * 	AuthorizedPostRequest request = new AuthorizedPostRequest(username, password);
+ * 	return () -&gt; {
+ * 		controller.postAuthorizedWithUsernameAndPassword(request);
+ * 		return controller.isValidPostAuthorizedSuccessWithSchema();
+ * 	};
+ * });
+ * </pre>
+ */
+@Log4j2
+public final class LoadGenerator {
+
+	private static final long MAX_RATE_INTERVAL = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private final int maxConcurrency;
+
+	/**
+	 * Cria um gerador de carga.
+	 *
+	 * @param maxConcurrency Quantidade máxima de iterações executadas ao mesmo tempo.
+	 */
+	public LoadGenerator(int maxConcurrency) {
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	/**
+	 * Executa o teste de carga.
+	 *
+	 * @param schedule        Taxa de chegada ao longo do teste.
+	 * @param durationSeconds Duração do teste (em segundos).
+	 * @param taskFactory     Cria a tarefa de cada thread de trabalho.
+	 * @return LoadResult com as latências e falhas registradas.
+	 */
+	public LoadResult run(LoadSchedule schedule, long durationSeconds, Supplier<LoadTask> taskFactory) {
+		log.info("Iniciando teste de carga: agendamento " + schedule + ", duração " + durationSeconds
+				+ "s, concorrência máxima " + maxConcurrency);
+		Set<LoadTask> created = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+		ThreadLocal<LoadTask> tasks = ThreadLocal.withInitial(() -> {
+			LoadTask task = taskFactory.get();
+			created.add(task);
+			return task;
+		});
+		LoadResult result = new LoadResult();
+		ExecutorService workers = newWorkers();
+		long duration = TimeUnit.SECONDS.toNanos(durationSeconds);
+		long start = System.nanoTime();
+		long scheduled = 0;
+
+		// Avança o relógio previsto integrando a taxa: cada chegada acontece quando a
+		// fração acumulada atinge 1, o que mantém rampas e degraus corretos mesmo
+		// quando a taxa varia entre uma chegada e outra.
+		long intendedOffset = 0;
+		double arrivalFraction = 0;
+		while (intendedOffset < duration) {
+			double rate = schedule.rateAt(intendedOffset);
+			long untilNextArrival = rate <= 0 ? Long.MAX_VALUE
+					: (long) ((1 - arrivalFraction) / rate * TimeUnit.SECONDS.toNanos(1));
+			if (untilNextArrival > MAX_RATE_INTERVAL) {
+				arrivalFraction += rate * MAX_RATE_INTERVAL / TimeUnit.SECONDS.toNanos(1);
+				intendedOffset += MAX_RATE_INTERVAL;
+				continue;
+			}
+			intendedOffset += untilNextArrival;
+			arrivalFraction = 0;
+			if (intendedOffset >= duration) {
+				break;
+			}
+			long intendedStart = start + intendedOffset;
+			waitUntil(intendedStart);
+			workers.execute(() -> runIteration(tasks.get(), intendedStart, result));
+			scheduled++;
+		}
+
+		workers.shutdown();
+		try {
+			workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			workers.shutdownNow();
+		}
+		result.finish(scheduled, System.nanoTime() - start);
+		close(created);
+		log.info("Teste de carga concluído: " + result);
+		return result;
+	}
+
+	private static void runIteration(LoadTask task, long intendedStart, LoadResult result) {
+		long actualStart = System.nanoTime();
+		boolean success;
+		try {
+			success = task.execute();
+		} catch (Throwable e) {
+			log.error("Erro na iteração do teste de carga: " + e.getMessage());
+			success = false;
+		}
+		long end = System.nanoTime();
+		result.record(end - intendedStart, end - actualStart, success);
+	}
+
+	private static void close(Set<LoadTask> tasks) {
+		for (LoadTask task : tasks) {
+			if (task instanceof AutoCloseable) {
+				try {
+					((AutoCloseable) task).close();
+				} catch (Exception e) {
+					log.error("Erro ao encerrar a tarefa do teste de carga: " + e.getMessage());
+				}
+			}
+		}
+	}
+
+	private static void waitUntil(long deadline) {
+		long remaining;
+		while ((remaining = deadline - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(remaining);
+		}
+	}
+
+	private ExecutorService newWorkers() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		return new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "load-worker-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+}
@@ -0,0 +1,95 @@
+package runners.load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import controller.request.metrics.LatencyHistogram;
+
+/**
+ * Resultado de um teste de carga.
+ * <p>
+ * A latência de cada iteração é medida a partir do instante em que ela deveria
+ * ter começado segundo o agendamento, e não de quando ela realmente começou.
+ * Assim, filas formadas por um servidor lento aparecem na latência em vez de
+ * serem escondidas (omissão coordenada). O tempo de serviço (início real até o
+ * fim) também é registrado para comparação. Os dois são gravados em
+ * {@link LatencyHistogram}s, que ocupam memória fixa qualquer que seja a
+ * duração do teste; os percentis têm a resolução do histograma (cerca de
+ * 1,6%).
+ */
+public final class LoadResult {
+
+	private final LatencyHistogram latencies = new LatencyHistogram();
+	private final LatencyHistogram serviceTimes = new LatencyHistogram();
+	private final AtomicLong failed = new AtomicLong();
+	private volatile long scheduled;
+	private volatile long elapsedNanos;
+
+	void record(long latencyNanos, long serviceTimeNanos, boolean success) {
+		latencies.record(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+		serviceTimes.record(TimeUnit.NANOSECONDS.toMicros(serviceTimeNanos));
+		if (!success) {
+			failed.incrementAndGet();
+		}
+	}
+
+	void finish(long scheduled, long elapsedNanos) {
+		this.scheduled = scheduled;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Quantidade de iterações disparadas pelo agendamento.
+	 */
+	public long getScheduled() {
+		return scheduled;
+	}
+
+	/**
+	 * Quantidade de iterações concluídas (com sucesso ou falha).
+	 */
+	public long getCompleted() {
+		return latencies.getCount();
+	}
+
+	public long getFailed() {
+		return failed.get();
+	}
+
+	/**
+	 * Vazão alcançada (iterações concluídas por segundo).
+	 */
+	public double getThroughput() {
+		long elapsed = elapsedNanos;
+		return elapsed == 0 ? 0 : getCompleted() / (elapsed / 1e9);
+	}
+
+	/**
+	 * Percentil da latência medida a partir do início agendado.
+	 *
+	 * @param percentile Percentil entre 0 e 100 (ex: 99.9).
+	 * @return long latência (em milissegundos).
+	 */
+	public long getLatencyPercentile(double percentile) {
+		return TimeUnit.MICROSECONDS.toMillis(latencies.getPercentile(percentile));
+	}
+
+	/**
+	 * Percentil do tempo de serviço (início real até o fim da iteração).
+	 *
+	 * @param percentile Percentil entre 0 e 100 (ex: 99.9).
+	 * @return long tempo de serviço (em milissegundos).
+	 */
+	public long getServiceTimePercentile(double percentile) {
+		return TimeUnit.MICROSECONDS.toMillis(serviceTimes.getPercentile(percentile));
+	}
+
+	@Override
+	public String toString() {
+		return "agendadas=" + scheduled + ", concluídas=" + getCompleted() + ", falhas=" + getFailed() + ", vazão="
+				+ String.format("%.2f", getThroughput()) + "/s, latência(ms) p50=" + getLatencyPercentile(50)
+				+ " p90=" + getLatencyPercentile(90) + " p99=" + getLatencyPercentile(99) + " max="
+				+ getLatencyPercentile(100) + ", serviço(ms) p50=" + getServiceTimePercentile(50) + " p99="
+				+ getServiceTimePercentile(99);
+	}
+}
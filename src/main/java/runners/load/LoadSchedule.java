@@ -0,0 +1,129 @@
+package runners.load;
+
+import java.util.concurrent.TimeUnit;
+
+import utils.readers.properties.configuration.ConfigurationsProperties;
+
+/**
+ * Taxa de chegada (requisições por segundo) ao longo do teste de carga.
+ * <p>
+ * O modelo é aberto: as chegadas acontecem na taxa definida independentemente
+ * de as anteriores já terem terminado.
+ */
+public abstract class LoadSchedule {
+
+	/**
+	 * Retorna a taxa de chegada no instante informado.
+	 *
+	 * @param elapsedNanos Tempo decorrido desde o início do teste (em nanossegundos).
+	 * @return double chegadas por segundo.
+	 */
+	public abstract double rateAt(long elapsedNanos);
+
+	/**
+	 * Taxa constante.
+	 *
+	 * @param rate Chegadas por segundo.
+	 * @return LoadSchedule com taxa constante.
+	 */
+	public static LoadSchedule constant(double rate) {
+		return new LoadSchedule() {
+			@Override
+			public double rateAt(long elapsedNanos) {
+				return rate;
+			}
+
+			@Override
+			public String toString() {
+				return "constant(" + rate + "/s)";
+			}
+		};
+	}
+
+	/**
+	 * Taxa crescente (ou decrescente) linearmente entre dois valores.
+	 *
+	 * @param startRate       Chegadas por segundo no início.
+	 * @param endRate         Chegadas por segundo ao final da rampa.
+	 * @param durationSeconds Duração da rampa (em segundos).
+	 * @return LoadSchedule em rampa.
+	 * @throws IllegalArgumentException Se a duração não for maior que zero.
+	 */
+	public static LoadSchedule ramp(double startRate, double endRate, long durationSeconds) {
+		requirePositive(durationSeconds, "Duração da rampa");
+		long durationNanos = TimeUnit.SECONDS.toNanos(durationSeconds);
+		return new LoadSchedule() {
+			@Override
+			public double rateAt(long elapsedNanos) {
+				double progress = Math.min(1.0, (double) elapsedNanos / durationNanos);
+				return startRate + (endRate - startRate) * progress;
+			}
+
+			@Override
+			public String toString() {
+				return "ramp(" + startRate + "/s -> " + endRate + "/s em " + durationSeconds + "s)";
+			}
+		};
+	}
+
+	/**
+	 * Taxa em degraus: começa em `startRate` e soma `increment` a cada
+	 * `stepSeconds`.
+	 *
+	 * @param startRate   Chegadas por segundo no primeiro degrau.
+	 * @param increment   Acréscimo de chegadas por segundo a cada degrau.
+	 * @param stepSeconds Duração de cada degrau (em segundos).
+	 * @return LoadSchedule em degraus.
+	 * @throws IllegalArgumentException Se a duração do degrau não for maior que
+	 *                                  zero.
+	 */
+	public static LoadSchedule step(double startRate, double increment, long stepSeconds) {
+		requirePositive(stepSeconds, "Duração do degrau");
+		long stepNanos = TimeUnit.SECONDS.toNanos(stepSeconds);
+		return new LoadSchedule() {
+			@Override
+			public double rateAt(long elapsedNanos) {
+				return startRate + increment * (elapsedNanos / stepNanos);
+			}
+
+			@Override
+			public String toString() {
+				return "step(" + startRate + "/s +" + increment + "/s a cada " + stepSeconds + "s)";
+			}
+		};
+	}
+
+	/**
+	 * Cria o agendamento a partir das propriedades `load.*` do arquivo de
+	 * configuração.
+	 *
+	 * @param configurationsProperties Propriedades de configuração.
+	 * @return LoadSchedule configurado.
+	 * @throws IllegalArgumentException Se o agendamento não for suportado ou se a
+	 *                                  duração da rampa (`load.duration`) ou do
+	 *                                  degrau (`load.step.duration`) não for
+	 *                                  maior que zero.
+	 */
+	public static LoadSchedule fromConfiguration(ConfigurationsProperties configurationsProperties) {
+		String schedule = configurationsProperties.getLoadSchedule().trim().toLowerCase();
+		double rate = configurationsProperties.getLoadRate();
+		switch (schedule) {
+		case "ramp":
+			return ramp(rate, configurationsProperties.getLoadRateEnd(), configurationsProperties.getLoadDuration());
+		case "step":
+			return step(rate, configurationsProperties.getLoadStepIncrement(),
+					configurationsProperties.getLoadStepDuration());
+		case "constant":
+		case "":
+			return constant(rate);
+		default:
+			throw new IllegalArgumentException("Agendamento de carga não suportado: " + schedule);
+		}
+	}
+
+	private static void requirePositive(long seconds, String description) {
+		if (seconds <= 0) {
+			throw new IllegalArgumentException(description + " deve ser maior que zero: " + seconds + "s");
+		}
+	}
+}
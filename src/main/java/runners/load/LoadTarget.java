@@ -0,0 +1,46 @@
+package runners.load;
+
+import java.util.function.Supplier;
+
+/**
+ * Converte a propriedade `load.target` na fábrica de tarefas do teste de carga.
+ * <p>
+ * Formatos aceitos:
+ * <ul>
+ * <li>`scenario:@Tag` executa os cenários Cucumber com as tags informadas, com
+ * uma única instância do Cucumber compartilhada pelas threads;</li>
+ * <li>`pacote.Classe#metodo` executa um método público sem parâmetros.</li>
+ * </ul>
+ */
+public final class LoadTarget {
+
+	private static final String SCENARIO_PREFIX = "scenario:";
+
+	private LoadTarget() {
+	}
+
+	/**
+	 * Cria a fábrica de tarefas para o alvo informado.
+	 *
+	 * @param target Valor da propriedade `load.target`.
+	 * @return Supplier que fornece a tarefa de cada thread de trabalho.
+	 */
+	public static Supplier<LoadTask> of(String target) {
+		String value = target.trim();
+		if (value.isEmpty()) {
+			throw new IllegalArgumentException("Propriedade load.target não configurada");
+		}
+		if (value.startsWith(SCENARIO_PREFIX)) {
+			String tags = value.substring(SCENARIO_PREFIX.length()).trim();
+			ScenarioLoadTask task = new ScenarioLoadTask(tags);
+			return () -> task;
+		}
+		return () -> {
+			try {
+				return new MethodLoadTask(value);
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalArgumentException("Não foi possível criar o alvo de carga " + value, e);
+			}
+		};
+	}
+}
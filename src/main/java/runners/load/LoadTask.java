@@ -0,0 +1,22 @@
+package runners.load;
+
+/**
+ * Unidade de trabalho executada a cada chegada do teste de carga.
+ * <p>
+ * Cada thread do gerador de carga recebe a instância fornecida pela fábrica,
+ * obtida uma única vez, de modo que controllers como o `AuthorizedController`
+ * podem ser reaproveitados entre as execuções sem compartilhar estado entre
+ * threads. Tarefas que implementam {@link AutoCloseable} são fechadas ao final
+ * do teste.
+ */
+@FunctionalInterface
+public interface LoadTask {
+
+	/**
+	 * Executa uma iteração do teste de carga.
+	 *
+	 * @return boolean true se a iteração foi bem-sucedida.
+	 * @throws Exception qualquer erro da iteração, contabilizado como falha.
+	 */
+	boolean execute() throws Exception;
+}
@@ -0,0 +1,40 @@
+package runners.load;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Executa um método público sem parâmetros de uma classe (ex: um controller)
+ * a cada iteração. A instância é criada uma única vez por thread de trabalho. A
+ * iteração falha se o método lançar uma exceção ou retornar `false`.
+ */
+public final class MethodLoadTask implements LoadTask {
+
+	private final Object target;
+	private final Method method;
+
+	/**
+	 * Cria a tarefa a partir da referência `pacote.Classe#metodo`.
+	 *
+	 * @param reference Classe e método a executar.
+	 * @throws ReflectiveOperationException se a classe ou o método não existirem.
+	 */
+	public MethodLoadTask(String reference) throws ReflectiveOperationException {
+		int separator = reference.indexOf('#');
+		if (separator < 0) {
+			throw new IllegalArgumentException("Referência de método inválida (esperado Classe#metodo): " + reference);
+		}
+		Class<?> type = Class.forName(reference.substring(0, separator).trim());
+		method = type.getMethod(reference.substring(separator + 1).trim());
+		target = type.getDeclaredConstructor().newInstance();
+	}
+
+	@Override
+	public boolean execute() throws Exception {
+		try {
+			return !Boolean.FALSE.equals(method.invoke(target));
+		} catch (InvocationTargetException e) {
+			throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+		}
+	}
+}
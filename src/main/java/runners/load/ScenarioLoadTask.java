@@ -0,0 +1,71 @@
+package runners.load;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.cucumber.core.options.Constants;
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+import io.cucumber.testng.TestNGCucumberRunner;
+
+/**
+ * Executa os cenários Cucumber selecionados por tags a cada iteração,
+ * reaproveitando os steps, controllers e schemas existentes.
+ * <p>
+ * O Cucumber é iniciado uma única vez, na criação da tarefa: as features são
+ * interpretadas, os cenários são selecionados e os hooks `@BeforeAll` (ex:
+ * aquecimento dos JSON Schemas) são executados antes do início da carga. Cada
+ * iteração apenas executa os cenários, com os hooks `@Before` e `@After`, e os
+ * steps são montados uma única vez por thread de trabalho. Assim a latência
+ * medida é a dos cenários, e não a da inicialização do Cucumber. Uma única
+ * instância atende todas as threads; {@link #close()} executa os hooks
+ * `@AfterAll`.
+ */
+public final class ScenarioLoadTask implements LoadTask, AutoCloseable {
+
+	private static final String FEATURES = "classpath:features";
+	private static final String GLUE = "steps";
+
+	private final TestNGCucumberRunner runner;
+	private final List<Pickle> scenarios = new ArrayList<>();
+
+	/**
+	 * Inicia o Cucumber e seleciona os cenários com as tags informadas.
+	 *
+	 * @param tags Expressão de tags do Cucumber (ex: "@Authorized and @200").
+	 */
+	public ScenarioLoadTask(String tags) {
+		Map<String, String> properties = new HashMap<>();
+		properties.put(Constants.FEATURES_PROPERTY_NAME, FEATURES);
+		properties.put(Constants.GLUE_PROPERTY_NAME, GLUE);
+		properties.put(Constants.FILTER_TAGS_PROPERTY_NAME, tags);
+		properties.put(Constants.PLUGIN_PUBLISH_QUIET_PROPERTY_NAME, "true");
+		runner = new TestNGCucumberRunner(ScenarioLoadTask.class, properties::get);
+		for (Object[] scenario : runner.provideScenarios()) {
+			scenarios.add(((PickleWrapper) scenario[0]).getPickle());
+		}
+		if (scenarios.isEmpty()) {
+			runner.finish();
+			throw new IllegalArgumentException("Nenhum cenário encontrado para as tags " + tags);
+		}
+	}
+
+	/**
+	 * Executa os cenários selecionados, em ordem. A iteração falha no primeiro
+	 * cenário que não passar.
+	 */
+	@Override
+	public boolean execute() {
+		for (Pickle scenario : scenarios) {
+			runner.runScenario(scenario);
+		}
+		return true;
+	}
+
+	@Override
+	public void close() {
+		runner.finish();
+	}
+}
@@ -1,15 +1,34 @@
 package steps;
 
+import controller.request.retry.RetryEngine;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
 import io.cucumber.java.Scenario;
 import io.restassured.RestAssured;
 import io.restassured.config.SSLConfig;
 import lombok.extern.log4j.Log4j2;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+import utils.schemas.SchemaRegistry;
 
 @Log4j2
 public class Hooks {
 
+	@BeforeAll
+	public static void beforeAll() {
+		ConfigurationsProperties configurationsProperties = new ConfigurationsProperties();
+		if (configurationsProperties.isSchemaWarmUpEnabled()) {
+			SchemaRegistry.getInstance().warmUp(configurationsProperties.getSchemaWarmUpParallelism());
+		}
+	}
+
+	@AfterAll
+	public static void afterAll() {
+		SchemaRegistry.getInstance().logStatistics();
+		RetryEngine.getInstance().logStatistics();
+	}
+
 	@Before
 	public void before(Scenario scenario) {
 		RestAssured.config = RestAssured
@@ -1,8 +1,10 @@
 package utils.readers.properties;
 
 import java.io.InputStream;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.TreeMap;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -39,4 +41,20 @@ public abstract class PropertyReader {
 		return Optional.ofNullable((String) prop.get(propKey)).orElse("");
 	}
 
+	/**
+	 * Retorna todas as propriedades cujas chaves começam com o prefixo informado.
+	 *
+	 * @param prefix Prefixo das chaves (ex: "ratelimit.").
+	 * @return Map ordenado com as chaves sem o prefixo e seus valores.
+	 */
+	public Map<String, String> getPropertiesWithPrefix(String prefix) {
+		Map<String, String> properties = new TreeMap<>();
+		for (String propKey : prop.stringPropertyNames()) {
+			if (propKey.startsWith(prefix)) {
+				properties.put(propKey.substring(prefix.length()), prop.getProperty(propKey));
+			}
+		}
+		return properties;
+	}
+
 }
\ No newline at end of file
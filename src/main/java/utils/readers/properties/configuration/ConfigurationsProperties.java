@@ -1,5 +1,7 @@
 package utils.readers.properties.configuration;
 
+import java.util.Map;
+
 import utils.readers.properties.PropertyReader;
 
 public class ConfigurationsProperties extends PropertyReader {
@@ -128,6 +130,172 @@ public class ConfigurationsProperties extends PropertyReader {
 		return Integer.parseInt(getProperty("retry.count"));
 	}
 
+	// ------------------- Retry Policy ------------------- //
+	public Long getRetryBackoffBase() {
+		return Long.parseLong(getProperty("retry.backoff.base"));
+	}
+
+	public Long getRetryBackoffMax() {
+		return Long.parseLong(getProperty("retry.backoff.max"));
+	}
+
+	public String getRetryStatusCodes() {
+		return getProperty("retry.status.codes");
+	}
+
+	public String getRetryMethods() {
+		return getProperty("retry.methods");
+	}
+
+	public Boolean isRetryAfterEnabled() {
+		return Boolean.parseBoolean(getProperty("retry.after.enabled"));
+	}
+
+	public Long getRetryAfterMax() {
+		return Long.parseLong(getProperty("retry.after.max"));
+	}
+
+	public Integer getRetryBudgetMin() {
+		return Integer.parseInt(getProperty("retry.budget.min"));
+	}
+
+	public Double getRetryBudgetRatio() {
+		return Double.parseDouble(getProperty("retry.budget.ratio"));
+	}
+
+	// ------------------- Circuit Breaker ------------------- //
+	public Boolean isCircuitBreakerEnabled() {
+		return Boolean.parseBoolean(getProperty("circuit.breaker.enabled"));
+	}
+
+	public Integer getCircuitBreakerWindowSize() {
+		return Integer.parseInt(getProperty("circuit.breaker.window.size"));
+	}
+
+	public Integer getCircuitBreakerMinimumCalls() {
+		return Integer.parseInt(getProperty("circuit.breaker.minimum.calls"));
+	}
+
+	public Integer getCircuitBreakerFailureRateThreshold() {
+		return Integer.parseInt(getProperty("circuit.breaker.failure.rate.threshold"));
+	}
+
+	public String getCircuitBreakerFailureStatusCodes() {
+		return getProperty("circuit.breaker.failure.status.codes");
+	}
+
+	public Long getCircuitBreakerSlowCallDuration() {
+		return Long.parseLong(getProperty("circuit.breaker.slow.call.duration"));
+	}
+
+	public Integer getCircuitBreakerSlowCallRateThreshold() {
+		return Integer.parseInt(getProperty("circuit.breaker.slow.call.rate.threshold"));
+	}
+
+	public Long getCircuitBreakerOpenDuration() {
+		return Long.parseLong(getProperty("circuit.breaker.open.duration"));
+	}
+
+	public Integer getCircuitBreakerHalfOpenCalls() {
+		return Integer.parseInt(getProperty("circuit.breaker.half.open.calls"));
+	}
+
+	// ------------------- HTTP Connection Pool ------------------- //
+	public Integer getHttpPoolMaxTotal() {
+		return Integer.parseInt(getProperty("http.pool.max.total"));
+	}
+
+	public Integer getHttpPoolMaxPerRoute() {
+		return Integer.parseInt(getProperty("http.pool.max.per.route"));
+	}
+
+	public Long getHttpPoolIdleTimeout() {
+		return Long.parseLong(getProperty("http.pool.idle.timeout"));
+	}
+
+	public Long getHttpPoolEvictionInterval() {
+		return Long.parseLong(getProperty("http.pool.eviction.interval"));
+	}
+
+	public Boolean isHttpPoolStatsEnabled() {
+		return Boolean.parseBoolean(getProperty("http.pool.stats.enabled"));
+	}
+
+	// ------------------- Asynchronous Requests ------------------- //
+	public Integer getAsyncPoolSize() {
+		return Integer.parseInt(getProperty("async.pool.size"));
+	}
+
+	// ------------------- Latency Metrics ------------------- //
+	public Boolean isLatencyMetricsEnabled() {
+		return Boolean.parseBoolean(getProperty("metrics.latency.enabled"));
+	}
+
+	public String getLatencyReportFile() {
+		return getProperty("metrics.latency.report");
+	}
+
+	// ------------------- Rate Limit ------------------- //
+	public Map<String, String> getRateLimits() {
+		return getPropertiesWithPrefix("ratelimit.");
+	}
+
+	// ------------------- Batch Requests ------------------- //
+	public Integer getBatchParallelism() {
+		return Integer.parseInt(getProperty("batch.parallelism"));
+	}
+
+	public String getBatchMode() {
+		return getProperty("batch.mode");
+	}
+
+	// ------------------- JSON Codec ------------------- //
+	public String getJsonCodec() {
+		return getProperty("json.codec");
+	}
+
+	// ------------------- Compression ------------------- //
+	public Boolean isCompressionEnabled() {
+		return Boolean.parseBoolean(getProperty("compression.enabled"));
+	}
+
+	public String getCompressionAcceptEncoding() {
+		return getProperty("compression.accept.encoding");
+	}
+
+	public Boolean isRequestCompressionEnabled() {
+		return Boolean.parseBoolean(getProperty("compression.request.enabled"));
+	}
+
+	public Integer getRequestCompressionMinSize() {
+		return Integer.parseInt(getProperty("compression.request.min.size"));
+	}
+
+	public Boolean isTransferMetricsEnabled() {
+		return Boolean.parseBoolean(getProperty("metrics.transfer.enabled"));
+	}
+
+	public String getTransferReportFile() {
+		return getProperty("metrics.transfer.report");
+	}
+
+	// ------------------- JSON Schemas ------------------- //
+	public String getSchemaEngine() {
+		return getProperty("schema.engine");
+	}
+
+	public Boolean isSchemaWarmUpEnabled() {
+		return Boolean.parseBoolean(getProperty("schema.warmup.enabled"));
+	}
+
+	public Integer getSchemaWarmUpParallelism() {
+		return Integer.parseInt(getProperty("schema.warmup.parallelism"));
+	}
+
+	public Integer getSchemaStreamingMaxViolations() {
+		return Integer.parseInt(getProperty("schema.streaming.max.violations"));
+	}
+
 	// ------------------- Standard Parameters for Requests ------------------- //
 	public String getRequestContentType() {
 		return getProperty("request.content.type");
@@ -249,6 +417,39 @@ public class ConfigurationsProperties extends PropertyReader {
 		return runner.toLowerCase();
 	}
 
+	// ------------------- Load Test ------------------- //
+	public String getLoadTarget() {
+		return getProperty("load.target");
+	}
+
+	public String getLoadSchedule() {
+		return getProperty("load.schedule");
+	}
+
+	public Double getLoadRate() {
+		return Double.parseDouble(getProperty("load.rate"));
+	}
+
+	public Double getLoadRateEnd() {
+		return Double.parseDouble(getProperty("load.rate.end"));
+	}
+
+	public Double getLoadStepIncrement() {
+		return Double.parseDouble(getProperty("load.step.increment"));
+	}
+
+	public Long getLoadStepDuration() {
+		return Long.parseLong(getProperty("load.step.duration"));
+	}
+
+	public Long getLoadDuration() {
+		return Long.parseLong(getProperty("load.duration"));
+	}
+
+	public Integer getLoadMaxConcurrency() {
+		return Integer.parseInt(getProperty("load.max.concurrency"));
+	}
+
 	public void selectEnvironment() {
 		String environment = getActiveEnvironment();
 		environment = environment.replaceAll("\\s", "");
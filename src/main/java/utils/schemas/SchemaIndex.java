@@ -0,0 +1,111 @@
+package utils.schemas;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import controller.request.metrics.UrlTemplate;
+import io.restassured.http.Method;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Índice dos JSON Schemas por método, endpoint e status code.
+ * <p>
+ * Montado uma única vez a partir da estrutura
+ * `schemas/<área>/<método>/<recurso>/<nome>_<status>.json`: o schema
+ * `schemas/account/post/authorized/authorized_post_success_200.json`, por
+ * exemplo, é o da resposta 200 de `POST /Account/v1/Authorized`. A URL da
+ * requisição é reduzida ao seu modelo ({@link UrlTemplate}) e a área e o
+ * recurso são o primeiro e o último segmento do caminho, ignorando versões
+ * (`v1`) e identificadores; os nomes são comparados sem maiúsculas, hífens ou
+ * sublinhados (`GenerateToken` casa com `generate-token`).
+ */
+@Log4j2
+public final class SchemaIndex {
+
+	private static final Pattern LAYOUT = Pattern
+			.compile("schemas/([^/]+)/([^/]+)/([^/]+)/[^/]*_(\\d{3})\\.json");
+	private static final Pattern VERSION = Pattern.compile("v\\d+");
+	private static final SchemaIndex INSTANCE = new SchemaIndex(SchemaRegistry.getInstance().findSchemas());
+
+	private final Map<String, String> schemas;
+
+	SchemaIndex(List<String> resourcePaths) {
+		Map<String, String> index = new HashMap<>();
+		for (String resourcePath : resourcePaths) {
+			Matcher matcher = LAYOUT.matcher(resourcePath);
+			if (!matcher.matches()) {
+				log.debug("Schema fora da estrutura <área>/<método>/<recurso>/<nome>_<status>.json: " + resourcePath);
+				continue;
+			}
+			String key = key(matcher.group(2), normalize(matcher.group(1)), normalize(matcher.group(3)),
+					Integer.parseInt(matcher.group(4)));
+			String previous = index.putIfAbsent(key, resourcePath);
+			if (previous != null) {
+				log.warn("Schemas duplicados para " + key + ": " + previous + " e " + resourcePath + "; usando "
+						+ previous);
+			}
+		}
+		schemas = Collections.unmodifiableMap(index);
+		log.info("Índice de JSON Schemas montado com " + schemas.size() + " endpoints");
+	}
+
+	/**
+	 * Retorna a instância única do índice.
+	 *
+	 * @return SchemaIndex compartilhado pela JVM.
+	 */
+	public static SchemaIndex getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Localiza o schema da resposta do endpoint.
+	 *
+	 * @param method     Método HTTP da requisição.
+	 * @param url        URL da requisição (completa ou só o caminho).
+	 * @param statusCode Status code da resposta.
+	 * @return String caminho do schema no classpath, ou null se não houver schema
+	 *         para o endpoint e status.
+	 */
+	public String find(Method method, String url, int statusCode) {
+		String area = null;
+		String resource = null;
+		for (String segment : UrlTemplate.of(url).split("/")) {
+			if (segment.isEmpty() || segment.startsWith("{") || VERSION.matcher(segment).matches()) {
+				continue;
+			}
+			if (area == null) {
+				area = normalize(segment);
+			} else {
+				resource = normalize(segment);
+			}
+		}
+		if (resource == null) {
+			return null;
+		}
+		return schemas.get(key(method.name(), area, resource, statusCode));
+	}
+
+	public int size() {
+		return schemas.size();
+	}
+
+	private static String key(String method, String area, String resource, int statusCode) {
+		return method.toUpperCase() + " " + area + "/" + resource + " " + statusCode;
+	}
+
+	private static String normalize(String name) {
+		StringBuilder normalized = new StringBuilder(name.length());
+		for (int index = 0; index < name.length(); index++) {
+			char current = name.charAt(index);
+			if (current != '-' && current != '_') {
+				normalized.append(Character.toLowerCase(current));
+			}
+		}
+		return normalized.toString();
+	}
+}
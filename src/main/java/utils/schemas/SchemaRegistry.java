@@ -0,0 +1,257 @@
+package utils.schemas;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.log4j.Log4j2;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+import utils.schemas.engine.CompiledSchema;
+import utils.schemas.engine.FgeSchemaEngine;
+import utils.schemas.engine.NetworkntSchemaEngine;
+import utils.schemas.engine.SchemaEngine;
+
+/**
+ * Cache dos JSON Schemas de `resources/schemas`, compartilhado por toda a JVM.
+ * <p>
+ * Cada schema é lido do classpath como stream (funciona também dentro de um
+ * jar) e compilado uma única vez pelo {@link SchemaEngine} configurado em
+ * `schema.engine`, no primeiro uso; as validações seguintes, de
+ * qualquer cenário ou thread, reaproveitam o schema compilado. O número de
+ * schemas carregados e de acertos e falhas do cache é registrado no log ao
+ * final dos cenários (ver {@link #logStatistics()}). Com `schema.warmup.enabled`, todos os schemas são
+ * compilados antes do primeiro cenário (ver {@link #warmUp(int)}).
+ */
+@Log4j2
+public final class SchemaRegistry {
+
+	private static final SchemaRegistry INSTANCE = new SchemaRegistry(new ConfigurationsProperties());
+	private static final String SCHEMAS_ROOT = "schemas";
+
+	private final ObjectMapper mapper = new ObjectMapper();
+	private final SchemaEngine engine;
+	private final Map<String, CompiledSchema> schemas = new ConcurrentHashMap<>();
+	private final Map<String, StreamingSchema> streamingSchemas = new ConcurrentHashMap<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	private SchemaRegistry(ConfigurationsProperties configurationsProperties) {
+		engine = create(configurationsProperties.getSchemaEngine());
+		log.info("Motor de validação de JSON Schema: " + engine.getName());
+	}
+
+	/**
+	 * Retorna a instância única do cache de schemas.
+	 *
+	 * @return SchemaRegistry compartilhado pela JVM.
+	 */
+	public static SchemaRegistry getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Retorna o schema compilado, carregando-o do classpath no primeiro acesso.
+	 *
+	 * @param resourcePath Caminho do schema no classpath (ex:
+	 *                     `schemas/account/post/user/user_post_success_201.json`).
+	 * @return CompiledSchema compilado pelo motor configurado.
+	 * @throws FileNotFoundException Se o arquivo de schema não for encontrado.
+	 */
+	public CompiledSchema get(String resourcePath) throws FileNotFoundException {
+		CompiledSchema schema = schemas.get(resourcePath);
+		if (schema != null) {
+			hits.increment();
+			return schema;
+		}
+		try {
+			return schemas.computeIfAbsent(resourcePath, this::load);
+		} catch (UncheckedIOException e) {
+			if (e.getCause() instanceof FileNotFoundException) {
+				throw (FileNotFoundException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Retorna o schema preparado para a validação em fluxo de respostas grandes
+	 * (ver {@link StreamingSchema}), montando-o no primeiro acesso.
+	 *
+	 * @param resourcePath Caminho do schema no classpath.
+	 * @return StreamingSchema do schema.
+	 * @throws FileNotFoundException Se o arquivo de schema não for encontrado.
+	 */
+	public StreamingSchema getStreaming(String resourcePath) throws FileNotFoundException {
+		StreamingSchema schema = streamingSchemas.get(resourcePath);
+		if (schema != null) {
+			return schema;
+		}
+		CompiledSchema fullSchema = get(resourcePath);
+		try {
+			return streamingSchemas.computeIfAbsent(resourcePath,
+					path -> new StreamingSchema(read(path), engine, fullSchema));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalStateException("Schema inválido: " + resourcePath + " - " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Localiza todos os schemas de `resources/schemas` e os compila em paralelo
+	 * em um {@link ForkJoinPool}, para que os cenários não paguem a compilação no
+	 * meio do fluxo. Interrompe o aquecimento no primeiro schema inválido.
+	 *
+	 * @param parallelism Quantidade de schemas compilados em paralelo (0 usa o
+	 *                    número de processadores).
+	 * @return int quantidade de schemas compilados.
+	 */
+	public int warmUp(int parallelism) {
+		long start = System.nanoTime();
+		List<String> resourcePaths = findSchemas();
+		ForkJoinPool pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+		try {
+			pool.submit(() -> resourcePaths.parallelStream().forEach(path -> schemas.computeIfAbsent(path, this::load)))
+					.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Aquecimento dos JSON Schemas interrompido", e);
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+					: new IllegalStateException(e.getCause());
+		} finally {
+			pool.shutdownNow();
+		}
+		log.info("Aquecimento dos JSON Schemas: " + resourcePaths.size() + " schemas compilados em "
+				+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+		return resourcePaths.size();
+	}
+
+	/**
+	 * Registra no log o número de schemas carregados e os acertos e falhas do
+	 * cache. Chamado pelo hook `@AfterAll` dos cenários, enquanto o Log4j2 ainda
+	 * está ativo (em um shutdown hook da JVM o registro pode se perder).
+	 */
+	public void logStatistics() {
+		log.info("Cache de JSON Schemas: " + schemas.size() + " schemas, hits=" + getHits() + ", misses="
+				+ getMisses());
+	}
+
+	public SchemaEngine getEngine() {
+		return engine;
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public int size() {
+		return schemas.size();
+	}
+
+	/**
+	 * Lê e compila o schema, recusando schemas com erros de sintaxe.
+	 */
+	private CompiledSchema load(String resourcePath) {
+		misses.increment();
+		try {
+			return engine.compile(read(resourcePath));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalStateException("Schema inválido: " + resourcePath + " - " + e.getMessage(), e);
+		}
+	}
+
+	private JsonNode read(String resourcePath) {
+		try (InputStream input = getClass().getClassLoader().getResourceAsStream(resourcePath)) {
+			if (input == null) {
+				throw new FileNotFoundException("Arquivo de schema não encontrado: " + resourcePath);
+			}
+			return mapper.readTree(input);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static SchemaEngine create(String name) {
+		String engineName = name.trim();
+		switch (engineName.toLowerCase()) {
+		case "":
+		case "networknt":
+			return new NetworkntSchemaEngine();
+		case "fge":
+			return new FgeSchemaEngine();
+		default:
+			try {
+				return (SchemaEngine) Class.forName(engineName).getDeclaredConstructor().newInstance();
+			} catch (ReflectiveOperationException | ClassCastException e) {
+				log.error("Motor de JSON Schema inválido: " + engineName + "; usando networknt. " + e.getMessage());
+				return new NetworkntSchemaEngine();
+			}
+		}
+	}
+
+	/**
+	 * Lista os caminhos (no classpath) dos arquivos `.json` de `resources/schemas`,
+	 * estejam eles em diretórios ou dentro de um jar.
+	 */
+	List<String> findSchemas() {
+		List<String> resourcePaths = new ArrayList<>();
+		try {
+			Enumeration<URL> roots = getClass().getClassLoader().getResources(SCHEMAS_ROOT);
+			while (roots.hasMoreElements()) {
+				URI root = roots.nextElement().toURI();
+				if ("jar".equals(root.getScheme())) {
+					FileSystem jar;
+					try {
+						jar = FileSystems.newFileSystem(root, Collections.<String, Object>emptyMap());
+					} catch (FileSystemAlreadyExistsException e) {
+						jar = FileSystems.getFileSystem(root);
+					}
+					collectSchemas(jar.getPath(SCHEMAS_ROOT), resourcePaths);
+				} else {
+					collectSchemas(Paths.get(root), resourcePaths);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Erro ao localizar os JSON Schemas", e);
+		} catch (URISyntaxException e) {
+			throw new IllegalStateException(e);
+		}
+		return resourcePaths;
+	}
+
+	private static void collectSchemas(Path root, List<String> resourcePaths) throws IOException {
+		try (Stream<Path> files = Files.walk(root)) {
+			files.filter(file -> file.getFileName().toString().endsWith(".json")).forEach(file -> {
+				String relativePath = root.relativize(file).toString();
+				resourcePaths.add(SCHEMAS_ROOT + "/" + relativePath.replace(file.getFileSystem().getSeparator(), "/"));
+			});
+		}
+	}
+}
@@ -1,19 +1,46 @@
 package utils.schemas;
 
-import java.io.File;
 import java.io.FileNotFoundException;
-import java.net.URL;
+import java.util.List;
 
-import io.restassured.RestAssured;
-import io.restassured.module.jsv.JsonSchemaValidator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import controller.request.response.ParsedResponse;
 import io.restassured.response.Response;
 import lombok.extern.log4j.Log4j2;
+import utils.readers.properties.configuration.ConfigurationsProperties;
+import utils.schemas.engine.CompiledSchema;
 
+/**
+ * Validação dos corpos das respostas com os JSON Schemas de `resources/schemas`.
+ * <p>
+ * As validações a partir de uma `Response` usam o corpo decodificado da
+ * {@link ParsedResponse}, então respostas em formatos binários (CBOR, Smile,
+ * MessagePack) são validadas pelo JSON equivalente. Os schemas são lidos e
+ * compilados uma única vez pelo {@link SchemaRegistry} e, sem caminho
+ * informado, localizados pelo {@link SchemaIndex}.
+ */
 @Log4j2
 public class SchemaValidator {
     
     private static final String FILE_EXTENSION = ".json";
     private static final String FILE_BASE_PATH = "schemas/";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final SchemaRegistry registry = SchemaRegistry.getInstance();
+    private final SchemaIndex index = SchemaIndex.getInstance();
+    private final int maxStreamingViolations = new ConfigurationsProperties().getSchemaStreamingMaxViolations();
+
+    /**
+     * Cria o validador, conferindo o número máximo de violações da validação em
+     * fluxo (`schema.streaming.max.violations`).
+     *
+     * @throws IllegalArgumentException Se o número máximo de violações for menor que 1.
+     */
+    public SchemaValidator() {
+        StreamingSchema.checkMaxViolations(maxStreamingViolations);
+    }
 
     /**
      * Valida o corpo da resposta JSON com base no arquivo de schema fornecido.
@@ -25,17 +52,10 @@ public class SchemaValidator {
      * @throws FileNotFoundException Se o arquivo de schema não for encontrado.
      */
     public boolean validateResponseBodyWithJSONSchema(String filePath, String fileName, String responseBody) throws FileNotFoundException {
-        File schemaFile = getSchemaFile(filePath, fileName);
+        String schemaPath = getSchemaPath(filePath, fileName);
+        CompiledSchema schema = registry.get(schemaPath);
         try {
-            RestAssured
-                .given()
-                .body(responseBody)
-                .then()
-                .body(JsonSchemaValidator.matchesJsonSchema(schemaFile));
-            return true;
-        } catch (AssertionError e) {
-            log.error("Erro na validação do schema: " + e.getMessage());
-            return false;
+            return validate(schema, schemaPath, MAPPER.readTree(responseBody));
         } catch (Exception e) {
             log.error("Erro inesperado durante a validação do schema: " + e.getMessage(), e);
             return false;
@@ -53,17 +73,10 @@ public class SchemaValidator {
      * @throws FileNotFoundException Se o arquivo de schema não for encontrado.
      */
     public boolean validateResponseBodyWithJSONSchema(String filePath, String fileName, String fileExtension, String responseBody) throws FileNotFoundException {
-        File schemaFile = getSchemaFile(filePath, fileName, fileExtension);
+        String schemaPath = getSchemaPath(filePath, fileName, fileExtension);
+        CompiledSchema schema = registry.get(schemaPath);
         try {
-            RestAssured
-                .given()
-                .body(responseBody)
-                .then()
-                .body(JsonSchemaValidator.matchesJsonSchema(schemaFile));
-            return true;
-        } catch (AssertionError e) {
-            log.error("Erro na validação do schema: " + e.getMessage());
-            return false;
+            return validate(schema, schemaPath, MAPPER.readTree(responseBody));
         } catch (Exception e) {
             log.error("Erro inesperado durante a validação do schema: " + e.getMessage(), e);
             return false;
@@ -79,17 +92,9 @@ public class SchemaValidator {
      * @throws FileNotFoundException Se o arquivo de schema não for encontrado.
      */
     public boolean validateResponseBodyWithJSONSchema(String filePathNameExtension, String responseBody) throws FileNotFoundException {
-        File schemaFile = getSchemaFile(filePathNameExtension);
+        CompiledSchema schema = registry.get(filePathNameExtension);
         try {
-            RestAssured
-                .given()
-                .body(responseBody)
-                .then()
-                .body(JsonSchemaValidator.matchesJsonSchema(schemaFile));
-            return true;
-        } catch (AssertionError e) {
-            log.error("Erro na validação do schema: " + e.getMessage());
-            return false;
+            return validate(schema, filePathNameExtension, MAPPER.readTree(responseBody));
         } catch (Exception e) {
             log.error("Erro inesperado durante a validação do schema: " + e.getMessage(), e);
             return false;
@@ -106,15 +111,10 @@ public class SchemaValidator {
      * @throws FileNotFoundException Se o arquivo de schema não for encontrado.
      */
     public boolean validateResponseBodyWithJSONSchema(String filePath, String fileName, Response response) throws FileNotFoundException {
-        File schemaFile = getSchemaFile(filePath, fileName);
+        String schemaPath = getSchemaPath(filePath, fileName);
+        CompiledSchema schema = registry.get(schemaPath);
         try {
-            response
-                .then()
-                .body(JsonSchemaValidator.matchesJsonSchema(schemaFile));
-            return true;
-        } catch (AssertionError e) {
-            log.error("Erro na validação do schema: " + e.getMessage());
-            return false;
+            return validate(schema, schemaPath, ParsedResponse.of(response).getTree());
         } catch (Exception e) {
             log.error("Erro inesperado durante a validação do schema: " + e.getMessage(), e);
             return false;
@@ -132,15 +132,10 @@ public class SchemaValidator {
      * @throws FileNotFoundException Se o arquivo de schema não for encontrado.
      */
     public boolean validateResponseBodyWithJSONSchema(String filePath, String fileName, String fileExtension, Response response) throws FileNotFoundException {
-        File schemaFile = getSchemaFile(filePath, fileName, fileExtension);
+        String schemaPath = getSchemaPath(filePath, fileName, fileExtension);
+        CompiledSchema schema = registry.get(schemaPath);
         try {
-            response
-                .then()
-                .body(JsonSchemaValidator.matchesJsonSchema(schemaFile));
-            return true;
-        } catch (AssertionError e) {
-            log.error("Erro na validação do schema: " + e.getMessage());
-            return false;
+            return validate(schema, schemaPath, ParsedResponse.of(response).getTree());
         } catch (Exception e) {
             log.error("Erro inesperado durante a validação do schema: " + e.getMessage(), e);
             return false;
@@ -156,70 +151,146 @@ public class SchemaValidator {
      * @throws FileNotFoundException Se o arquivo de schema não for encontrado.
      */
     public boolean validateResponseBodyWithJSONSchema(String filePathNameExtension, Response response) throws FileNotFoundException {
-        File schemaFile = getSchemaFile(filePathNameExtension);
+        CompiledSchema schema = registry.get(filePathNameExtension);
         try {
-            response
-                .then()
-                .body(JsonSchemaValidator.matchesJsonSchema(schemaFile));
-            return true;
-        } catch (AssertionError e) {
-            log.error("Erro na validação do schema: " + e.getMessage());
+            return validate(schema, filePathNameExtension, ParsedResponse.of(response).getTree());
+        } catch (Exception e) {
+            log.error("Erro inesperado durante a validação do schema: " + e.getMessage(), e);
             return false;
+        }
+    }
+
+    /**
+     * Valida o corpo da resposta JSON com o schema do endpoint, localizado pelo
+     * {@link SchemaIndex} a partir do método, da URL e do status code da resposta.
+     *
+     * @param response O objeto Response da RestAssured contendo a resposta da API.
+     * @return true se o JSON estiver de acordo com o schema, false caso contrário.
+     * @throws FileNotFoundException Se não houver schema para o endpoint e status.
+     */
+    public boolean validateResponseBodyWithJSONSchema(Response response) throws FileNotFoundException {
+        ParsedResponse parsedResponse = ParsedResponse.of(response);
+        String schemaPath = findSchemaPath(parsedResponse);
+        CompiledSchema schema = registry.get(schemaPath);
+        try {
+            return validate(schema, schemaPath, parsedResponse.getTree());
         } catch (Exception e) {
             log.error("Erro inesperado durante a validação do schema: " + e.getMessage(), e);
             return false;
         }
     }
 
-    //--------------------------------------------------------------------------------------------------
-    
     /**
-     * Localiza o arquivo de schema JSON dentro da pasta "resources/schemas".
+     * Valida em fluxo o corpo de uma resposta grande (ex: catálogos), item a item,
+     * sem montar a árvore do documento inteiro e parando após o número de
+     * violações definido em `schema.streaming.max.violations` (ver
+     * {@link StreamingSchema}).
      *
-     * @param filePath O caminho dentro da pasta "schemas".
+     * @param filePath O caminho do arquivo de schema dentro da pasta "schemas".
      * @param fileName O nome do arquivo de schema (sem extensão).
-     * @return O arquivo de schema.
+     * @param response O objeto Response da RestAssured contendo a resposta da API.
+     * @return true se o JSON estiver de acordo com o schema, false caso contrário.
      * @throws FileNotFoundException Se o arquivo de schema não for encontrado.
      */
-    private File getSchemaFile(String filePath, String fileName) throws FileNotFoundException {
-        String fullPath = FILE_BASE_PATH.concat(filePath).concat(fileName).concat(FILE_EXTENSION);
-        URL resource = getClass().getClassLoader().getResource(fullPath);
-        if (resource == null) {
-            throw new FileNotFoundException("Arquivo de schema não encontrado: " + fullPath);
+    public boolean validateLargeResponseBodyWithJSONSchema(String filePath, String fileName, Response response) throws FileNotFoundException {
+        return validateStreaming(getSchemaPath(filePath, fileName), response);
+    }
+
+    /**
+     * Valida em fluxo o corpo de uma resposta grande com o schema do endpoint,
+     * localizado pelo {@link SchemaIndex}.
+     *
+     * @param response O objeto Response da RestAssured contendo a resposta da API.
+     * @return true se o JSON estiver de acordo com o schema, false caso contrário.
+     * @throws FileNotFoundException Se não houver schema para o endpoint e status.
+     */
+    public boolean validateLargeResponseBodyWithJSONSchema(Response response) throws FileNotFoundException {
+        return validateStreaming(findSchemaPath(ParsedResponse.of(response)), response);
+    }
+
+    //--------------------------------------------------------------------------------------------------
+
+    /**
+     * Valida o JSON com o schema compilado, registrando no log cada violação
+     * encontrada.
+     *
+     * @param schema O schema compilado.
+     * @param schemaPath O caminho do schema, usado nas mensagens de log.
+     * @param body O JSON a ser validado.
+     * @return true se o JSON estiver de acordo com o schema, false caso contrário.
+     */
+    private boolean validate(CompiledSchema schema, String schemaPath, JsonNode body) {
+        List<String> violations = schema.validate(body);
+        for (String violation : violations) {
+            log.error("Erro na validação do schema " + schemaPath + ": " + violation);
         }
-        return new File(resource.getFile());
+        return violations.isEmpty();
     }
 
     /**
-     * Localiza o arquivo de schema JSON dentro da pasta "resources/schemas".
+     * Valida o corpo da resposta em fluxo, registrando no log cada violação
+     * encontrada.
      *
-     * @param filePath O caminho dentro da pasta "schemas".
-     * @param fileName O nome do arquivo de schema (sem extensão).
-     * @param fileExtension A extensão do arquivo de schema (ex: .json).
-     * @return O arquivo de schema.
+     * @param schemaPath O caminho do schema no classpath.
+     * @param response O objeto Response da RestAssured contendo a resposta da API.
+     * @return true se o JSON estiver de acordo com o schema, false caso contrário.
      * @throws FileNotFoundException Se o arquivo de schema não for encontrado.
      */
-    private File getSchemaFile(String filePath, String fileName, String fileExtension) throws FileNotFoundException {
-        String fullPath = FILE_BASE_PATH.concat(filePath).concat(fileName).concat(fileExtension);
-        URL resource = getClass().getClassLoader().getResource(fullPath);
-        if (resource == null) {
-            throw new FileNotFoundException("Arquivo de schema não encontrado: " + fullPath);
+    private boolean validateStreaming(String schemaPath, Response response) throws FileNotFoundException {
+        StreamingSchema schema = registry.getStreaming(schemaPath);
+        try {
+            List<String> violations = schema.validate(ParsedResponse.of(response).asJsonBytes(), maxStreamingViolations);
+            for (String violation : violations) {
+                log.error("Erro na validação do schema " + schemaPath + ": " + violation);
+            }
+            return violations.isEmpty();
+        } catch (Exception e) {
+            log.error("Erro inesperado durante a validação do schema: " + e.getMessage(), e);
+            return false;
         }
-        return new File(resource.getFile());
     }
 
     /**
-     * Localiza o arquivo de schema JSON dentro da pasta "resources/schemas".
+     * Localiza pelo {@link SchemaIndex} o schema da resposta, a partir do método,
+     * da URL e do status code.
      *
-     * @param filePathNameExtension O caminho completo, incluindo nome e extensão do arquivo.
-     * @return O arquivo de schema.
-     * @throws FileNotFoundException Se o arquivo de schema não for encontrado.
+     * @param parsedResponse A resposta da requisição.
+     * @return O caminho do schema no classpath.
+     * @throws FileNotFoundException Se não houver schema para o endpoint e status.
      */
-    private File getSchemaFile(String filePathNameExtension) throws FileNotFoundException {
-        URL resource = getClass().getClassLoader().getResource(filePathNameExtension);
-        if (resource == null) {
-            throw new FileNotFoundException("Arquivo de schema não encontrado: " + filePathNameExtension);
+    private String findSchemaPath(ParsedResponse parsedResponse) throws FileNotFoundException {
+        if (parsedResponse.getMethod() == null) {
+            throw new FileNotFoundException("Requisição desconhecida: a resposta não foi enviada pelo executor");
+        }
+        String schemaPath = index.find(parsedResponse.getMethod(), parsedResponse.getUrl(),
+                parsedResponse.getStatusCode());
+        if (schemaPath == null) {
+            throw new FileNotFoundException("Nenhum schema para " + parsedResponse.getMethod() + " "
+                    + parsedResponse.getUrl() + " " + parsedResponse.getStatusCode());
         }
-        return new File(resource.getFile());
+        return schemaPath;
+    }
+
+    /**
+     * Monta o caminho do schema JSON dentro da pasta "resources/schemas".
+     *
+     * @param filePath O caminho dentro da pasta "schemas".
+     * @param fileName O nome do arquivo de schema (sem extensão).
+     * @return O caminho do schema no classpath.
+     */
+    private String getSchemaPath(String filePath, String fileName) {
+        return getSchemaPath(filePath, fileName, FILE_EXTENSION);
+    }
+
+    /**
+     * Monta o caminho do schema JSON dentro da pasta "resources/schemas".
+     *
+     * @param filePath O caminho dentro da pasta "schemas".
+     * @param fileName O nome do arquivo de schema (sem extensão).
+     * @param fileExtension A extensão do arquivo de schema (ex: .json).
+     * @return O caminho do schema no classpath.
+     */
+    private String getSchemaPath(String filePath, String fileName, String fileExtension) {
+        return FILE_BASE_PATH + filePath + fileName + fileExtension;
     }
 }
@@ -0,0 +1,322 @@
+package utils.schemas;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import utils.schemas.engine.CompiledSchema;
+import utils.schemas.engine.SchemaEngine;
+
+/**
+ * Validação em fluxo de respostas com arrays grandes (ex: catálogos).
+ * <p>
+ * Em vez de montar a árvore do documento inteiro, o corpo é lido token a token
+ * e cada item dos arrays é validado assim que termina de ser lido e então
+ * descartado; a memória usada fica limitada ao maior item. A validação para
+ * assim que o número máximo de violações é atingido.
+ * <p>
+ * Só uma parte dos schemas permite a leitura em fluxo: a raiz deve ser um
+ * objeto (`properties`, `required` e `additionalProperties` booleano) ou um
+ * array, e os arrays validados em fluxo só podem usar `items` (um único schema),
+ * `minItems` e `maxItems`, sem `$ref`. Os demais campos são validados pelo
+ * motor configurado, um a um. Schemas fora desse subconjunto são validados da
+ * forma tradicional, com o documento inteiro em memória.
+ */
+public final class StreamingSchema {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	private static final ObjectMapper TREE_READER = new ObjectMapper(JSON_FACTORY);
+
+	private static final Set<String> ANNOTATIONS = new HashSet<>(
+			Arrays.asList("$schema", "$id", "id", "$comment", "title", "description", "default", "examples"));
+	private static final Set<String> OBJECT_KEYWORDS = new HashSet<>(
+			Arrays.asList("type", "properties", "required", "additionalProperties"));
+	private static final Set<String> ARRAY_KEYWORDS = new HashSet<>(
+			Arrays.asList("type", "items", "minItems", "maxItems"));
+
+	private final CompiledSchema fullSchema;
+	private final boolean streamable;
+	private final ArrayPlan rootArray;
+	private final Map<String, ArrayPlan> arrays = new HashMap<>();
+	private final Map<String, CompiledSchema> properties = new HashMap<>();
+	private final Set<String> required = new LinkedHashSet<>();
+	private final boolean additionalPropertiesAllowed;
+
+	/**
+	 * Prepara a validação em fluxo do schema.
+	 *
+	 * @param schema     Documento do schema.
+	 * @param engine     Motor usado para compilar os trechos do schema.
+	 * @param fullSchema Schema completo já compilado, usado quando o schema não
+	 *                   permite a leitura em fluxo.
+	 */
+	StreamingSchema(JsonNode schema, SchemaEngine engine, CompiledSchema fullSchema) {
+		this.fullSchema = fullSchema;
+		String type = schema.path("type").asText();
+		if (type.equals("array") && isStreamableArray(schema)) {
+			rootArray = new ArrayPlan(schema, engine);
+			streamable = true;
+			additionalPropertiesAllowed = true;
+		} else if (type.equals("object") && isStreamableObject(schema)) {
+			rootArray = null;
+			JsonNode version = schema.get("$schema");
+			schema.path("properties").fields().forEachRemaining(property -> {
+				JsonNode propertySchema = property.getValue();
+				properties.put(property.getKey(), engine.compile(withVersion(propertySchema, version)));
+				if (propertySchema.path("type").asText().equals("array") && isStreamableArray(propertySchema)) {
+					arrays.put(property.getKey(), new ArrayPlan(withVersion(propertySchema, version), engine));
+				}
+			});
+			schema.path("required").forEach(name -> required.add(name.asText()));
+			additionalPropertiesAllowed = schema.path("additionalProperties").asBoolean(true);
+			streamable = true;
+		} else {
+			rootArray = null;
+			additionalPropertiesAllowed = true;
+			streamable = false;
+		}
+	}
+
+	/**
+	 * Indica se o schema é validado em fluxo ou com o documento inteiro em
+	 * memória.
+	 */
+	public boolean isStreamable() {
+		return streamable;
+	}
+
+	/**
+	 * Valida o JSON, parando ao atingir o número máximo de violações.
+	 *
+	 * @param json          Documento JSON.
+	 * @param maxViolations Número máximo de violações informadas.
+	 * @return List com as violações (`<JSON Pointer> <mensagem>`), vazia se o JSON
+	 *         for válido.
+	 * @throws IllegalArgumentException Se o número máximo de violações for menor
+	 *                                  que 1.
+	 */
+	public List<String> validate(byte[] json, int maxViolations) {
+		checkMaxViolations(maxViolations);
+		if (!streamable) {
+			return limit(fullSchema.validate(readTree(json)), maxViolations);
+		}
+		try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+			return validate(parser, maxViolations);
+		} catch (IOException e) {
+			throw new UncheckedIOException("JSON inválido na validação do schema", e);
+		}
+	}
+
+	/**
+	 * Valida o JSON lido do stream, parando ao atingir o número máximo de
+	 * violações.
+	 *
+	 * @param json          Documento JSON.
+	 * @param maxViolations Número máximo de violações informadas.
+	 * @return List com as violações (`<JSON Pointer> <mensagem>`), vazia se o JSON
+	 *         for válido.
+	 * @throws IllegalArgumentException Se o número máximo de violações for menor
+	 *                                  que 1.
+	 */
+	public List<String> validate(InputStream json, int maxViolations) {
+		checkMaxViolations(maxViolations);
+		try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+			if (!streamable) {
+				parser.nextToken();
+				return limit(fullSchema.validate(TREE_READER.readTree(parser)), maxViolations);
+			}
+			return validate(parser, maxViolations);
+		} catch (IOException e) {
+			throw new UncheckedIOException("JSON inválido na validação do schema", e);
+		}
+	}
+
+	/**
+	 * Confere o número máximo de violações: com zero ou menos, a validação
+	 * pararia antes de começar e todo JSON seria aceito.
+	 */
+	static void checkMaxViolations(int maxViolations) {
+		if (maxViolations < 1) {
+			throw new IllegalArgumentException(
+					"O número máximo de violações deve ser maior que zero: " + maxViolations);
+		}
+	}
+
+	private List<String> validate(JsonParser parser, int maxViolations) throws IOException {
+		Violations violations = new Violations(maxViolations);
+		JsonToken token = parser.nextToken();
+		if (rootArray != null) {
+			if (token != JsonToken.START_ARRAY) {
+				violations.add("/ deveria ser um array");
+			} else {
+				rootArray.stream(parser, "", violations);
+			}
+			return violations.list;
+		}
+		if (token != JsonToken.START_OBJECT) {
+			violations.add("/ deveria ser um objeto");
+			return violations.list;
+		}
+		Set<String> present = new HashSet<>();
+		while (parser.nextToken() == JsonToken.FIELD_NAME && !violations.isFull()) {
+			String name = parser.currentName();
+			String pointer = "/" + name.replace("~", "~0").replace("/", "~1");
+			token = parser.nextToken();
+			present.add(name);
+			ArrayPlan array = arrays.get(name);
+			CompiledSchema property = properties.get(name);
+			if (array != null && token == JsonToken.START_ARRAY) {
+				array.stream(parser, pointer, violations);
+			} else if (property != null) {
+				violations.addAll(pointer, property.validate(TREE_READER.readTree(parser)));
+			} else {
+				parser.skipChildren();
+				if (!additionalPropertiesAllowed) {
+					violations.add(pointer + " propriedade não permitida pelo schema");
+				}
+			}
+		}
+		if (!violations.isFull()) {
+			for (String name : required) {
+				if (!present.contains(name)) {
+					violations.add("/ propriedade obrigatória '" + name + "' não encontrada");
+				}
+			}
+		}
+		return violations.list;
+	}
+
+	private static boolean isStreamableObject(JsonNode schema) {
+		if (!onlyKeywords(schema, OBJECT_KEYWORDS)) {
+			return false;
+		}
+		JsonNode additionalProperties = schema.path("additionalProperties");
+		return (additionalProperties.isMissingNode() || additionalProperties.isBoolean())
+				&& schema.path("properties").findValue("$ref") == null;
+	}
+
+	private static boolean isStreamableArray(JsonNode schema) {
+		JsonNode items = schema.path("items");
+		return onlyKeywords(schema, ARRAY_KEYWORDS) && items.isObject() && items.findValue("$ref") == null;
+	}
+
+	private static boolean onlyKeywords(JsonNode schema, Set<String> keywords) {
+		for (Iterator<String> names = schema.fieldNames(); names.hasNext();) {
+			String name = names.next();
+			if (!keywords.contains(name) && !ANNOTATIONS.contains(name)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Copia o `$schema` da raiz para o trecho, para que o motor use o mesmo draft.
+	 */
+	private static JsonNode withVersion(JsonNode schema, JsonNode version) {
+		if (version == null || !schema.isObject() || schema.has("$schema")) {
+			return schema;
+		}
+		ObjectNode copy = ((ObjectNode) schema).deepCopy();
+		copy.set("$schema", version);
+		return copy;
+	}
+
+	private static JsonNode readTree(byte[] json) {
+		try {
+			return TREE_READER.readTree(json);
+		} catch (IOException e) {
+			throw new UncheckedIOException("JSON inválido na validação do schema", e);
+		}
+	}
+
+	private static List<String> limit(List<String> violations, int maxViolations) {
+		return violations.size() <= maxViolations ? violations : new ArrayList<>(violations.subList(0, maxViolations));
+	}
+
+	/**
+	 * Array validado item a item: `items` compilado e os limites de tamanho.
+	 */
+	private static final class ArrayPlan {
+
+		private final CompiledSchema items;
+		private final int minItems;
+		private final int maxItems;
+
+		private ArrayPlan(JsonNode schema, SchemaEngine engine) {
+			items = engine.compile(withVersion(schema.get("items"), schema.get("$schema")));
+			minItems = schema.path("minItems").asInt(0);
+			maxItems = schema.path("maxItems").asInt(Integer.MAX_VALUE);
+		}
+
+		/**
+		 * Valida os itens do array. Ao atingir o máximo de violações, retorna sem
+		 * ler o restante do documento.
+		 */
+		private void stream(JsonParser parser, String pointer, Violations violations) throws IOException {
+			int count = 0;
+			while (!violations.isFull() && parser.nextToken() != JsonToken.END_ARRAY) {
+				violations.addAll(pointer + "/" + count, items.validate(TREE_READER.readTree(parser)));
+				count++;
+			}
+			if (violations.isFull()) {
+				return;
+			}
+			if (count < minItems) {
+				violations.add((pointer.isEmpty() ? "/" : pointer) + " deveria ter no mínimo " + minItems + " itens");
+			}
+			if (count > maxItems) {
+				violations.add((pointer.isEmpty() ? "/" : pointer) + " deveria ter no máximo " + maxItems + " itens");
+			}
+		}
+	}
+
+	/**
+	 * Violações encontradas, limitadas ao máximo informado.
+	 */
+	private static final class Violations {
+
+		private final int max;
+		private final List<String> list = new ArrayList<>();
+
+		private Violations(int max) {
+			this.max = max;
+		}
+
+		private boolean isFull() {
+			return list.size() >= max;
+		}
+
+		private void add(String violation) {
+			if (!isFull()) {
+				list.add(violation);
+			}
+		}
+
+		/**
+		 * Acrescenta as violações de um trecho, trocando o ponteiro relativo ao
+		 * trecho (`/pages`) pelo ponteiro no documento (`/books/3/pages`).
+		 */
+		private void addAll(String pointer, List<String> violations) {
+			for (String violation : violations) {
+				add(violation.startsWith("/ ") ? pointer + violation.substring(1) : pointer + violation);
+			}
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package utils.schemas.engine;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Schema compilado por um {@link SchemaEngine}.
+ */
+public interface CompiledSchema {
+
+	/**
+	 * Valida o JSON com o schema.
+	 *
+	 * @param instance JSON a ser validado.
+	 * @return List com as violações, cada uma no formato `<JSON Pointer>
+	 *         <mensagem>` (vazia se o JSON for válido).
+	 */
+	List<String> validate(JsonNode instance);
+}
@@ -0,0 +1,62 @@
+package utils.schemas.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.LogLevel;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+
+/**
+ * Motor baseado no `json-schema-validator` (java-json-tools), o mesmo usado pelo
+ * módulo de JSON Schema do RestAssured. Suporta apenas o draft 4: palavras-chave
+ * de drafts mais novos (ex: `const`) são ignoradas com um aviso.
+ */
+public class FgeSchemaEngine implements SchemaEngine {
+
+	private final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+
+	@Override
+	public String getName() {
+		return "fge";
+	}
+
+	@Override
+	public CompiledSchema compile(JsonNode schema) {
+		ProcessingReport syntax = factory.getSyntaxValidator().validateSchema(schema);
+		if (!syntax.isSuccess()) {
+			throw new IllegalArgumentException(String.join("; ", errors(syntax)));
+		}
+		try {
+			JsonSchema compiled = factory.getJsonSchema(schema);
+			return instance -> {
+				try {
+					return errors(compiled.validate(instance, true));
+				} catch (ProcessingException e) {
+					throw new IllegalStateException(e.getMessage(), e);
+				}
+			};
+		} catch (ProcessingException e) {
+			throw new IllegalArgumentException(e.getMessage(), e);
+		}
+	}
+
+	private static List<String> errors(ProcessingReport report) {
+		List<String> errors = new ArrayList<>();
+		if (!report.isSuccess()) {
+			for (ProcessingMessage message : report) {
+				if (message.getLogLevel().compareTo(LogLevel.ERROR) >= 0) {
+					JsonNode details = message.asJson();
+					String pointer = details.has("instance") ? details.path("instance").path("pointer").asText()
+							: details.path("schema").path("pointer").asText();
+					errors.add((pointer.isEmpty() ? "/" : pointer) + " " + message.getMessage());
+				}
+			}
+		}
+		return errors;
+	}
+}
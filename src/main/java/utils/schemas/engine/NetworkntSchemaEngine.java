@@ -0,0 +1,65 @@
+package utils.schemas.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.PathType;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.SchemaValidatorsConfig;
+import com.networknt.schema.SpecVersion.VersionFlag;
+import com.networknt.schema.SpecVersionDetector;
+import com.networknt.schema.ValidationMessage;
+
+/**
+ * Motor baseado no `json-schema-validator` da networknt, que suporta os drafts
+ * 4, 6, 7, 2019-09 e 2020-12. O draft é o declarado em `$schema` (2020-12 quando
+ * ausente) e cada schema é validado contra o meta-schema do seu draft antes de
+ * ser compilado. Os formatos (ex: `date-time`) são verificados em todos os
+ * drafts, como no motor `fge`.
+ */
+public class NetworkntSchemaEngine implements SchemaEngine {
+
+	private static final VersionFlag DEFAULT_VERSION = VersionFlag.V202012;
+
+	private final SchemaValidatorsConfig config = SchemaValidatorsConfig.builder()
+			.pathType(PathType.JSON_POINTER)
+			.formatAssertionsEnabled(true)
+			.build();
+	private final Map<VersionFlag, JsonSchemaFactory> factories = new ConcurrentHashMap<>();
+	private final Map<VersionFlag, JsonSchema> metaSchemas = new ConcurrentHashMap<>();
+
+	@Override
+	public String getName() {
+		return "networknt";
+	}
+
+	@Override
+	public CompiledSchema compile(JsonNode schema) {
+		VersionFlag version = SpecVersionDetector.detectOptionalVersion(schema, false).orElse(DEFAULT_VERSION);
+		JsonSchemaFactory factory = factories.computeIfAbsent(version, JsonSchemaFactory::getInstance);
+		JsonSchema metaSchema = metaSchemas.computeIfAbsent(version,
+				flag -> factory.getSchema(SchemaLocation.of(flag.getId()), config));
+		List<String> syntax = errors(metaSchema.validate(schema));
+		if (!syntax.isEmpty()) {
+			throw new IllegalArgumentException(String.join("; ", syntax));
+		}
+		JsonSchema compiled = factory.getSchema(schema, config);
+		compiled.initializeValidators();
+		return instance -> errors(compiled.validate(instance));
+	}
+
+	private static List<String> errors(Set<ValidationMessage> messages) {
+		List<String> errors = new ArrayList<>(messages.size());
+		for (ValidationMessage message : messages) {
+			String pointer = message.getInstanceLocation().toString();
+			errors.add((pointer.isEmpty() ? "/" : pointer) + " " + message.getError());
+		}
+		return errors;
+	}
+}
@@ -0,0 +1,29 @@
+package utils.schemas.engine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Motor de validação de JSON Schema usado pelo
+ * {@link utils.schemas.SchemaRegistry}.
+ * <p>
+ * O motor é escolhido pela propriedade `schema.engine`: `networknt` (padrão,
+ * drafts 4, 6, 7, 2019-09 e 2020-12), `fge` (draft 4) ou o nome completo de uma
+ * classe que implemente esta interface e tenha construtor sem parâmetros. As
+ * implementações devem ser thread-safe.
+ */
+public interface SchemaEngine {
+
+	/**
+	 * Nome do motor, usado nos logs.
+	 */
+	String getName();
+
+	/**
+	 * Verifica a sintaxe do schema e o compila.
+	 *
+	 * @param schema Documento do schema.
+	 * @return CompiledSchema pronto para ser reutilizado por várias threads.
+	 * @throws IllegalArgumentException Se o schema for inválido.
+	 */
+	CompiledSchema compile(JsonNode schema);
+}
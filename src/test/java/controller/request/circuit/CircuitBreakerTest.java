@@ -0,0 +1,183 @@
+package controller.request.circuit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import controller.request.circuit.CircuitBreaker.State;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+
+class CircuitBreakerTest {
+
+	private static final String HOST = "demoqa.com";
+	private static final long OPEN_DURATION = 100;
+
+	@Test
+	void staysClosedBelowTheMinimumNumberOfCalls() throws Exception {
+		CircuitBreaker breaker = breaker(10_000);
+
+		call(breaker, 503);
+		call(breaker, 503);
+		call(breaker, 503);
+
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	void opensWhenTheFailureRateReachesTheThreshold() throws Exception {
+		CircuitBreaker breaker = breaker(10_000);
+
+		call(breaker, 200);
+		call(breaker, 200);
+		call(breaker, 503);
+		assertEquals(State.CLOSED, breaker.getState());
+
+		call(breaker, 503);
+		assertEquals(State.OPEN, breaker.getState());
+	}
+
+	@Test
+	void countsExceptionsAsFailuresAndRethrowsThem() throws Exception {
+		CircuitBreaker breaker = breaker(10_000);
+		IOException failure = new IOException("Connection reset");
+
+		for (int call = 0; call < 4; call++) {
+			assertSame(failure, assertThrows(IOException.class, () -> breaker.execute(() -> {
+				throw failure;
+			})));
+		}
+
+		assertEquals(State.OPEN, breaker.getState());
+	}
+
+	@Test
+	void slidingWindowForgetsOldFailures() throws Exception {
+		CircuitBreaker breaker = breaker(10_000);
+
+		call(breaker, 503);
+		for (int call = 0; call < 10; call++) {
+			call(breaker, 200);
+		}
+		// Janela de 4 chamadas: a falha antiga saiu, só a nova conta (25%)
+		call(breaker, 503);
+
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	void opensOnSlowCalls() throws Exception {
+		CircuitBreaker breaker = breaker(20);
+
+		for (int call = 0; call < 4; call++) {
+			breaker.execute(() -> {
+				Thread.sleep(25);
+				return response(200);
+			});
+		}
+
+		assertEquals(State.OPEN, breaker.getState());
+	}
+
+	@Test
+	void rejectsCallsWhileOpen() throws Exception {
+		CircuitBreaker breaker = opened();
+		AtomicInteger calls = new AtomicInteger();
+
+		CircuitBreakerOpenException error = assertThrows(CircuitBreakerOpenException.class,
+				() -> breaker.execute(counting(calls, 200)));
+
+		assertEquals(0, calls.get());
+		assertEquals(HOST, error.getHost());
+	}
+
+	@Test
+	void closesAfterSuccessfulHalfOpenCalls() throws Exception {
+		CircuitBreaker breaker = opened();
+		Thread.sleep(OPEN_DURATION + 20);
+
+		call(breaker, 200);
+		assertEquals(State.HALF_OPEN, breaker.getState());
+		call(breaker, 200);
+
+		assertEquals(State.CLOSED, breaker.getState());
+		// A janela recomeça vazia depois de fechar
+		call(breaker, 503);
+		call(breaker, 503);
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	void reopensWhenAHalfOpenCallFails() throws Exception {
+		CircuitBreaker breaker = opened();
+		Thread.sleep(OPEN_DURATION + 20);
+
+		call(breaker, 503);
+
+		assertEquals(State.OPEN, breaker.getState());
+		assertThrows(CircuitBreakerOpenException.class, () -> call(breaker, 200));
+	}
+
+	@Test
+	void limitsTheNumberOfHalfOpenCalls() throws Exception {
+		CircuitBreaker breaker = opened();
+		Thread.sleep(OPEN_DURATION + 20);
+		AtomicInteger calls = new AtomicInteger();
+		CircuitBreaker.State[] stateDuringCall = new CircuitBreaker.State[1];
+
+		// Enquanto as duas chamadas de teste não terminam, uma terceira é recusada
+		breaker.execute(() -> {
+			breaker.execute(() -> {
+				assertThrows(CircuitBreakerOpenException.class, () -> breaker.execute(counting(calls, 200)));
+				stateDuringCall[0] = breaker.getState();
+				return response(200);
+			});
+			return response(200);
+		});
+
+		assertEquals(State.HALF_OPEN, stateDuringCall[0]);
+		assertEquals(0, calls.get());
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+
+	private static CircuitBreaker opened() throws Exception {
+		CircuitBreaker breaker = breaker(10_000);
+		for (int call = 0; call < 4; call++) {
+			call(breaker, 503);
+		}
+		assertEquals(State.OPEN, breaker.getState());
+		return breaker;
+	}
+
+	/**
+	 * Janela de 4 chamadas, mínimo de 4, abre com 50% de falhas (status 503) ou de
+	 * chamadas lentas e libera 2 chamadas de teste.
+	 */
+	private static CircuitBreaker breaker(long slowCallDuration) {
+		return new CircuitBreaker(HOST, new CircuitBreakerSettings(true, 4, 4, 50,
+				new HashSet<>(Arrays.asList(503)), slowCallDuration, 50, OPEN_DURATION, 2));
+	}
+
+	private static Response call(CircuitBreaker breaker, int statusCode) throws Exception {
+		return breaker.execute(() -> response(statusCode));
+	}
+
+	private static Callable<Response> counting(AtomicInteger calls, int statusCode) {
+		return () -> {
+			calls.incrementAndGet();
+			return response(statusCode);
+		};
+	}
+
+	private static Response response(int statusCode) {
+		return new ResponseBuilder().setStatusCode(statusCode).setBody("").build();
+	}
+}
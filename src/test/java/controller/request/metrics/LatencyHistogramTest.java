@@ -0,0 +1,112 @@
+package controller.request.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+	@Test
+	void emptyHistogramReportsZero() {
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getPercentile(99));
+		assertEquals(0, histogram.getMean());
+		assertEquals(0, histogram.getMax());
+	}
+
+	@Test
+	void smallValuesAreExact() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int value = 1; value <= 100; value++) {
+			histogram.record(value);
+		}
+
+		assertEquals(100, histogram.getCount());
+		assertEquals(1, histogram.getPercentile(0));
+		assertEquals(50, histogram.getPercentile(50));
+		assertEquals(90, histogram.getPercentile(90));
+		assertEquals(99, histogram.getPercentile(99));
+		assertEquals(100, histogram.getPercentile(100));
+		assertEquals(100, histogram.getMax());
+		assertEquals(50.5, histogram.getMean(), 1e-9);
+	}
+
+	@Test
+	void largeValuesStayWithinTheRelativeResolution() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		Random random = new Random(42);
+		long[] values = new long[100_000];
+		for (int index = 0; index < values.length; index++) {
+			values[index] = 1 + (long) Math.exp(random.nextDouble() * Math.log(1e9));
+			histogram.record(values[index]);
+		}
+		Arrays.sort(values);
+
+		for (double percentile : new double[] { 1, 10, 50, 90, 99, 99.9, 99.99 }) {
+			long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+			long reported = histogram.getPercentile(percentile);
+			assertTrue(reported >= exact && reported <= exact + exact / 64 + 1,
+					"p" + percentile + ": exato " + exact + ", histograma " + reported);
+		}
+		assertEquals(values[values.length - 1], histogram.getPercentile(100));
+	}
+
+	@Test
+	void percentileNeverExceedsTheMaximum() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(1_000_001);
+
+		assertEquals(1_000_001, histogram.getPercentile(50));
+		assertEquals(1_000_001, histogram.getMax());
+	}
+
+	@Test
+	void acceptsTheWholeLongRange() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-5);
+		histogram.record(Long.MAX_VALUE);
+
+		assertEquals(0, histogram.getPercentile(50));
+		assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+	}
+
+	@Test
+	void errorsAreCountedSeparately() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(10);
+		histogram.recordError();
+		histogram.recordError();
+
+		assertEquals(1, histogram.getCount());
+		assertEquals(2, histogram.getErrors());
+		assertEquals(10, histogram.getPercentile(100));
+	}
+
+	@Test
+	void concurrentRecordsAreNotLost() throws InterruptedException {
+		LatencyHistogram histogram = new LatencyHistogram();
+		ExecutorService threads = Executors.newFixedThreadPool(8);
+		for (int thread = 0; thread < 8; thread++) {
+			threads.execute(() -> {
+				for (int value = 1; value <= 10_000; value++) {
+					histogram.record(value);
+				}
+			});
+		}
+		threads.shutdown();
+		assertTrue(threads.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(80_000, histogram.getCount());
+		assertEquals(5000.5, histogram.getMean(), 1e-9);
+		assertEquals(10_000, histogram.getMax());
+	}
+}
@@ -0,0 +1,89 @@
+package controller.request.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+	@Test
+	void rejectsInvalidLimits() {
+		assertThrows(IllegalArgumentException.class, () -> new TokenBucket("zero", 0, 1, TimeUnit.SECONDS));
+		assertThrows(IllegalArgumentException.class, () -> new TokenBucket("periodo", 10, 0, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void fullBucketAllowsABurstWithoutWaiting() {
+		TokenBucket bucket = new TokenBucket("rajada", 5, 1, TimeUnit.SECONDS);
+
+		for (int permit = 0; permit < 5; permit++) {
+			assertEquals(0, bucket.acquire());
+		}
+	}
+
+	@Test
+	void emptyBucketWaitsForTheNextToken() {
+		TokenBucket bucket = new TokenBucket("espera", 10, 1, TimeUnit.SECONDS);
+		for (int permit = 0; permit < 10; permit++) {
+			bucket.acquire();
+		}
+
+		long start = System.nanoTime();
+		long waited = bucket.acquire();
+		long elapsed = System.nanoTime() - start;
+
+		// Um token a cada 100ms; parte dele pode ter sido reposta durante a rajada
+		assertTrue(waited > TimeUnit.MILLISECONDS.toNanos(50) && waited <= TimeUnit.MILLISECONDS.toNanos(100),
+				"espera de " + waited + "ns");
+		assertTrue(elapsed >= waited, "dormiu " + elapsed + "ns para uma espera de " + waited + "ns");
+	}
+
+	@Test
+	void sustainedRateFollowsTheLimit() {
+		TokenBucket bucket = new TokenBucket("taxa", 5, 100, TimeUnit.MILLISECONDS);
+
+		long start = System.nanoTime();
+		for (int permit = 0; permit < 15; permit++) {
+			bucket.acquire();
+		}
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// 5 tokens da rajada inicial e mais 10 repostos a cada 20ms
+		assertTrue(elapsed >= 190, "15 permissões em " + elapsed + "ms");
+	}
+
+	@Test
+	void concurrentReservationsAreReleasedOneTokenApart() throws Exception {
+		TokenBucket bucket = new TokenBucket("concorrente", 1, 50, TimeUnit.MILLISECONDS);
+		bucket.acquire();
+		ExecutorService threads = Executors.newFixedThreadPool(4);
+		List<Future<Long>> releases = new ArrayList<>();
+		for (int thread = 0; thread < 4; thread++) {
+			releases.add(threads.submit(() -> {
+				bucket.acquire();
+				return System.nanoTime();
+			}));
+		}
+		List<Long> sorted = new ArrayList<>();
+		for (Future<Long> release : releases) {
+			sorted.add(release.get());
+		}
+		threads.shutdown();
+		Collections.sort(sorted);
+
+		// Cada thread é liberada um token (50ms) depois da anterior: as 4 liberações
+		// ocupam cerca de 150ms em vez de acontecerem juntas
+		long span = TimeUnit.NANOSECONDS.toMillis(sorted.get(sorted.size() - 1) - sorted.get(0));
+		assertTrue(span >= 120, "liberações distribuídas em " + span + "ms");
+	}
+}
@@ -0,0 +1,151 @@
+package controller.request.response;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class JsonCanonicalizerTest {
+
+	@Test
+	void minifyKeepsWhitespaceInsideStrings() {
+		String json = "{\n\t\"title\" : \"Git  Pocket\\tGuide\",\r\n  \"quote\": \"a \\\" b\" ,\"pages\" : [ 1, 2 ]\n}";
+
+		assertEquals("{\"title\":\"Git  Pocket\\tGuide\",\"quote\":\"a \\\" b\",\"pages\":[1,2]}",
+				text(JsonCanonicalizer.minify(bytes(json))));
+	}
+
+	@Test
+	void minifyHandlesEscapedBackslashBeforeClosingQuote() {
+		assertEquals("{\"path\":\"C:\\\\\",\"next\":1}",
+				text(JsonCanonicalizer.minify(bytes("{ \"path\" : \"C:\\\\\" , \"next\" : 1 }"))));
+	}
+
+	@Test
+	void minifyStreamKeepsStateAcrossBlocks() {
+		String json = "{ \"a\" : \"x \\\" y\" ,\n \"b\" : [ true , null ] }";
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		JsonCanonicalizer.minify(new OneByteInputStream(bytes(json)), output);
+
+		assertEquals("{\"a\":\"x \\\" y\",\"b\":[true,null]}", text(output.toByteArray()));
+	}
+
+	@Test
+	void canonicalizeSortsFieldsRecursively() {
+		assertEquals("{\"a\":[{\"x\":1,\"y\":2}],\"b\":{\"c\":true,\"d\":null}}",
+				text(JsonCanonicalizer.canonicalize(
+						bytes("{\"b\":{\"d\":null,\"c\":true},\"a\":[{\"y\":2,\"x\":1}]}"))));
+	}
+
+	@Test
+	void canonicalizeKeepsArrayOrder() {
+		assertEquals("[3,1,2]", text(JsonCanonicalizer.canonicalize(bytes("[ 3, 1, 2 ]"))));
+	}
+
+	@Test
+	void canonicalizeNormalizesNumbers() {
+		assertEquals("[1.5,1.5,2,0,0,-2.5,1e+21,1.5e-7,123456]", text(JsonCanonicalizer
+				.canonicalize(bytes("[1.50,15e-1,2.0,-0,0.000,-2.50,1e21,0.00000015,123456]"))));
+	}
+
+	@Test
+	void canonicalizeKeepsLastDuplicateField() {
+		assertEquals("{\"a\":2}", text(JsonCanonicalizer.canonicalize(bytes("{\"a\":1,\"a\":2}"))));
+	}
+
+	@Test
+	void canonicalizeUsesUniformStringEscapes() {
+		assertEquals(text(JsonCanonicalizer.canonicalize(bytes("[\"\\u0041\\/\"]"))),
+				text(JsonCanonicalizer.canonicalize(bytes("[\"A/\"]"))));
+	}
+
+	@Test
+	void canonicalizeStreamMatchesByteArray() {
+		String json = "{\"z\":[1.0,{\"b\":\"x\",\"a\":\"y\"}],\"m\":false}";
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		JsonCanonicalizer.canonicalize(new ByteArrayInputStream(bytes(json)), output);
+
+		assertArrayEquals(JsonCanonicalizer.canonicalize(bytes(json)), output.toByteArray());
+	}
+
+	@Test
+	void canonicalizeRereadsNestedValuesFromTheirPosition() {
+		assertEquals("{\"a\":\"\\\"},\",\"b\":{\"b2\":{\"x\":[{\"j\":null,\"k\":\"v\"}],\"y\":\"\\\\\"}}}",
+				text(JsonCanonicalizer.canonicalize(bytes(
+						"{ \"b\" : { \"b2\" : { \"y\" : \"\\\\\", \"x\" : [ { \"k\" : \"v\", \"j\" : null } ] } },\n"
+								+ "  \"a\" : \"\\\"},\" }"))));
+	}
+
+	@Test
+	void canonicalizeStreamKeepsNumbersAndDuplicatesOfEachObject() {
+		String json = "[{\"b\":0.100000000000000005551,\"a\":{\"d\":[1e400],\"c\":-0}},"
+				+ "{\"a\":1,\"a\":{\"y\":1,\"x\":2.50}}]";
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		JsonCanonicalizer.canonicalize(new ByteArrayInputStream(bytes(json)), output);
+
+		assertEquals("[{\"a\":{\"c\":0,\"d\":[1e+400]},\"b\":0.100000000000000005551},{\"a\":{\"x\":2.5,\"y\":1}}]",
+				text(output.toByteArray()));
+		assertArrayEquals(JsonCanonicalizer.canonicalize(bytes(json)), output.toByteArray());
+	}
+
+	@Test
+	void sha256IsStableForEquivalentDocuments() {
+		String hash = JsonCanonicalizer.sha256(bytes("{\"a\":1.0,\"b\":[true]}"));
+
+		assertEquals(64, hash.length());
+		assertEquals(hash, JsonCanonicalizer.sha256(bytes("{ \"b\" : [ true ], \"a\" : 1 }")));
+		assertNotEquals(hash, JsonCanonicalizer.sha256(bytes("{\"a\":1,\"b\":[false]}")));
+	}
+
+	@Test
+	void rejectsInvalidJson() {
+		assertThrows(UncheckedIOException.class, () -> JsonCanonicalizer.canonicalize(bytes("{\"a\":}")));
+		assertThrows(UncheckedIOException.class, () -> JsonCanonicalizer.canonicalize(bytes("{\"a\":{\"b\":[1,}]}")));
+	}
+
+	private static byte[] bytes(String text) {
+		return text.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String text(byte[] bytes) {
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Fluxo que entrega um byte por leitura, para exercitar a compactação em blocos.
+	 */
+	private static final class OneByteInputStream extends InputStream {
+
+		private final byte[] bytes;
+		private int position;
+
+		private OneByteInputStream(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		@Override
+		public int read() {
+			return position < bytes.length ? bytes[position++] & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) {
+			if (position >= bytes.length) {
+				return -1;
+			}
+			buffer[offset] = bytes[position++];
+			return 1;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package controller.request.response;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+class JsonDiffTest {
+
+	private static final JsonDiff STRICT = JsonDiff.builder().build();
+
+	@Test
+	void equalDocumentsHaveNoDifferences() {
+		String json = "{\"books\":[{\"isbn\":\"1\",\"pages\":10},{\"isbn\":\"2\",\"pages\":20}],\"total\":2}";
+
+		assertTrue(STRICT.matches(bytes(json), bytes(json)));
+		assertEquals(Collections.emptyList(), STRICT.diff(bytes(json), bytes(json)));
+	}
+
+	@Test
+	void reportsEachDifferenceAsJsonPointer() {
+		String expected = "{\"books\":[{\"isbn\":\"1\",\"pages\":10},{\"isbn\":\"2\",\"pages\":20}],\"total\":2}";
+		String actual = "{\"books\":[{\"isbn\":\"1\",\"pages\":11},{\"isbn\":\"3\",\"pages\":20}],\"total\":2}";
+
+		assertEquals(Arrays.asList("/books/0/pages", "/books/1/isbn"), STRICT.diff(bytes(expected), bytes(actual)));
+		assertFalse(STRICT.matches(bytes(expected), bytes(actual)));
+	}
+
+	@Test
+	void ignoresFieldOrder() {
+		assertTrue(STRICT.matches(bytes("{\"a\":1,\"b\":{\"c\":true,\"d\":null}}"),
+				bytes("{\"b\":{\"d\":null,\"c\":true},\"a\":1}")));
+		assertEquals(Collections.singletonList("/b/c"),
+				STRICT.diff(bytes("{\"a\":1,\"b\":{\"c\":true}}"), bytes("{\"b\":{\"c\":false},\"a\":1}")));
+	}
+
+	@Test
+	void reportsMissingAndExtraFields() {
+		assertEquals(Arrays.asList("/b", "/c"), STRICT.diff(bytes("{\"a\":1,\"b\":2}"), bytes("{\"a\":1,\"c\":3}")));
+	}
+
+	@Test
+	void allowsExtraFieldsWhenConfigured() {
+		JsonDiff diff = JsonDiff.builder().allowExtraFields().build();
+
+		assertTrue(diff.matches(bytes("{\"a\":1}"), bytes("{\"a\":1,\"extra\":[1,2]}")));
+		assertEquals(Collections.singletonList("/b"), diff.diff(bytes("{\"a\":1,\"b\":2}"), bytes("{\"a\":1}")));
+	}
+
+	@Test
+	void reportsExtraArrayElements() {
+		assertEquals(Arrays.asList("/2", "/3"), STRICT.diff(bytes("[1,2]"), bytes("[1,2,3,4]")));
+		assertEquals(Collections.singletonList("/1"), STRICT.diff(bytes("[1,2]"), bytes("[1]")));
+	}
+
+	@Test
+	void comparesUnorderedArrays() {
+		JsonDiff unordered = JsonDiff.builder().unorderedArrays("/tags").build();
+
+		assertTrue(unordered.matches(bytes("{\"tags\":[\"a\",\"b\",\"c\"]}"), bytes("{\"tags\":[\"c\",\"a\",\"b\"]}")));
+		// Elemento esperado sem par (índice do esperado) e elemento atual que sobrou
+		// (índice do atual)
+		assertEquals(Arrays.asList("/tags/1", "/tags/0"),
+				unordered.diff(bytes("{\"tags\":[\"a\",\"b\"]}"), bytes("{\"tags\":[\"x\",\"a\"]}")));
+		assertFalse(unordered.matches(bytes("{\"other\":[1,2]}"), bytes("{\"other\":[2,1]}")));
+	}
+
+	@Test
+	void ignoresPathsWithWildcards() {
+		JsonDiff diff = JsonDiff.builder().ignorePaths("/books/*/publish_date").build();
+
+		assertTrue(diff.matches(
+				bytes("{\"books\":[{\"isbn\":\"1\",\"publish_date\":\"2020\"},{\"isbn\":\"2\",\"publish_date\":\"2021\"}]}"),
+				bytes("{\"books\":[{\"isbn\":\"1\",\"publish_date\":\"x\"},{\"isbn\":\"2\",\"publish_date\":\"y\"}]}")));
+	}
+
+	@Test
+	void comparesNumbersByValueWithinTolerance() {
+		assertTrue(STRICT.matches(bytes("{\"n\":1.0}"), bytes("{\"n\":1}")));
+		assertFalse(STRICT.matches(bytes("{\"n\":1.0}"), bytes("{\"n\":1.05}")));
+		assertTrue(JsonDiff.builder().numericTolerance(0.1).build().matches(bytes("{\"n\":1.0}"),
+				bytes("{\"n\":1.05}")));
+	}
+
+	@Test
+	void escapesPointerSegments() {
+		assertEquals(Collections.singletonList("/a~1b/c~0d"),
+				STRICT.diff(bytes("{\"a/b\":{\"c~d\":1}}"), bytes("{\"a/b\":{\"c~d\":2}}")));
+	}
+
+	@Test
+	void comparesScalarDocuments() {
+		// Regressão: o POST de Account/v1/Authorized retorna apenas `true`
+		JsonDiff diff = JsonDiff.builder().allowExtraFields().build();
+
+		assertTrue(diff.matches(bytes("true"), bytes("true")));
+		assertEquals(Collections.singletonList(""), diff.diff(bytes("{\"success\":true}"), bytes("true")));
+		assertEquals(Collections.singletonList(""), diff.diff(bytes("true"), bytes("false")));
+	}
+
+	@Test
+	void rejectsInvalidJson() {
+		assertThrows(UncheckedIOException.class, () -> STRICT.diff(bytes("{\"a\":"), bytes("{}")));
+	}
+
+	private static byte[] bytes(String json) {
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,113 @@
+package controller.request.response;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import controller.request.response.MultiPatternMatcher.Matches;
+
+class MultiPatternMatcherTest {
+
+	@Test
+	void findsOverlappingTextsWithPositionsAndCounts() {
+		Matches matches = MultiPatternMatcher.compile("he", "she", "his", "hers").find(bytes("ushers and she"));
+
+		assertEquals(Arrays.asList("he", "she", "hers"), matches.getFound());
+		assertEquals(Collections.singletonList("his"), matches.getMissing());
+		assertEquals(2, matches.firstPosition("he"));
+		assertEquals(1, matches.firstPosition("she"));
+		assertEquals(2, matches.firstPosition("hers"));
+		assertEquals(-1, matches.firstPosition("his"));
+		assertEquals(2, matches.count("he"));
+		assertEquals(2, matches.count("she"));
+		assertTrue(matches.anyFound());
+		assertFalse(matches.allFound());
+	}
+
+	@Test
+	void countsRepeatedAndSelfOverlappingOccurrences() {
+		Matches matches = MultiPatternMatcher.compile("aa").find(bytes("aaaa"));
+
+		assertEquals(3, matches.count("aa"));
+		assertEquals(0, matches.firstPosition("aa"));
+	}
+
+	@Test
+	void matchesUtf8TextsByBytePosition() {
+		// "ção" e "ã" escritos com escapes, independente da codificação do fonte
+		String cao = "\u00e7\u00e3o";
+		String a = "\u00e3";
+		Matches matches = MultiPatternMatcher.compile(cao, a).find(bytes("{\"nome\":\"Concei" + cao + "\"}"));
+
+		assertTrue(matches.allFound());
+		// "Concei" ocupa 6 bytes a partir da posição 9 e "ç" ocupa 2 bytes
+		assertEquals(15, matches.firstPosition(cao));
+		assertEquals(17, matches.firstPosition(a));
+	}
+
+	@Test
+	void emptyTextIsAlwaysFound() {
+		assertTrue(MultiPatternMatcher.compile("", "x").find(bytes("abc")).contains(""));
+		assertTrue(MultiPatternMatcher.contains(bytes("abc"), ""));
+	}
+
+	@Test
+	void containsAllRequiresEveryText() {
+		byte[] body = bytes("{\"isbn\":\"9781449325862\",\"title\":\"Git Pocket Guide\"}");
+
+		assertTrue(MultiPatternMatcher.compile("9781449325862", "Git Pocket Guide").containsAll(body));
+		assertFalse(MultiPatternMatcher.compile("9781449325862", "Learning JavaScript").containsAll(body));
+	}
+
+	@Test
+	void streamFindsTextsAcrossBufferBoundaries() {
+		byte[] body = new byte[20_000];
+		Arrays.fill(body, (byte) 'x');
+		byte[] needle = bytes("needle");
+		System.arraycopy(needle, 0, body, 8190, needle.length);
+		System.arraycopy(needle, 0, body, 16_380, needle.length);
+
+		Matches matches = MultiPatternMatcher.compile("needle").find(new ByteArrayInputStream(body));
+
+		assertEquals(8190, matches.firstPosition("needle"));
+		assertEquals(2, matches.count("needle"));
+	}
+
+	@Test
+	void singleTextSearchScansBytesDirectly() {
+		byte[] body = bytes("{\"message\":\"User not authorized!\"}");
+
+		assertTrue(MultiPatternMatcher.contains(body, "not authorized"));
+		assertTrue(MultiPatternMatcher.contains(body, "}"));
+		assertFalse(MultiPatternMatcher.contains(body, "authorized!!"));
+		assertFalse(MultiPatternMatcher.contains(bytes("ab"), "abc"));
+		assertTrue(MultiPatternMatcher.contains(bytes("aab"), "ab"));
+	}
+
+	@Test
+	void cachesAtMostTheConfiguredNumberOfTextLists() {
+		MultiPatternMatcher first = MultiPatternMatcher.compile("cached", "texts");
+		assertSame(first, MultiPatternMatcher.compile("cached", "texts"));
+
+		for (int index = 0; index < MultiPatternMatcher.MAX_CACHED; index++) {
+			MultiPatternMatcher.compile("dynamic-" + index);
+		}
+
+		assertSame(first, MultiPatternMatcher.compile("cached", "texts"));
+		assertNotSame(MultiPatternMatcher.compile("after-limit"), MultiPatternMatcher.compile("after-limit"));
+		assertTrue(MultiPatternMatcher.compile("after-limit").containsAll(bytes("after-limit")));
+	}
+
+	private static byte[] bytes(String text) {
+		return text.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,51 @@
+package controller.request.response;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+class ParsedResponseTest {
+
+	private static final String JSON = "{\"nome\":\"Jos\u00e9\",\"cidade\":\"S\u00e3o Paulo\"}";
+
+	@Test
+	void keepsUtf8BodiesAsReceived() {
+		for (String contentType : new String[] { "application/json", "application/json; charset=UTF-8",
+				"application/json;charset=\"utf8\"" }) {
+			Response response = response(contentType, JSON.getBytes(StandardCharsets.UTF_8));
+			ParsedResponse parsed = ParsedResponse.of(response);
+
+			assertSame(parsed.asByteArray(), parsed.asJsonBytes(), contentType);
+			assertEquals(200, response.getStatusCode());
+		}
+	}
+
+	@Test
+	void reencodesOtherCharsetsAsUtf8() {
+		Charset latin1 = StandardCharsets.ISO_8859_1;
+		Response response = response("application/json; charset=ISO-8859-1", JSON.getBytes(latin1));
+		ParsedResponse parsed = ParsedResponse.of(response);
+
+		assertArrayEquals(JSON.getBytes(StandardCharsets.UTF_8), parsed.asJsonBytes());
+		assertTrue(MultiPatternMatcher.contains(parsed.asJsonBytes(), "S\u00e3o Paulo"));
+		assertEquals(JSON, parsed.asOneLine());
+		assertEquals(JSON, response.asString());
+	}
+
+	private static Response response(String contentType, byte[] body) {
+		return new ResponseBuilder().setStatusCode(200)
+				.setHeaders(new Headers(new Header("Content-Type", contentType))).setContentType(contentType)
+				.setBody(body).build();
+	}
+}
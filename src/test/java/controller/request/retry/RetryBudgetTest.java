@@ -0,0 +1,75 @@
+package controller.request.retry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetTest {
+
+	@Test
+	void minimumRetriesAreAvailableBeforeAnyRequest() {
+		RetryBudget budget = new RetryBudget(2, 0.1);
+
+		assertTrue(budget.tryAcquire());
+		assertTrue(budget.tryAcquire());
+		assertFalse(budget.tryAcquire());
+		assertEquals(2, budget.getRetries());
+	}
+
+	@Test
+	void budgetGrowsWithTheRatioOfRequests() {
+		RetryBudget budget = new RetryBudget(0, 0.2);
+		for (int request = 0; request < 9; request++) {
+			budget.recordRequest();
+		}
+
+		assertTrue(budget.tryAcquire());
+		assertFalse(budget.tryAcquire());
+
+		budget.recordRequest();
+		assertTrue(budget.tryAcquire());
+		assertFalse(budget.tryAcquire());
+		assertEquals(10, budget.getRequests());
+		assertEquals(2, budget.getRetries());
+	}
+
+	@Test
+	void concurrentAcquiresNeverExceedTheBudget() throws InterruptedException {
+		RetryBudget budget = new RetryBudget(10, 0.1);
+		for (int request = 0; request < 1_000; request++) {
+			budget.recordRequest();
+		}
+		AtomicInteger granted = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService threads = Executors.newFixedThreadPool(8);
+		for (int thread = 0; thread < 8; thread++) {
+			threads.execute(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int attempt = 0; attempt < 100; attempt++) {
+					if (budget.tryAcquire()) {
+						granted.incrementAndGet();
+					}
+				}
+			});
+		}
+		start.countDown();
+		threads.shutdown();
+		assertTrue(threads.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(110, granted.get());
+		assertEquals(110, budget.getRetries());
+	}
+}
@@ -0,0 +1,126 @@
+package controller.request.retry;
+
+import static controller.request.retry.RetryPolicyTest.response;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.ConnectException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.restassured.response.Response;
+
+class RetryEngineTest {
+
+	@Test
+	void retriesRetryableStatusUntilSuccess() {
+		RetryEngine engine = engine(new RetryBudget(10, 0));
+		AtomicInteger calls = new AtomicInteger();
+		Response success = response(200);
+
+		Response result = engine.execute(() -> calls.incrementAndGet() < 3 ? response(503) : success, 5);
+
+		assertSame(success, result);
+		assertEquals(3, calls.get());
+		assertEquals(3, engine.getAttempts());
+		assertEquals(2, engine.getRetries());
+		assertEquals(0, engine.getGiveUps());
+	}
+
+	@Test
+	void returnsTheLastResponseWhenAttemptsRunOut() {
+		RetryEngine engine = engine(new RetryBudget(10, 0));
+		AtomicInteger calls = new AtomicInteger();
+
+		Response result = engine.execute(() -> {
+			calls.incrementAndGet();
+			return response(503);
+		}, 3);
+
+		assertEquals(503, result.getStatusCode());
+		assertEquals(3, calls.get());
+		assertEquals(1, engine.getGiveUps());
+	}
+
+	@Test
+	void doesNotRetryNonRetryableStatus() {
+		RetryEngine engine = engine(new RetryBudget(10, 0));
+		AtomicInteger calls = new AtomicInteger();
+
+		engine.execute(() -> {
+			calls.incrementAndGet();
+			return response(500);
+		}, 3);
+
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	void retriesTransportFailuresAndWrapsTheLastOne() {
+		RetryEngine engine = engine(new RetryBudget(10, 0));
+		AtomicInteger calls = new AtomicInteger();
+
+		RuntimeException error = assertThrows(RuntimeException.class, () -> engine.execute(() -> {
+			calls.incrementAndGet();
+			throw new ConnectException("Connection refused");
+		}, 3));
+
+		assertEquals(3, calls.get());
+		assertTrue(error.getCause() instanceof ConnectException);
+		assertTrue(error.getMessage().startsWith("Falha ap") && error.getMessage().endsWith(" 3 tentativas"),
+				error.getMessage());
+	}
+
+	@Test
+	void doesNotCountSingleAttemptFailuresAsGiveUps() {
+		RetryEngine engine = engine(new RetryBudget(10, 0));
+
+		assertEquals(503, engine.execute(() -> response(503), 1).getStatusCode());
+		assertThrows(RuntimeException.class, () -> engine.execute(() -> {
+			throw new ConnectException("Connection refused");
+		}, 1));
+
+		assertEquals(2, engine.getAttempts());
+		assertEquals(0, engine.getGiveUps());
+	}
+
+	@Test
+	void rethrowsNonRetryableExceptionsImmediately() {
+		RetryEngine engine = engine(new RetryBudget(10, 0));
+		AtomicInteger calls = new AtomicInteger();
+		IllegalStateException failure = new IllegalStateException("bug");
+
+		RuntimeException error = assertThrows(RuntimeException.class, () -> engine.execute(() -> {
+			calls.incrementAndGet();
+			throw failure;
+		}, 3));
+
+		assertSame(failure, error);
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	void stopsRetryingWhenTheBudgetIsExhausted() {
+		RetryEngine engine = engine(new RetryBudget(1, 0));
+		AtomicInteger calls = new AtomicInteger();
+
+		engine.execute(() -> {
+			calls.incrementAndGet();
+			return response(503);
+		}, 5);
+
+		assertEquals(2, calls.get());
+		assertEquals(1, engine.getBudgetExhausted());
+		assertEquals(1, engine.getGiveUps());
+	}
+
+	private static RetryEngine engine(RetryBudget budget) {
+		return new RetryEngine(new RetryPolicy(0, 0, new HashSet<>(Arrays.asList(429, 503)),
+				new HashSet<>(Arrays.asList("GET")), false, 0), budget);
+	}
+}
@@ -0,0 +1,126 @@
+package controller.request.retry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Headers;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+
+class RetryPolicyTest {
+
+	private static final RetryPolicy POLICY = policy(100, 1000, true, 5000);
+
+	@Test
+	void retriesOnlyConfiguredMethods() {
+		RetryPolicy policy = new RetryPolicy(100, 1000, new HashSet<>(Arrays.asList(503)),
+				new HashSet<>(Arrays.asList(" get", "Put ", "DELETE")), true, 5000);
+
+		assertTrue(policy.isRetryable(Method.GET));
+		assertTrue(policy.isRetryable(Method.PUT));
+		assertTrue(policy.isRetryable(Method.DELETE));
+		assertFalse(policy.isRetryable(Method.POST));
+		assertFalse(policy.isRetryable(Method.PATCH));
+		assertFalse(policy.isRetryable((Method) null));
+	}
+
+	@Test
+	void retriesOnlyConfiguredStatusCodes() {
+		assertTrue(POLICY.isRetryable(response(503)));
+		assertTrue(POLICY.isRetryable(response(429)));
+		assertFalse(POLICY.isRetryable(response(500)));
+		assertFalse(POLICY.isRetryable(response(200)));
+		assertFalse(POLICY.isRetryable((Response) null));
+	}
+
+	@Test
+	void retriesOnlyTransportFailures() {
+		assertTrue(POLICY.isRetryable(new ConnectException("Connection refused")));
+		assertTrue(POLICY.isRetryable(new RuntimeException(new UncheckedIOException(new IOException("reset")))));
+		assertFalse(POLICY.isRetryable(new IllegalStateException("bug")));
+		assertFalse(POLICY.isRetryable(new RuntimeException(new IllegalArgumentException("serialização"))));
+	}
+
+	@Test
+	void backoffStaysWithinTheExponentialCeiling() {
+		for (int sample = 0; sample < 1_000; sample++) {
+			assertBetween(0, 100, POLICY.delayFor(1, null));
+			assertBetween(0, 200, POLICY.delayFor(2, null));
+			assertBetween(0, 400, POLICY.delayFor(3, null));
+			assertBetween(0, 1000, POLICY.delayFor(5, null));
+			assertBetween(0, 1000, POLICY.delayFor(100, null));
+			assertBetween(0, 1000, POLICY.delayFor(Integer.MAX_VALUE, null));
+		}
+	}
+
+	@Test
+	void backoffUsesFullJitter() {
+		long minimum = Long.MAX_VALUE;
+		long maximum = 0;
+		for (int sample = 0; sample < 2_000; sample++) {
+			long delay = POLICY.delayFor(4, null);
+			minimum = Math.min(minimum, delay);
+			maximum = Math.max(maximum, delay);
+		}
+		assertTrue(minimum < 100, "espera mínima " + minimum);
+		assertTrue(maximum > 700, "espera máxima " + maximum);
+	}
+
+	@Test
+	void zeroBaseDelayNeverWaits() {
+		assertEquals(0, policy(0, 1000, true, 5000).delayFor(3, null));
+	}
+
+	@Test
+	void usesRetryAfterSecondsCappedAtTheMaximum() {
+		assertEquals(2000, POLICY.delayFor(1, response(503, "2")));
+		assertEquals(0, POLICY.delayFor(1, response(503, "0")));
+		assertEquals(5000, POLICY.delayFor(1, response(503, "3600")));
+	}
+
+	@Test
+	void usesRetryAfterHttpDate() {
+		String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(3));
+
+		assertBetween(1000, 3000, POLICY.delayFor(1, response(503, date)));
+		assertEquals(0, POLICY.delayFor(1, response(503, "Wed, 21 Oct 2015 07:28:00 GMT")));
+	}
+
+	@Test
+	void fallsBackToBackoffWhenRetryAfterIsInvalidOrDisabled() {
+		assertBetween(0, 100, POLICY.delayFor(1, response(503, "amanhã")));
+		assertBetween(0, 100, POLICY.delayFor(1, response(503)));
+		assertBetween(0, 100, policy(100, 1000, false, 5000).delayFor(1, response(503, "30")));
+	}
+
+	private static RetryPolicy policy(long baseDelay, long maxDelay, boolean retryAfterEnabled, long maxRetryAfter) {
+		return new RetryPolicy(baseDelay, maxDelay, new HashSet<>(Arrays.asList(429, 503)),
+				new HashSet<>(Arrays.asList("GET", "PUT", "DELETE")), retryAfterEnabled, maxRetryAfter);
+	}
+
+	static Response response(int statusCode) {
+		return new ResponseBuilder().setStatusCode(statusCode).setHeaders(new Headers()).setBody("").build();
+	}
+
+	private static Response response(int statusCode, String retryAfter) {
+		return new ResponseBuilder().setStatusCode(statusCode).setHeader("Retry-After", retryAfter).setBody("")
+				.build();
+	}
+
+	private static void assertBetween(long minimum, long maximum, long value) {
+		assertTrue(value >= minimum && value <= maximum, value + " fora de [" + minimum + ", " + maximum + "]");
+	}
+}
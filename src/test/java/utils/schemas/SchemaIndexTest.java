@@ -0,0 +1,75 @@
+package utils.schemas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import io.restassured.http.Method;
+
+class SchemaIndexTest {
+
+	private static final String AUTHORIZED_200 = "schemas/account/post/authorized/authorized_post_success_200.json";
+	private static final String AUTHORIZED_400 = "schemas/account/post/authorized/authorized_post_error_400.json";
+	private static final String GENERATE_TOKEN_200 = "schemas/account/post/generate-token/generate_token_post_success_200.json";
+	private static final String USER_GET_200 = "schemas/account/get/user/user_get_success_200.json";
+	private static final String BOOK_GET_200 = "schemas/bookstore/get/book/book_get_success_200.json";
+	private static final String BOOKS_DELETE_204 = "schemas/bookstore/delete/books/books_delete_success_204.json";
+
+	private final SchemaIndex index = new SchemaIndex(Arrays.asList(AUTHORIZED_200, AUTHORIZED_400, GENERATE_TOKEN_200,
+			USER_GET_200, BOOK_GET_200, BOOKS_DELETE_204));
+
+	@Test
+	void resolvesByMethodEndpointAndStatus() {
+		assertEquals(AUTHORIZED_200, index.find(Method.POST, "https://demoqa.com/Account/v1/Authorized", 200));
+		assertEquals(AUTHORIZED_400, index.find(Method.POST, "https://demoqa.com/Account/v1/Authorized", 400));
+		assertEquals(BOOKS_DELETE_204, index.find(Method.DELETE, "/BookStore/v1/Books?UserId=1", 204));
+	}
+
+	@Test
+	void returnsNullForUnknownMethodOrStatus() {
+		assertNull(index.find(Method.GET, "https://demoqa.com/Account/v1/Authorized", 200));
+		assertNull(index.find(Method.POST, "https://demoqa.com/Account/v1/Authorized", 500));
+		assertNull(index.find(Method.POST, "https://demoqa.com/Account/v1/Unknown", 200));
+	}
+
+	@Test
+	void ignoresCaseHyphensAndUnderscoresInNames() {
+		assertEquals(GENERATE_TOKEN_200, index.find(Method.POST, "https://demoqa.com/Account/v1/GenerateToken", 200));
+		assertEquals(GENERATE_TOKEN_200, index.find(Method.POST, "/account/v1/generate_token", 200));
+	}
+
+	@Test
+	void skipsVersionsAndIdentifiers() {
+		assertEquals(USER_GET_200,
+				index.find(Method.GET, "https://demoqa.com/Account/v1/User/5d6f1c3e-8a2b-4c7d-9e0f-1a2b3c4d5e6f", 200));
+		assertEquals(BOOK_GET_200, index.find(Method.GET, "https://demoqa.com/BookStore/v2/Book?ISBN=9781449325862", 200));
+	}
+
+	@Test
+	void needsAnAreaAndAResource() {
+		assertNull(index.find(Method.GET, "https://demoqa.com/", 200));
+		assertNull(index.find(Method.GET, "https://demoqa.com/Account/v1", 200));
+	}
+
+	@Test
+	void ignoresPathsOutsideTheLayoutAndKeepsTheFirstDuplicate() {
+		String duplicate = "schemas/account/post/authorized/authorized_post_copy_200.json";
+		SchemaIndex withExtras = new SchemaIndex(Arrays.asList(AUTHORIZED_200, duplicate,
+				"schemas/account/authorized_200.json", "schemas/account/post/authorized/authorized.json"));
+
+		assertEquals(1, withExtras.size());
+		assertEquals(AUTHORIZED_200, withExtras.find(Method.POST, "/Account/v1/Authorized", 200));
+	}
+
+	@Test
+	void sharedIndexCoversTheBundledSchemas() {
+		SchemaIndex shared = SchemaIndex.getInstance();
+
+		assertEquals(AUTHORIZED_200, shared.find(Method.POST, "https://demoqa.com/Account/v1/Authorized", 200));
+		assertEquals("schemas/bookstore/put/books/books_put_success_200.json",
+				shared.find(Method.PUT, "https://demoqa.com/BookStore/v1/Books/9781449325862", 200));
+	}
+}
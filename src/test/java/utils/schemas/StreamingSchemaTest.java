@@ -0,0 +1,165 @@
+package utils.schemas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import utils.schemas.engine.NetworkntSchemaEngine;
+import utils.schemas.engine.SchemaEngine;
+
+class StreamingSchemaTest {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final SchemaEngine ENGINE = new NetworkntSchemaEngine();
+
+	private static final String CATALOG = "{\"type\":\"object\",\"additionalProperties\":false,"
+			+ "\"required\":[\"books\"],\"properties\":{\"total\":{\"type\":\"integer\"},"
+			+ "\"books\":{\"type\":\"array\",\"maxItems\":5,"
+			+ "\"items\":{\"type\":\"object\",\"properties\":{\"pages\":{\"type\":\"integer\"}}}}}}";
+	private static final String PAGES = "{\"type\":\"array\",\"minItems\":2,\"items\":{\"type\":\"integer\"}}";
+
+	@Test
+	void pointsViolationsAtTheArrayItem() {
+		List<String> violations = validate(CATALOG,
+				"{\"books\":[{\"pages\":1},{\"pages\":\"many\"}],\"total\":2}", 10);
+
+		assertEquals(1, violations.size());
+		assertTrue(violations.get(0).startsWith("/books/1/pages "), violations.get(0));
+	}
+
+	@Test
+	void pointsViolationsAtTheRootArrayItem() {
+		List<String> violations = validate(PAGES, "[1,2,\"x\"]", 10);
+
+		assertEquals(1, violations.size());
+		assertTrue(violations.get(0).startsWith("/2 "), violations.get(0));
+	}
+
+	@Test
+	void pointsViolationsAtTheProperty() {
+		List<String> violations = validate(CATALOG, "{\"books\":[],\"total\":\"two\"}", 10);
+
+		assertEquals(1, violations.size());
+		assertTrue(violations.get(0).startsWith("/total "), violations.get(0));
+	}
+
+	@Test
+	void reportsArraySizeRequiredAndAdditionalProperties() {
+		assertViolation("/ deveria ter no m", " 2 itens", validate(PAGES, "[1]", 10));
+		assertViolation("/books deveria ter no m", " 5 itens",
+				validate(CATALOG, "{\"books\":[{},{},{},{},{},{}]}", 10));
+		assertViolation("/ propriedade obrigat", " 'books' n", validate(CATALOG, "{}", 10));
+		assertViolation("/a~1b~0c propriedade n", " permitida pelo schema",
+				validate(CATALOG, "{\"books\":[],\"a/b~c\":{\"x\":[1]}}", 10));
+	}
+
+	@Test
+	void reportsTheWrongRootType() {
+		assertEquals("/ deveria ser um objeto", validate(CATALOG, "[]", 10).get(0));
+		assertEquals("/ deveria ser um array", validate(PAGES, "{}", 10).get(0));
+	}
+
+	@Test
+	void stopsAtTheViolationCap() {
+		StringBuilder books = new StringBuilder("{\"books\":[");
+		for (int index = 0; index < 20; index++) {
+			books.append(index == 0 ? "" : ",").append("{\"pages\":\"x\"}");
+		}
+		List<String> violations = validate(CATALOG, books.append("]}").toString(), 3);
+
+		assertEquals(3, violations.size());
+		assertTrue(violations.get(2).startsWith("/books/2/pages "), violations.get(2));
+	}
+
+	@Test
+	void stopsReadingOnceTheCapIsReached() {
+		StringBuilder books = new StringBuilder("{\"books\":[{\"pages\":\"x\"},{\"pages\":\"y\"}");
+		for (int index = 0; index < 5000; index++) {
+			books.append(",{\"pages\":").append(index).append('}');
+		}
+		byte[] truncated = bytes(books.append(",{\"pages\":").toString());
+
+		assertEquals(2, streaming(CATALOG).validate(truncated, 2).size());
+		assertEquals(2, streaming(CATALOG).validate(new ByteArrayInputStream(truncated), 2).size());
+	}
+
+	@Test
+	void capsTheViolationsOfASingleItem() {
+		String schema = "{\"type\":\"array\",\"items\":{\"type\":\"object\",\"properties\":{"
+				+ "\"a\":{\"type\":\"integer\"},\"b\":{\"type\":\"integer\"},\"c\":{\"type\":\"integer\"}}}}";
+
+		assertEquals(2, validate(schema, "[{\"a\":\"x\",\"b\":\"y\",\"c\":\"z\"}]", 2).size());
+	}
+
+	@Test
+	void rejectsACapBelowOne() {
+		StreamingSchema streaming = streaming(CATALOG);
+		StreamingSchema fallback = streaming("{\"type\":\"array\",\"uniqueItems\":true}");
+
+		assertThrows(IllegalArgumentException.class, () -> streaming.validate(bytes("{}"), 0));
+		assertThrows(IllegalArgumentException.class,
+				() -> streaming.validate(new ByteArrayInputStream(bytes("{}")), -1));
+		assertThrows(IllegalArgumentException.class, () -> fallback.validate(bytes("[1,1]"), 0));
+	}
+
+	@Test
+	void fallsBackToTheFullSchemaAndKeepsTheCap() {
+		String schema = "{\"type\":\"array\",\"uniqueItems\":true,\"items\":{\"type\":\"integer\"}}";
+		StreamingSchema streaming = streaming(schema);
+
+		assertFalse(streaming.isStreamable());
+		assertEquals(2, streaming.validate(bytes("[\"a\",\"b\",\"c\"]"), 2).size());
+		assertTrue(streaming.validate(bytes("[1,2,3]"), 2).isEmpty());
+	}
+
+	@Test
+	void validatesStreamsLikeBytes() {
+		String json = "{\"books\":[{\"pages\":\"x\"},{\"pages\":2},{\"pages\":\"y\"}],\"extra\":1}";
+		StreamingSchema streaming = streaming(CATALOG);
+
+		assertTrue(streaming.isStreamable());
+		assertEquals(streaming.validate(bytes(json), 10),
+				streaming.validate(new ByteArrayInputStream(bytes(json)), 10));
+		assertEquals(3, streaming.validate(new ByteArrayInputStream(bytes(json)), 10).size());
+	}
+
+	/**
+	 * Compara só os trechos ASCII da mensagem, já que o pom não define a
+	 * codificação dos fontes.
+	 */
+	private static void assertViolation(String prefix, String text, List<String> violations) {
+		assertEquals(1, violations.size(), violations.toString());
+		assertTrue(violations.get(0).startsWith(prefix) && violations.get(0).contains(text), violations.get(0));
+	}
+
+	private static List<String> validate(String schema, String json, int maxViolations) {
+		StreamingSchema streaming = streaming(schema);
+		assertTrue(streaming.isStreamable());
+		return streaming.validate(bytes(json), maxViolations);
+	}
+
+	private static StreamingSchema streaming(String schema) {
+		try {
+			JsonNode node = MAPPER.readTree(schema);
+			return new StreamingSchema(node, ENGINE, ENGINE.compile(node));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static byte[] bytes(String json) {
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+}